@@ -0,0 +1,230 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import com.google.errorprone.annotations.MustBeClosed;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A {@link ReaderFactory} that reads the content of another factory only once. When the content is requested for the
+ * first time, the wrapped factory is opened and its content is decoded into a shared buffer. All readers, streams, and
+ * documents are created from this buffer afterwards. So the resource is opened and decoded (and its charset is
+ * detected) only once, even if several parsers or several passes of a single parser read the content.
+ * <p>
+ * Small contents are kept in memory. If the content exceeds {@link #MAXIMUM_IN_MEMORY_SIZE} characters, then the
+ * decoded characters are spooled to a temporary file that is mapped into memory. This factory must be closed to delete
+ * this file. Note that the mapped segments are unmapped by the garbage collector only, so the file might still be in
+ * use when the factory is closed (e.g. on Windows): then the file will be deleted when the JVM terminates.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class CachingReaderFactory extends ReaderFactory implements Closeable {
+    /** Maximum number of characters that are kept in memory. */
+    static final int MAXIMUM_IN_MEMORY_SIZE = 1 << 23;
+    /** Maximum number of characters of a single mapped region of the spool file. */
+    static final int SEGMENT_SIZE = 1 << 28;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ReaderFactory delegate;
+    private final int maximumInMemorySize;
+    private final int segmentSize;
+
+    @Nullable
+    private List<CharBuffer> segments;
+    @Nullable
+    private Path spoolFile;
+
+    /**
+     * Creates a new instance of {@link CachingReaderFactory}.
+     *
+     * @param delegate
+     *         the factory that provides the content
+     */
+    public CachingReaderFactory(final ReaderFactory delegate) {
+        this(delegate, MAXIMUM_IN_MEMORY_SIZE, SEGMENT_SIZE);
+    }
+
+    CachingReaderFactory(final ReaderFactory delegate, final int maximumInMemorySize, final int segmentSize) {
+        super(delegate.getCharset(), delegate.getLineMapper());
+
+        this.delegate = delegate;
+        this.maximumInMemorySize = maximumInMemorySize;
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public String getFileName() {
+        return delegate.getFileName();
+    }
+
+    /**
+     * Returns the character set of the wrapped factory. Since the charset might be detected when the content is read,
+     * the content will be read if it has not been read yet.
+     *
+     * @return the character set
+     */
+    @Override
+    public Charset getCharset() {
+        getSegments();
+
+        return delegate.getCharset();
+    }
+
+    @Override @MustBeClosed
+    public Reader create() {
+        return new SegmentReader(getSegments());
+    }
+
+    private synchronized List<CharBuffer> getSegments() {
+        if (segments == null) {
+            segments = read();
+        }
+        return segments;
+    }
+
+    private List<CharBuffer> read() {
+        try (Reader reader = delegate.create()) {
+            char[] content = new char[Math.min(BUFFER_SIZE, maximumInMemorySize)];
+            int length = 0;
+            while (true) {
+                if (length == content.length) {
+                    if (length >= maximumInMemorySize) {
+                        return spool(reader, content, length);
+                    }
+                    content = Arrays.copyOf(content, Math.min(length * 2, maximumInMemorySize));
+                }
+                int read = reader.read(content, length, content.length - length);
+                if (read < 0) {
+                    return Collections.singletonList(CharBuffer.wrap(content, 0, length));
+                }
+                length += read;
+            }
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception, "Can't read file '%s'", getFileName());
+        }
+    }
+
+    /**
+     * Writes the characters that have been read so far and the remaining content of the reader to the spool file. The
+     * characters are stored in native byte order so that the mapped file can be used as {@link CharBuffer} directly.
+     */
+    private List<CharBuffer> spool(final Reader reader, final char[] content, final int length) throws IOException {
+        Path file = Files.createTempFile("content", ".spool");
+        spoolFile = file;
+
+        long size = length;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE * 2).order(ByteOrder.nativeOrder());
+            write(channel, bytes, content, length);
+
+            int read;
+            while ((read = reader.read(content, 0, content.length)) >= 0) {
+                write(channel, bytes, content, read);
+                size += read;
+            }
+        }
+
+        List<CharBuffer> mapped = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (long start = 0; start < size; start += segmentSize) {
+                long count = Math.min(segmentSize, size - start);
+                mapped.add(channel.map(MapMode.READ_ONLY, start * 2, count * 2)
+                        .order(ByteOrder.nativeOrder())
+                        .asCharBuffer());
+            }
+        }
+        return mapped;
+    }
+
+    private static void write(final FileChannel channel, final ByteBuffer bytes, final char[] characters,
+            final int length) throws IOException {
+        int offset = 0;
+        while (offset < length) {
+            int count = Math.min(length - offset, bytes.capacity() / 2);
+            bytes.clear();
+            bytes.asCharBuffer().put(characters, offset, count);
+            bytes.limit(count * 2);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            offset += count;
+        }
+    }
+
+    /**
+     * Releases the shared buffer and deletes the spool file. If the spool file cannot be deleted yet, since its mapped
+     * segments have not been released by the garbage collector, then the file will be deleted when the JVM terminates.
+     * If this factory is used again, then the content will be read again from the wrapped factory.
+     */
+    @Override
+    public synchronized void close() {
+        segments = null; // drop the references to the mapped segments before the file is deleted
+        if (spoolFile != null) {
+            delete(spoolFile);
+            spoolFile = null;
+        }
+    }
+
+    private static void delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException exception) {
+            file.toFile().deleteOnExit(); // the file is still mapped
+        }
+    }
+
+    /**
+     * A {@link Reader} that reads the characters of the shared segments. Each reader uses its own view of the segments.
+     */
+    private static final class SegmentReader extends Reader {
+        private final Iterator<CharBuffer> remaining;
+        private CharBuffer current = CharBuffer.allocate(0);
+
+        SegmentReader(final List<CharBuffer> segments) {
+            super();
+
+            remaining = segments.iterator();
+        }
+
+        @Override
+        public int read(final char[] target, final int offset, final int length) {
+            if (length == 0) {
+                return 0;
+            }
+            while (!current.hasRemaining()) {
+                if (!remaining.hasNext()) {
+                    return -1;
+                }
+                current = remaining.next().duplicate();
+            }
+            int count = Math.min(length, current.remaining());
+            current.get(target, offset, count);
+            return count;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close, the segments are shared
+        }
+    }
+}
@@ -28,8 +28,13 @@ public class FileReaderFactory extends ReaderFactory {
     private final Path file;
     private final String fileName;
     @Nullable
-    private Charset charset;
-    private final boolean isCharsetUndetected;
+    private volatile Charset charset;
+    /**
+     * Determines whether the charset still needs to be detected when the next reader is created. Readers might be
+     * created concurrently: the detected charset is written before this flag is reset, so a reader never sees an
+     * outdated charset.
+     */
+    private volatile boolean isCharsetUndetected;
 
     /**
      * Creates a new factory to read the specified file with a given charset.
@@ -63,6 +68,7 @@ public class FileReaderFactory extends ReaderFactory {
         try {
             if (isCharsetUndetected) {
                 charset = detectCharset(Files.newInputStream(file));
+                isCharsetUndetected = false;
             }
             InputStream inputStream = Files.newInputStream(file);
 
@@ -104,9 +110,10 @@ public class FileReaderFactory extends ReaderFactory {
 
     @Override
     public Charset getCharset() {
-        if (charset == null) {
+        Charset detected = charset;
+        if (detected == null) {
             return super.getCharset();
         }
-        return charset;
+        return detected;
     }
 }
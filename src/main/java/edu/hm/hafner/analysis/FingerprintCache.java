@@ -0,0 +1,326 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Caches the fingerprints of source files so that unchanged files do not need to be read again. A cached fingerprint is
+ * identified by the absolute path of the file, the size and the modification time of the file, the charset that has
+ * been used to read the file, and the affected line. If a file has been changed, then all cached fingerprints of that
+ * file are discarded.
+ * <p>
+ * The number of cached fingerprints is limited: if this limit is exceeded, then the fingerprints of the least recently
+ * used files are evicted. The cache can be stored in a compact binary file and restored in a subsequent build.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class FingerprintCache {
+    private static final int MAGIC_NUMBER = 0x46504331; // FPC1
+
+    private final int maximumSize;
+    private final Map<String, CachedFile> filesByPath = new LinkedHashMap<>(16, 0.75f, true);
+    private int size = 0;
+
+    /**
+     * Creates a new empty {@link FingerprintCache}.
+     *
+     * @param maximumSize
+     *         the maximum number of fingerprints to cache, use 0 to disable the cache
+     */
+    public FingerprintCache(final int maximumSize) {
+        this.maximumSize = Math.max(maximumSize, 0);
+    }
+
+    /**
+     * Reads a {@link FingerprintCache} from the specified file. If the file does not exist or is not a valid cache
+     * file, then an empty cache is returned.
+     *
+     * @param file
+     *         the file to read the cache from
+     * @param maximumSize
+     *         the maximum number of fingerprints to cache
+     *
+     * @return the cache
+     */
+    public static FingerprintCache read(final Path file, final int maximumSize) {
+        FingerprintCache cache = new FingerprintCache(maximumSize);
+        if (Files.isReadable(file)) {
+            try (InputStream stream = Files.newInputStream(file)) {
+                cache.read(stream);
+            }
+            catch (IOException | IllegalArgumentException exception) {
+                cache.clear(); // ignore a corrupt cache, it will be overwritten
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Writes this cache to the specified file. The file will be replaced atomically if supported by the file system.
+     *
+     * @param file
+     *         the file to write the cache to
+     *
+     * @throws IOException
+     *         if the file could not be written
+     */
+    public void write(final Path file) throws IOException {
+        Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), "fingerprints", ".tmp");
+        try {
+            try (OutputStream stream = Files.newOutputStream(temporary)) {
+                write(stream);
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    synchronized void read(final InputStream stream) throws IOException {
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(stream)))) {
+            if (input.readInt() != MAGIC_NUMBER) {
+                throw new IllegalArgumentException("Not a valid fingerprint cache file");
+            }
+            int files = input.readInt();
+            for (int file = 0; file < files; file++) {
+                FileVersion version = new FileVersion(input.readUTF(), input.readLong(), input.readLong(),
+                        input.readUTF());
+                int lines = input.readInt();
+                Map<Integer, String> fingerprints = new HashMap<>();
+                for (int line = 0; line < lines; line++) {
+                    fingerprints.put(input.readInt(), input.readUTF());
+                }
+                put(version, fingerprints);
+            }
+        }
+    }
+
+    synchronized void write(final OutputStream stream) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(new GZIPOutputStream(stream)))) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(filesByPath.size());
+            for (CachedFile file : filesByPath.values()) {
+                FileVersion version = file.getVersion();
+                output.writeUTF(version.getAbsolutePath());
+                output.writeLong(version.getSize());
+                output.writeLong(version.getLastModified());
+                output.writeUTF(version.getCharset());
+                output.writeInt(file.getFingerprints().size());
+                for (Entry<Integer, String> fingerprint : file.getFingerprints().entrySet()) {
+                    output.writeInt(fingerprint.getKey());
+                    output.writeUTF(fingerprint.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether this cache is enabled, i.e. whether it can store fingerprints.
+     *
+     * @return {@code true} if this cache is enabled, {@code false} otherwise
+     */
+    public boolean isEnabled() {
+        return maximumSize > 0;
+    }
+
+    /**
+     * Returns the number of cached fingerprints.
+     *
+     * @return the number of cached fingerprints
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Removes all fingerprints from this cache.
+     */
+    public synchronized void clear() {
+        filesByPath.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the current version of the specified file.
+     *
+     * @param absolutePath
+     *         the absolute path of the file
+     * @param charset
+     *         the charset that is used to read the file
+     *
+     * @return the version of the file, or {@code null} if the file attributes could not be read
+     */
+    @Nullable
+    FileVersion getVersion(final String absolutePath, final Charset charset) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(Paths.get(absolutePath), BasicFileAttributes.class);
+            return new FileVersion(absolutePath, attributes.size(), attributes.lastModifiedTime().toMillis(),
+                    charset.name());
+        }
+        catch (IOException | InvalidPathException | UnsupportedOperationException | SecurityException ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the cached fingerprints of the specified version of a file.
+     *
+     * @param version
+     *         the version of the file
+     *
+     * @return a modifiable copy of the mapping of: affected line to fingerprint, empty if the version of the file is
+     *         not cached
+     */
+    synchronized Map<Integer, String> get(final FileVersion version) {
+        CachedFile file = filesByPath.get(version.getAbsolutePath());
+        if (file == null || !file.getVersion().equals(version)) {
+            return new HashMap<>();
+        }
+        return new HashMap<>(file.getFingerprints());
+    }
+
+    /**
+     * Stores the fingerprints of the specified version of a file. Fingerprints of other versions of the same file are
+     * discarded.
+     *
+     * @param version
+     *         the version of the file
+     * @param fingerprints
+     *         a mapping of: affected line to fingerprint
+     */
+    synchronized void put(final FileVersion version, final Map<Integer, String> fingerprints) {
+        if (!isEnabled() || fingerprints.isEmpty()) {
+            return;
+        }
+
+        CachedFile file = filesByPath.get(version.getAbsolutePath());
+        if (file == null || !file.getVersion().equals(version)) {
+            if (file != null) {
+                size -= file.getFingerprints().size();
+            }
+            file = new CachedFile(version);
+            filesByPath.put(version.getAbsolutePath(), file);
+        }
+        int previousSize = file.getFingerprints().size();
+        file.getFingerprints().putAll(fingerprints);
+        size += file.getFingerprints().size() - previousSize;
+
+        evictLeastRecentlyUsedFiles();
+    }
+
+    private void evictLeastRecentlyUsedFiles() {
+        Iterator<CachedFile> files = filesByPath.values().iterator();
+        while (size > maximumSize && files.hasNext()) {
+            size -= files.next().getFingerprints().size();
+            files.remove();
+        }
+    }
+
+    /**
+     * Identifies the content of a source file by its absolute path, size, modification time, and charset.
+     */
+    static final class FileVersion {
+        private final String absolutePath;
+        private final long size;
+        private final long lastModified;
+        private final String charset;
+
+        FileVersion(final String absolutePath, final long size, final long lastModified, final String charset) {
+            this.absolutePath = absolutePath;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.charset = charset;
+        }
+
+        String getAbsolutePath() {
+            return absolutePath;
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        long getLastModified() {
+            return lastModified;
+        }
+
+        String getCharset() {
+            return charset;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            FileVersion that = (FileVersion) o;
+            return size == that.size
+                    && lastModified == that.lastModified
+                    && absolutePath.equals(that.absolutePath)
+                    && charset.equals(that.charset);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(absolutePath, size, lastModified, charset);
+        }
+    }
+
+    /**
+     * The cached fingerprints of a specific version of a file.
+     */
+    private static class CachedFile {
+        private final FileVersion version;
+        private final Map<Integer, String> fingerprints = new HashMap<>();
+
+        CachedFile(final FileVersion version) {
+            this.version = version;
+        }
+
+        FileVersion getVersion() {
+            return version;
+        }
+
+        Map<Integer, String> getFingerprints() {
+            return fingerprints;
+        }
+    }
+}
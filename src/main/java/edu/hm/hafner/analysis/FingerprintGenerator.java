@@ -6,10 +6,21 @@ import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.file.InvalidPathException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
+import edu.hm.hafner.analysis.FingerprintCache.FileVersion;
 import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * Creates fingerprints for a set of issues.
@@ -17,8 +28,31 @@ import edu.hm.hafner.util.VisibleForTesting;
  * @author Ullrich Hafner
  */
 public class FingerprintGenerator {
+    private final FingerprintCache cache;
+
+    /**
+     * Creates a new instance of {@link FingerprintGenerator} that does not cache fingerprints.
+     */
+    public FingerprintGenerator() {
+        this(new FingerprintCache(0));
+    }
+
+    /**
+     * Creates a new instance of {@link FingerprintGenerator}. When creating fingerprints in batch mode, the fingerprints
+     * of unchanged source files will be obtained from the specified cache.
+     *
+     * @param cache
+     *         the cache of fingerprints, new fingerprints will be added to this cache
+     */
+    public FingerprintGenerator(final FingerprintCache cache) {
+        this.cache = cache;
+    }
+
     /**
-     * Creates fingerprints for the specified set of issues.
+     * Creates fingerprints for the specified set of issues. If this generator has been created with an enabled
+     * {@link FingerprintCache}, then the issues are fingerprinted in batch mode (see
+     * {@link #runBatched(FullTextFingerprint, Report, Charset)}) so that the fingerprints of unchanged source files are
+     * obtained from the cache.
      *
      * @param algorithm
      *         fingerprinting algorithm
@@ -28,6 +62,12 @@ public class FingerprintGenerator {
      *         the character set to use when reading the source files
      */
     public void run(final FullTextFingerprint algorithm, final Report report, final Charset charset) {
+        if (cache.isEnabled()) {
+            runBatched(algorithm, report, charset);
+
+            return;
+        }
+
         FilteredLog log = new FilteredLog(report, "Can't create fingerprints for some files:");
         int sum = 0;
         for (Issue issue : report) {
@@ -39,6 +79,115 @@ public class FingerprintGenerator {
         log.logSummary();
     }
 
+    /**
+     * Creates fingerprints for the specified set of issues. In contrast to {@link #run(FullTextFingerprint, Report,
+     * Charset)} the issues are grouped by their affected files so that every file is read only once. Files that have
+     * not been changed since their fingerprints have been cached are not read at all. The created fingerprints are
+     * identical to the fingerprints of the single issue mode.
+     *
+     * @param algorithm
+     *         fingerprinting algorithm
+     * @param report
+     *         the issues to analyze
+     * @param charset
+     *         the character set to use when reading the source files
+     */
+    public void runBatched(final FullTextFingerprint algorithm, final Report report, final Charset charset) {
+        runBatched(algorithm, report, charset, Runnable::run);
+    }
+
+    /**
+     * Creates fingerprints for the specified set of issues. The issues are grouped by their affected files, the files
+     * are read in parallel using the specified {@link Executor}. Every file is read only once. The fingerprints and
+     * the logged messages do not depend on the order in which the files have been processed.
+     *
+     * @param algorithm
+     *         fingerprinting algorithm
+     * @param report
+     *         the issues to analyze
+     * @param charset
+     *         the character set to use when reading the source files
+     * @param executor
+     *         the executor that reads the files and computes the fingerprints
+     */
+    public void runBatched(final FullTextFingerprint algorithm, final Report report, final Charset charset,
+            final Executor executor) {
+        Map<String, List<Issue>> issuesByFile = groupByAbsolutePath(report);
+
+        List<CompletableFuture<FileFingerprints>> results = issuesByFile.entrySet().stream()
+                .map(issuesOfFile -> CompletableFuture.supplyAsync(
+                        () -> readFingerprints(issuesOfFile.getKey(), issuesOfFile.getValue(), algorithm, charset),
+                        executor))
+                .collect(Collectors.toList());
+
+        FilteredLog log = new FilteredLog(report, "Can't create fingerprints for some files:");
+        int sum = 0;
+        int position = 0;
+        for (List<Issue> issues : issuesByFile.values()) {
+            sum += setFingerprints(issues, results.get(position).join(), charset, log);
+            position++;
+        }
+        report.logInfo("-> created fingerprints for %d issues (skipped %d issues)", sum, report.size() - sum);
+        log.logSummary();
+    }
+
+    private Map<String, List<Issue>> groupByAbsolutePath(final Report report) {
+        Map<String, List<Issue>> issuesByFile = new LinkedHashMap<>();
+        for (Issue issue : report) {
+            if (!issue.hasFingerprint()) {
+                if (issue.hasFileName()) {
+                    issuesByFile.computeIfAbsent(issue.getAbsolutePath(), key -> new ArrayList<>()).add(issue);
+                }
+                else {
+                    issue.setFingerprint(createDefaultFingerprint(issue));
+                }
+            }
+        }
+        return issuesByFile;
+    }
+
+    private FileFingerprints readFingerprints(final String absolutePath, final List<Issue> issues,
+            final FullTextFingerprint algorithm, final Charset charset) {
+        try {
+            Set<Integer> lines = issues.stream().map(Issue::getLineStart).collect(Collectors.toSet());
+
+            FileVersion version = cache.isEnabled() ? cache.getVersion(absolutePath, charset) : null;
+            if (version == null) {
+                return new FileFingerprints(absolutePath, algorithm.compute(absolutePath, lines, charset));
+            }
+
+            Map<Integer, String> fingerprints = cache.get(version);
+            lines.removeAll(fingerprints.keySet());
+            if (!lines.isEmpty()) {
+                Map<Integer, String> computed = algorithm.compute(absolutePath, lines, charset);
+                cache.put(version, computed);
+                fingerprints.putAll(computed);
+            }
+            return new FileFingerprints(absolutePath, fingerprints);
+        }
+        catch (IOException | InvalidPathException | UncheckedIOException exception) {
+            return new FileFingerprints(absolutePath, exception);
+        }
+    }
+
+    private int setFingerprints(final List<Issue> issues, final FileFingerprints fileFingerprints,
+            final Charset charset, final FilteredLog log) {
+        Exception exception = fileFingerprints.getException();
+        if (exception != null) {
+            logException(fileFingerprints.getAbsolutePath(), exception, charset, log);
+            for (Issue issue : issues) {
+                issue.setFingerprint(createDefaultFingerprint(issue));
+            }
+            return 0;
+        }
+
+        Map<Integer, String> fingerprints = fileFingerprints.getFingerprints();
+        for (Issue issue : issues) {
+            issue.setFingerprint(fingerprints.get(issue.getLineStart()));
+        }
+        return issues.size();
+    }
+
     private int computeFingerprint(final Issue issue, final FullTextFingerprint algorithm, final Charset charset,
             final FilteredLog log) {
         String absolutePath = issue.getAbsolutePath();
@@ -49,21 +198,62 @@ public class FingerprintGenerator {
                 return 1;
             }
         }
-        catch (FileNotFoundException exception) {
-            log.logError("- '%s' file not found", absolutePath);
-        }
         catch (IOException | InvalidPathException | UncheckedIOException exception) {
-            if (exception.getCause() instanceof MalformedInputException) {
-                log.logError("- '%s', provided encoding '%s' seems to be wrong", absolutePath, charset);
-            }
-            else {
-                log.logError("- '%s', IO exception has been thrown: %s", absolutePath, exception);
-            }
+            logException(absolutePath, exception, charset, log);
         }
         issue.setFingerprint(createDefaultFingerprint(issue));
         return 0;
     }
 
+    private void logException(final String absolutePath, final Exception exception, final Charset charset,
+            final FilteredLog log) {
+        if (exception instanceof FileNotFoundException) {
+            log.logError("- '%s' file not found", absolutePath);
+        }
+        else if (exception.getCause() instanceof MalformedInputException) {
+            log.logError("- '%s', provided encoding '%s' seems to be wrong", absolutePath, charset);
+        }
+        else {
+            log.logError("- '%s', IO exception has been thrown: %s", absolutePath, exception);
+        }
+    }
+
+    /**
+     * The result of fingerprinting the issues of a single file: either the fingerprints of the affected lines or the
+     * exception that has been thrown while reading the file.
+     */
+    private static class FileFingerprints {
+        private final String absolutePath;
+        private final Map<Integer, String> fingerprints;
+        @Nullable
+        private final Exception exception;
+
+        FileFingerprints(final String absolutePath, final Map<Integer, String> fingerprints) {
+            this.absolutePath = absolutePath;
+            this.fingerprints = fingerprints;
+            this.exception = null;
+        }
+
+        FileFingerprints(final String absolutePath, final Exception exception) {
+            this.absolutePath = absolutePath;
+            this.fingerprints = Collections.emptyMap();
+            this.exception = exception;
+        }
+
+        String getAbsolutePath() {
+            return absolutePath;
+        }
+
+        Map<Integer, String> getFingerprints() {
+            return fingerprints;
+        }
+
+        @Nullable
+        Exception getException() {
+            return exception;
+        }
+    }
+
     @VisibleForTesting
     static String createDefaultFingerprint(final Issue issue) {
         HashCodeBuilder builder = new HashCodeBuilder();
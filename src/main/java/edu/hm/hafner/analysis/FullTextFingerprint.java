@@ -7,8 +7,16 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -21,6 +29,10 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 /**
  * Creates a fingerprint of the specified issue using the source code at the affected line. The fingerprint is computed
  * using the 1:1 content of a small number of lines before and after the affected line (see {@link #LINES_LOOK_AHEAD}).
+ * <p>
+ * This class is thread safe: every thread uses its own {@link MessageDigest} instance. So the same instance can be used
+ * to create the fingerprints of different files in parallel.
+ * </p>
  *
  * @author Ullrich Hafner
  */
@@ -31,7 +43,7 @@ public class FullTextFingerprint {
     private static final char[] HEX_CHARACTERS = "0123456789ABCDEF".toCharArray();
 
     @SuppressWarnings("PMD.AvoidMessageDigestField")
-    private final MessageDigest digest;
+    private final ThreadLocal<MessageDigest> digest = ThreadLocal.withInitial(FullTextFingerprint::createDigest);
     private final FileSystem fileSystem;
 
     /**
@@ -42,11 +54,14 @@ public class FullTextFingerprint {
     }
 
     @VisibleForTesting
-    @SuppressFBWarnings(value = "WEAK_MESSAGE_DIGEST_MD5", justification = "The fingerprint is just used to track new warnings")
     FullTextFingerprint(final FileSystem fileSystem) {
         this.fileSystem = fileSystem;
+    }
+
+    @SuppressFBWarnings(value = "WEAK_MESSAGE_DIGEST_MD5", justification = "The fingerprint is just used to track new warnings")
+    private static MessageDigest createDigest() {
         try {
-            digest = MessageDigest.getInstance("MD5");
+            return MessageDigest.getInstance("MD5");
         }
         catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException(e);
@@ -76,6 +91,39 @@ public class FullTextFingerprint {
         }
     }
 
+    /**
+     * Creates fingerprints for several issues in the same file using the source code at the affected lines. The file is
+     * read only once: the lines are processed in a single forward pass that collects the context of all affected lines.
+     * The fingerprint of each affected line is identical to the fingerprint that {@link #compute(String, int,
+     * Charset)} creates for the same line.
+     *
+     * @param fileName
+     *         the absolute path of the affected file
+     * @param lines
+     *         the lines of the issues
+     * @param charset
+     *         the encoding to be used when reading the affected file
+     *
+     * @return a mapping of: affected line to the fingerprint of the selected range of source code lines
+     * @throws IOException
+     *         if the file could not be read
+     */
+    public Map<Integer, String> compute(final String fileName, final Collection<Integer> lines,
+            final Charset charset) throws IOException {
+        try (Stream<String> content = fileSystem.readLinesFromFile(fileName, charset)) {
+            return createFingerprints(lines, content.iterator(), charset);
+        }
+    }
+
+    @VisibleForTesting
+    Map<Integer, String> createFingerprints(final Collection<Integer> lines, final Iterator<String> content,
+            final Charset charset) {
+        Map<Integer, String> fingerprints = new HashMap<>();
+        extractContexts(lines, content).forEach(
+                (line, context) -> fingerprints.put(line, createFingerprint(context, charset)));
+        return fingerprints;
+    }
+
     @VisibleForTesting
     String getFallbackFingerprint(final String fileName) {
         return String.format("%x", fileName.hashCode());
@@ -85,9 +133,15 @@ public class FullTextFingerprint {
     String createFingerprint(final int line, final Stream<String> lines, final Charset charset) {
         String context = extractContext(line, lines.iterator());
         lines.close();
-        digest.update(context.getBytes(charset));
 
-        return asHex(digest.digest()).toUpperCase(Locale.ENGLISH);
+        return createFingerprint(context, charset);
+    }
+
+    private String createFingerprint(final String context, final Charset charset) {
+        MessageDigest threadDigest = digest.get();
+        threadDigest.update(context.getBytes(charset));
+
+        return asHex(threadDigest.digest()).toUpperCase(Locale.ENGLISH);
     }
 
     private String asHex(final byte[] bytes) {
@@ -120,6 +174,54 @@ public class FullTextFingerprint {
         return context.toString();
     }
 
+    /**
+     * Extracts the context of all specified lines in a single pass over the lines of the file. The extracted context of
+     * each line is the same as the result of {@link #extractContext(int, Iterator)}.
+     *
+     * @param affectedLines
+     *         the affected lines
+     * @param lines
+     *         the lines of the file
+     *
+     * @return a mapping of: affected line to context
+     */
+    @VisibleForTesting
+    Map<Integer, String> extractContexts(final Collection<Integer> affectedLines, final Iterator<String> lines) {
+        Map<Integer, String> contexts = new HashMap<>();
+
+        SortedMap<Integer, ContextWindow> windowsByStart = new TreeMap<>();
+        for (int affectedLine : affectedLines) {
+            if (affectedLine < 0) {
+                contexts.put(affectedLine, StringUtils.EMPTY);
+            }
+            else {
+                windowsByStart.computeIfAbsent(computeStartLine(affectedLine), ContextWindow::new)
+                        .addAffectedLine(affectedLine);
+            }
+        }
+
+        Iterator<Entry<Integer, ContextWindow>> pending = windowsByStart.entrySet().iterator();
+        ContextWindow next = pending.hasNext() ? pending.next().getValue() : null;
+        List<ContextWindow> active = new ArrayList<>();
+        for (int line = 1; lines.hasNext() && (next != null || !active.isEmpty()); line++) {
+            String content = lines.next();
+            while (next != null && next.getFirstLine() <= line) {
+                active.add(next);
+                next = pending.hasNext() ? pending.next().getValue() : null;
+            }
+            for (ContextWindow window : active) {
+                window.append(content);
+            }
+            int currentLine = line;
+            active.removeIf(window -> window.isComplete(currentLine));
+        }
+
+        for (ContextWindow window : windowsByStart.values()) {
+            window.addTo(contexts);
+        }
+        return contexts;
+    }
+
     private int computeStartLine(final int affectedLine) {
         if (affectedLine == 0) { // indicates the whole file
             return LINES_LOOK_AHEAD + 1;
@@ -129,6 +231,43 @@ public class FullTextFingerprint {
         }
     }
 
+    /**
+     * The context of an affected line: the affected line and a small number of lines before and after this line. Issues
+     * at different lines may share the same context (an affected line of 0 indicates the whole file).
+     */
+    private static class ContextWindow {
+        private final int start;
+        private final List<Integer> affectedLines = new ArrayList<>();
+        private final StringBuilder context = new StringBuilder(LINE_RANGE_BUFFER_SIZE);
+
+        ContextWindow(final int start) {
+            this.start = start;
+        }
+
+        void addAffectedLine(final int line) {
+            affectedLines.add(line);
+        }
+
+        int getFirstLine() {
+            return start - LINES_LOOK_AHEAD;
+        }
+
+        void append(final String line) {
+            context.append(line);
+        }
+
+        boolean isComplete(final int line) {
+            return line >= start + LINES_LOOK_AHEAD;
+        }
+
+        void addTo(final Map<Integer, String> contexts) {
+            String text = context.toString();
+            for (Integer line : affectedLines) {
+                contexts.put(line, text);
+            }
+        }
+    }
+
     /**
      * Facade for file system operations. May be replaced by stubs in test cases.
      */
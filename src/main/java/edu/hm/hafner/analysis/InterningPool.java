@@ -0,0 +1,376 @@
+package edu.hm.hafner.analysis;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import edu.hm.hafner.util.TreeString;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A pool of canonical string instances that can be shared by all {@link IssueBuilder builders} of a JVM. Equal file
+ * names, package names, messages, etc. of different reports (and of different parsers) are mapped to the same instance
+ * so that each distinct value is stored only once in memory.
+ * <p>
+ * Additionally, the pool contains a dictionary of the file names of issues: each distinct file name is mapped to a
+ * {@link PathEntry} that caches the values derived from the file name (folder, base name, and absolute path). The
+ * entries of the files of a folder share the entry of the folder, so common path prefixes are stored only once.
+ * Messages and package names are stored in a similar dictionary of {@link TextEntry text entries} that share the
+ * prefixes up to a separator (e.g. the segments of a package name).
+ * </p>
+ * <p>
+ * The pool holds its values using weak references only: an instance will be removed from the pool as soon as it is no
+ * longer referenced by any issue. The pool is split into several segments that are locked independently, so it can be
+ * used by several parsers in parallel.
+ * </p>
+ * <p>
+ * The pool counts the number of hits and misses so that the effectiveness of the pool can be monitored.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class InterningPool {
+    private static final InterningPool SHARED = new InterningPool();
+
+    private static final int SEGMENTS = 16;
+    private static final int SEGMENT_SHIFT = 28;
+    /** Texts with more separators are not split, so that the depth of the text dictionary is bounded. */
+    private static final int MAX_TEXT_SEPARATORS = 16;
+
+    private final WeakTable<String> strings = new WeakTable<>(Function.identity(), String::equals);
+    private final WeakTable<TreeString> treeStrings = new WeakTable<>(TreeString::valueOf,
+            (treeString, value) -> value.equals(treeString.toString()));
+    private final WeakTable<PathEntry> paths = new WeakTable<>(this::createPath, PathEntry::hasName);
+    private final WeakTable<TextEntry> texts = new WeakTable<>(this::createText, TextEntry::hasName);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Returns the pool that is shared by all builders of this JVM.
+     *
+     * @return the shared pool
+     */
+    public static InterningPool getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns a canonical representation for the specified string. Equal strings will be mapped to the same instance,
+     * as long as this instance is still referenced somewhere else.
+     *
+     * @param value
+     *         the string to intern
+     *
+     * @return the canonical instance of the string
+     */
+    public String intern(final String value) {
+        return strings.intern(value);
+    }
+
+    /**
+     * Returns a canonical {@link TreeString} for the specified string. Equal strings will be mapped to the same
+     * instance, as long as this instance is still referenced somewhere else.
+     *
+     * @param value
+     *         the string to intern
+     *
+     * @return the canonical tree string
+     */
+    public TreeString internTreeString(final String value) {
+        return treeStrings.intern(value);
+    }
+
+    /**
+     * Returns the canonical {@link PathEntry} of the specified file name. Equal file names will be mapped to the same
+     * entry, as long as this entry is still referenced somewhere else.
+     *
+     * @param fileName
+     *         the file name
+     *
+     * @return the canonical entry of the file name
+     */
+    PathEntry internPath(final String fileName) {
+        return paths.intern(fileName);
+    }
+
+    /**
+     * Creates the entry of the specified file name. The entry references the canonical entry of its parent folder
+     * (including the trailing separator), so that all files and folders of a folder share the same parent entry.
+     */
+    private PathEntry createPath(final String fileName) {
+        int separator = fileName.lastIndexOf('/', fileName.length() - 2);
+        if (separator < 0) {
+            return new PathEntry(null, intern(fileName), fileName.hashCode());
+        }
+        return new PathEntry(internPath(fileName.substring(0, separator + 1)),
+                intern(fileName.substring(separator + 1)), fileName.hashCode());
+    }
+
+    /**
+     * Returns the canonical {@link TextEntry} of the specified message or package name. Equal texts will be mapped to
+     * the same entry, as long as this entry is still referenced somewhere else.
+     *
+     * @param text
+     *         the message or package name
+     *
+     * @return the canonical entry of the text
+     */
+    TextEntry internText(final String text) {
+        return texts.intern(text);
+    }
+
+    /**
+     * Creates the entry of the specified text. The entry references the canonical entry of the prefix up to the last
+     * separator (including the separator), so that all texts with the same prefix share the same parent entry.
+     */
+    private TextEntry createText(final String text) {
+        int separator = findLastSeparator(text);
+        if (separator < 0) {
+            return new TextEntry(null, intern(text), text.hashCode());
+        }
+        return new TextEntry(internText(text.substring(0, separator + 1)),
+                intern(text.substring(separator + 1)), text.hashCode());
+    }
+
+    /**
+     * Returns the position of the last separator of the text that is followed by at least one character. Returns -1
+     * if the text has no such separator or if the text has too many separators to be split.
+     */
+    private int findLastSeparator(final String text) {
+        int last = -1;
+        int count = 0;
+        for (int i = 0; i < text.length() - 1; i++) {
+            if (isTextSeparator(text.charAt(i))) {
+                last = i;
+                count++;
+            }
+        }
+        return count > MAX_TEXT_SEPARATORS ? -1 : last;
+    }
+
+    private boolean isTextSeparator(final char c) {
+        return c == '.' || c == '\'' || c == '"' || c == '`';
+    }
+
+    /**
+     * Returns the number of values that have been found in the pool.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of values that have not been found in the pool and that have been added.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the ratio of the intern requests that have been answered with an already pooled instance.
+     *
+     * @return the hit rate, a value between 0 and 1
+     */
+    public double getHitRate() {
+        long hitCount = getHitCount();
+        long requests = hitCount + getMissCount();
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Returns the number of values in this pool. Note that values that are not referenced anymore are removed lazily,
+     * so the returned size is an upper bound.
+     *
+     * @return the number of pooled values
+     */
+    public int size() {
+        return strings.size() + treeStrings.size() + paths.size() + texts.size();
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * A hash table of weakly referenced values that are looked up by their string representation. The string
+     * representation is not stored in the table, so the table does not keep any value alive. New values are created
+     * outside the lock of the segment, so the factory of a table may intern other values.
+     *
+     * @param <T>
+     *         the type of the values
+     */
+    private final class WeakTable<T> {
+        private final Segment<T>[] segments;
+        private final Function<String, T> factory;
+        private final BiPredicate<T, String> matcher;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        WeakTable(final Function<String, T> factory, final BiPredicate<T, String> matcher) {
+            this.factory = factory;
+            this.matcher = matcher;
+
+            segments = new Segment[SEGMENTS];
+            for (int i = 0; i < SEGMENTS; i++) {
+                segments[i] = new Segment<>();
+            }
+        }
+
+        T intern(final String value) {
+            int hash = spread(value.hashCode());
+            Segment<T> segment = segments[(hash >>> SEGMENT_SHIFT) & (SEGMENTS - 1)];
+
+            T pooled = segment.get(value, hash, this);
+            if (pooled != null) {
+                hits.increment();
+
+                return pooled;
+            }
+            return segment.add(value, hash, factory.apply(value), this);
+        }
+
+        int size() {
+            int size = 0;
+            for (Segment<T> segment : segments) {
+                size += segment.size();
+            }
+            return size;
+        }
+
+        private int spread(final int hash) {
+            return hash ^ (hash >>> 16) ^ (hash << 12);
+        }
+    }
+
+    /**
+     * A segment of a {@link WeakTable}. The segment uses chained buckets that are resized when the load factor of 0.75
+     * is exceeded. Entries whose values have been garbage collected are removed on the next access.
+     *
+     * @param <T>
+     *         the type of the values
+     */
+    private final class Segment<T> {
+        private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Entry<T>[] buckets = new Entry[16];
+        private int size;
+
+        @Nullable
+        synchronized T get(final String value, final int hash, final WeakTable<T> table) {
+            removeCollectedEntries();
+
+            return find(value, hash, table);
+        }
+
+        /**
+         * Adds the specified value to this segment. If an equal value has been added by another thread in the
+         * meantime, then the value of the other thread will be returned.
+         */
+        synchronized T add(final String value, final int hash, final T created, final WeakTable<T> table) {
+            T pooled = find(value, hash, table);
+            if (pooled != null) {
+                hits.increment();
+
+                return pooled;
+            }
+
+            misses.increment();
+            int index = hash & (buckets.length - 1);
+            buckets[index] = new Entry<>(created, hash, buckets[index], queue);
+            size++;
+            if (size > buckets.length / 4 * 3) {
+                resize();
+            }
+            return created;
+        }
+
+        @Nullable
+        private T find(final String value, final int hash, final WeakTable<T> table) {
+            for (Entry<T> entry = buckets[hash & (buckets.length - 1)]; entry != null; entry = entry.next) {
+                if (entry.hash == hash) {
+                    T pooled = entry.get();
+                    if (pooled != null && table.matcher.test(pooled, value)) {
+                        return pooled;
+                    }
+                }
+            }
+            return null;
+        }
+
+        synchronized int size() {
+            removeCollectedEntries();
+
+            return size;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void resize() {
+            Entry<T>[] resized = new Entry[buckets.length * 2];
+            for (Entry<T> bucket : buckets) {
+                Entry<T> entry = bucket;
+                while (entry != null) {
+                    Entry<T> next = entry.next;
+                    int index = entry.hash & (resized.length - 1);
+                    entry.next = resized[index];
+                    resized[index] = entry;
+                    entry = next;
+                }
+            }
+            buckets = resized;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void removeCollectedEntries() {
+            for (Object collected = queue.poll(); collected != null; collected = queue.poll()) {
+                remove((Entry<T>) collected);
+            }
+        }
+
+        private void remove(final Entry<T> collected) {
+            int index = collected.hash & (buckets.length - 1);
+            Entry<T> previous = null;
+            for (Entry<T> entry = buckets[index]; entry != null; entry = entry.next) {
+                if (entry == collected) {
+                    if (previous == null) {
+                        buckets[index] = entry.next;
+                    }
+                    else {
+                        previous.next = entry.next;
+                    }
+                    size--;
+                    return;
+                }
+                previous = entry;
+            }
+        }
+    }
+
+    /**
+     * A weak reference to a pooled value that is chained with the other values of the same bucket.
+     *
+     * @param <T>
+     *         the type of the value
+     */
+    private static final class Entry<T> extends WeakReference<T> {
+        private final int hash;
+        @Nullable
+        private Entry<T> next;
+
+        Entry(final T value, final int hash, @Nullable final Entry<T> next, final ReferenceQueue<T> queue) {
+            super(value, queue);
+
+            this.hash = hash;
+            this.next = next;
+        }
+    }
+}
@@ -1,15 +1,24 @@
 package edu.hm.hafner.analysis;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.apache.commons.beanutils.PropertyUtils;
-import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import edu.hm.hafner.analysis.ReportIndex.Property;
+import edu.hm.hafner.analysis.ReportIndex.PropertyFilter;
 import edu.hm.hafner.util.Ensure;
 import edu.hm.hafner.util.PathUtil;
 import edu.hm.hafner.util.TreeString;
@@ -25,10 +34,65 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 public class Issue implements Serializable {
     private static final long serialVersionUID = 1L; // release 1.0.0
 
+    /**
+     * The serialized fields of an issue. The shared attributes are serialized as separate fields, so that the
+     * serialized form is compatible with previous releases.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("columnEnd", int.class),
+            new ObjectStreamField("columnStart", int.class),
+            new ObjectStreamField("lineEnd", int.class),
+            new ObjectStreamField("lineStart", int.class),
+            new ObjectStreamField("additionalProperties", Serializable.class),
+            new ObjectStreamField("category", String.class),
+            new ObjectStreamField("description", String.class),
+            new ObjectStreamField("fileName", TreeString.class),
+            new ObjectStreamField("fingerprint", String.class),
+            new ObjectStreamField("id", UUID.class),
+            new ObjectStreamField("lineRanges", LineRangeList.class),
+            new ObjectStreamField("message", TreeString.class),
+            new ObjectStreamField("moduleName", String.class),
+            new ObjectStreamField("origin", String.class),
+            new ObjectStreamField("packageName", TreeString.class),
+            new ObjectStreamField("pathName", String.class),
+            new ObjectStreamField("reference", String.class),
+            new ObjectStreamField("severity", Severity.class),
+            new ObjectStreamField("type", String.class)
+    };
+
     private static final PathUtil PATH_UTIL = new PathUtil();
+    private static final InterningPool INTERNING_POOL = InterningPool.getShared();
 
     static final String UNDEFINED = "-";
 
+    /** Direct accessors for the properties of an issue, avoids reflection when properties are accessed by name. */
+    private static final Map<String, Function<Issue, Object>> PROPERTY_GETTERS = createPropertyGetters();
+
+    private static Map<String, Function<Issue, Object>> createPropertyGetters() {
+        Map<String, Function<Issue, Object>> getters = new HashMap<>();
+        getters.put("id", Issue::getId);
+        getters.put("fileName", Issue::getFileName);
+        getters.put("folder", Issue::getFolder);
+        getters.put("baseName", Issue::getBaseName);
+        getters.put("absolutePath", Issue::getAbsolutePath);
+        getters.put("path", Issue::getPath);
+        getters.put("category", Issue::getCategory);
+        getters.put("type", Issue::getType);
+        getters.put("severity", Issue::getSeverity);
+        getters.put("message", Issue::getMessage);
+        getters.put("description", Issue::getDescription);
+        getters.put("lineStart", Issue::getLineStart);
+        getters.put("lineEnd", Issue::getLineEnd);
+        getters.put("columnStart", Issue::getColumnStart);
+        getters.put("columnEnd", Issue::getColumnEnd);
+        getters.put("packageName", Issue::getPackageName);
+        getters.put("moduleName", Issue::getModuleName);
+        getters.put("origin", Issue::getOrigin);
+        getters.put("reference", Issue::getReference);
+        getters.put("fingerprint", Issue::getFingerprint);
+        return Collections.unmodifiableMap(getters);
+    }
+
     /**
      * Returns the value of the property with the specified name for a given issue instance.
      *
@@ -40,6 +104,14 @@ public class Issue implements Serializable {
      * @return the function that obtains the value
      */
     public static String getPropertyValueAsString(final Issue issue, final String propertyName) {
+        Function<Issue, Object> getter = PROPERTY_GETTERS.get(propertyName);
+        if (getter != null) {
+            return getter.apply(issue).toString();
+        }
+        return getPropertyValueByReflection(issue, propertyName);
+    }
+
+    private static String getPropertyValueByReflection(final Issue issue, final String propertyName) {
         try {
             return PropertyUtils.getProperty(issue, propertyName).toString();
         }
@@ -50,7 +122,8 @@ public class Issue implements Serializable {
 
     /**
      * Returns a function that can dynamically obtain the value of the property with the specified name of an issue
-     * instance.
+     * instance. The properties of an issue are resolved to direct accessors, reflection is used only for unknown
+     * properties.
      *
      * @param propertyName
      *         the name of the property
@@ -58,7 +131,11 @@ public class Issue implements Serializable {
      * @return the function that obtains the value
      */
     public static Function<Issue, String> getPropertyValueGetter(final String propertyName) {
-        return issue -> Issue.getPropertyValueAsString(issue, propertyName);
+        Function<Issue, Object> getter = PROPERTY_GETTERS.get(propertyName);
+        if (getter != null) {
+            return issue -> getter.apply(issue).toString();
+        }
+        return issue -> getPropertyValueByReflection(issue, propertyName);
     }
 
     /**
@@ -70,7 +147,7 @@ public class Issue implements Serializable {
      * @return the predicate
      */
     public static Predicate<Issue> byPackageName(final String packageName) {
-        return issue -> issue.getPackageName().equals(packageName);
+        return new PropertyFilter(Property.PACKAGE_NAME, packageName);
     }
 
     /**
@@ -82,7 +159,7 @@ public class Issue implements Serializable {
      * @return the predicate
      */
     public static Predicate<Issue> byModuleName(final String moduleName) {
-        return issue -> issue.getModuleName().equals(moduleName);
+        return new PropertyFilter(Property.MODULE_NAME, moduleName);
     }
 
     /**
@@ -94,7 +171,7 @@ public class Issue implements Serializable {
      * @return the predicate
      */
     public static Predicate<Issue> byFileName(final String fileName) {
-        return issue -> issue.getFileName().equals(fileName);
+        return new PropertyFilter(Property.FILE_NAME, fileName);
     }
 
     /**
@@ -118,7 +195,7 @@ public class Issue implements Serializable {
      * @return the predicate
      */
     public static Predicate<Issue> bySeverity(final Severity severity) {
-        return issue -> issue.getSeverity().equals(severity);
+        return new PropertyFilter(Property.SEVERITY, severity);
     }
 
     /**
@@ -174,19 +251,31 @@ public class Issue implements Serializable {
     @Nullable
     private final Serializable additionalProperties;  // fixed
 
-    private String reference;       // mutable, not part of equals
-    private String origin;          // mutable
+    /** Path, module name, origin, and reference: shared with other issues, replaced when a value changes. */
+    private transient IssueAttributes attributes; // mutable
 
-    private String moduleName;      // mutable
-    private TreeString packageName; // mutable
-    private String pathName;        // mutable, not part of equals, @since 8.0.0
-    private TreeString fileName;    // mutable
+    /** The entry of the package name in the text dictionary of the {@link InterningPool}. */
+    private TextEntry packageName;  // mutable
+    /** The entry of the file name in the path dictionary of the {@link InterningPool}. */
+    private PathEntry file;         // mutable
 
-    private final TreeString message;   // fixed
-    private String description;   // fixed
+    /** The entry of the message in the text dictionary of the {@link InterningPool}. */
+    private final TextEntry message; // fixed
+    private String description;     // fixed
 
     private String fingerprint;     // mutable, not part of equals
 
+    private transient int hashCode; // cached, 0 if not yet computed
+
+    /** Counts the changes of the mutable properties, see {@link ModificationTracker}. */
+    private transient int modificationStamp;
+    /** Counts the changes of the mutable properties that are part of {@link #equals(Object)}. */
+    private transient int equalityModificationStamp;
+
+    /** The issue that has been created from the de-serialized fields: replaces this instance after de-serialization. */
+    @Nullable
+    private transient Issue deserialized;
+
     /**
      * Creates a new instance of {@link Issue} using the properties of the other issue instance. The new issue has the
      * same ID as the copy.
@@ -196,10 +285,10 @@ public class Issue implements Serializable {
      */
     @SuppressWarnings("CopyConstructorMissesField")
     Issue(final Issue copy) {
-        this(copy.getPath(), copy.getFileNameTreeString(), copy.getLineStart(), copy.getLineEnd(),
+        this(copy.getPath(), copy.getPathEntry(), copy.getLineStart(), copy.getLineEnd(),
                 copy.getColumnStart(),
                 copy.getColumnEnd(), copy.getLineRanges(), copy.getCategory(), copy.getType(),
-                copy.getPackageNameTreeString(), copy.getModuleName(), copy.getSeverity(), copy.getMessageTreeString(),
+                copy.getPackageNameEntry(), copy.getModuleName(), copy.getSeverity(), copy.getMessageEntry(),
                 copy.getDescription(), copy.getOrigin(), copy.getReference(), copy.getFingerprint(),
                 copy.getAdditionalProperties(), copy.getId());
     }
@@ -258,7 +347,7 @@ public class Issue implements Serializable {
         this(pathName, fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges, category, type, packageName,
                 moduleName,
                 severity, message, description, origin, reference, fingerprint, additionalProperties,
-                UUID.randomUUID());
+                IssueIdGenerator.THREAD_LOCAL_RANDOM.next());
     }
 
     /**
@@ -314,47 +403,87 @@ public class Issue implements Serializable {
             @Nullable final String origin, @Nullable final String reference,
             @Nullable final String fingerprint, @Nullable final Serializable additionalProperties,
             final UUID id) {
+        this(pathName, INTERNING_POOL.internPath(fileName.toString()), lineStart, lineEnd, columnStart, columnEnd,
+                lineRanges, category, type, INTERNING_POOL.internText(packageName.toString()), moduleName, severity,
+                INTERNING_POOL.internText(message.toString()), description, origin, reference, fingerprint,
+                additionalProperties, id);
+    }
 
-        this.pathName = normalizeFileName(pathName);
-        this.fileName = fileName;
+    /**
+     * Creates a new instance of {@link Issue} using the specified properties.
+     *
+     * @param pathName
+     *         the path that contains the affected file
+     * @param file
+     *         the entry of the file that contains this issue in the path dictionary
+     * @param lineStart
+     *         the first line of this issue (lines start at 1; 0 indicates the whole file)
+     * @param lineEnd
+     *         the last line of this issue (lines start at 1)
+     * @param columnStart
+     *         the first column of this issue (columns start at 1, 0 indicates the whole line)
+     * @param columnEnd
+     *         the last column of this issue (columns start at 1)
+     * @param lineRanges
+     *         additional line ranges of this issue
+     * @param category
+     *         the category of this issue (depends on the available categories of the static analysis tool)
+     * @param type
+     *         the type of this issue (depends on the available types of the static analysis tool)
+     * @param packageName
+     *         the name of the package (or name space) that contains this issue
+     * @param moduleName
+     *         the name of the moduleName (or project) that contains this issue
+     * @param severity
+     *         the severity of this issue
+     * @param message
+     *         the detail message of this issue
+     * @param description
+     *         the description for this issue
+     * @param origin
+     *         the ID of the tool that did report this issue
+     * @param reference
+     *         an arbitrary reference to the execution of the static analysis tool (build ID, timestamp, etc.)
+     * @param fingerprint
+     *         the finger print for this issue
+     * @param additionalProperties
+     *         additional properties from the statical analysis tool
+     * @param id
+     *         the ID of this issue
+     */
+    @SuppressWarnings("ParameterNumber")
+    Issue(@Nullable final String pathName, final PathEntry file, final int lineStart, final int lineEnd,
+            final int columnStart,
+            final int columnEnd, @Nullable final Iterable<? extends LineRange> lineRanges,
+            @Nullable final String category,
+            @Nullable final String type, final TextEntry packageName,
+            @Nullable final String moduleName, @Nullable final Severity severity,
+            final TextEntry message, final String description,
+            @Nullable final String origin, @Nullable final String reference,
+            @Nullable final String fingerprint, @Nullable final Serializable additionalProperties,
+            final UUID id) {
 
-        int providedLineStart = defaultInteger(lineStart);
-        int providedLineEnd = defaultInteger(lineEnd) == 0 ? providedLineStart : defaultInteger(lineEnd);
-        if (providedLineStart == 0) {
-            this.lineStart = providedLineEnd;
-            this.lineEnd = providedLineEnd;
-        }
-        else {
-            this.lineStart = Math.min(providedLineStart, providedLineEnd);
-            this.lineEnd = Math.max(providedLineStart, providedLineEnd);
-        }
+        this.file = file;
 
-        int providedColumnStart = defaultInteger(columnStart);
-        int providedColumnEnd = defaultInteger(columnEnd) == 0 ? providedColumnStart : defaultInteger(columnEnd);
-        if (providedColumnStart == 0) {
-            this.columnStart = providedColumnEnd;
-            this.columnEnd = providedColumnEnd;
-        }
-        else {
-            this.columnStart = Math.min(providedColumnStart, providedColumnEnd);
-            this.columnEnd = Math.max(providedColumnStart, providedColumnEnd);
-        }
+        this.lineStart = normalizeStart(lineStart, lineEnd);
+        this.lineEnd = normalizeEnd(lineStart, lineEnd);
+        this.columnStart = normalizeStart(columnStart, columnEnd);
+        this.columnEnd = normalizeEnd(columnStart, columnEnd);
         this.lineRanges = new LineRangeList();
         if (lineRanges != null) {
             this.lineRanges.addAll(lineRanges);
         }
-        this.category = StringUtils.defaultString(category).intern();
+        this.category = intern(StringUtils.defaultString(category));
         this.type = defaultString(type);
 
         this.packageName = packageName;
-        this.moduleName = defaultString(moduleName);
 
         this.severity = severity == null ? Severity.WARNING_NORMAL : severity;
         this.message = message;
-        this.description = description.intern();
+        this.description = intern(description);
 
-        this.origin = stripToEmpty(origin);
-        this.reference = stripToEmpty(reference);
+        attributes = IssueAttributes.of(normalizeFileName(pathName), defaultString(moduleName),
+                stripToEmpty(origin), stripToEmpty(reference));
 
         this.fingerprint = defaultString(fingerprint);
         this.additionalProperties = additionalProperties;
@@ -362,35 +491,111 @@ public class Issue implements Serializable {
         this.id = id;
     }
 
+    private void writeObject(final ObjectOutputStream output) throws IOException {
+        ObjectOutputStream.PutField fields = output.putFields();
+        fields.put("columnEnd", columnEnd);
+        fields.put("columnStart", columnStart);
+        fields.put("lineEnd", lineEnd);
+        fields.put("lineStart", lineStart);
+        fields.put("additionalProperties", additionalProperties);
+        fields.put("category", category);
+        fields.put("description", description);
+        fields.put("fileName", file.getTreeString());
+        fields.put("fingerprint", fingerprint);
+        fields.put("id", id);
+        fields.put("lineRanges", lineRanges);
+        fields.put("message", message.getTreeString());
+        fields.put("moduleName", attributes.getModuleName());
+        fields.put("origin", attributes.getOrigin());
+        fields.put("packageName", packageName.getTreeString());
+        fields.put("pathName", attributes.getPathName());
+        fields.put("reference", attributes.getReference());
+        fields.put("severity", severity);
+        fields.put("type", type);
+        output.writeFields();
+    }
+
+    /**
+     * Reads the serialized fields and creates a new issue from these fields. Since the fields of an issue are final,
+     * this instance will be replaced with the created issue in {@link #readResolve()}.
+     *
+     * @param input
+     *         the stream to read the fields from
+     *
+     * @throws IOException
+     *         if the fields could not be read
+     * @throws ClassNotFoundException
+     *         if the class of a field could not be found
+     */
+    private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = input.readFields();
+
+        String pathName = (String) fields.get("pathName", null);
+        String description = (String) fields.get("description", null);
+        deserialized = new Issue(
+                pathName == null ? UNDEFINED : pathName, // new in version 8.0.0
+                INTERNING_POOL.internPath(fields.get("fileName", null).toString()),
+                fields.get("lineStart", 0), fields.get("lineEnd", 0),
+                fields.get("columnStart", 0), fields.get("columnEnd", 0),
+                (LineRangeList) fields.get("lineRanges", null),
+                (String) fields.get("category", null), (String) fields.get("type", null),
+                INTERNING_POOL.internText(fields.get("packageName", null).toString()),
+                (String) fields.get("moduleName", null),
+                (Severity) fields.get("severity", null),
+                INTERNING_POOL.internText(fields.get("message", null).toString()),
+                description == null ? UNDEFINED : description, // String in version 8.0.0
+                (String) fields.get("origin", null), (String) fields.get("reference", null),
+                (String) fields.get("fingerprint", null),
+                (Serializable) fields.get("additionalProperties", null),
+                (UUID) fields.get("id", null));
+    }
+
     /**
-     * Called after de-serialization to improve the memory usage.
+     * Called after de-serialization to replace this instance with the issue that has been created from the
+     * de-serialized fields.
      *
-     * @return this
+     * @return the de-serialized issue
      */
-    @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE", justification = "Deserialization of instances that do not have all fields yet")
     protected Object readResolve() {
-        category = category.intern();
-        type = type.intern();
-        moduleName = moduleName.intern();
-        origin = origin.intern();
-        reference = reference.intern();
-        if (pathName == null) { // new in version 8.0.0
-            pathName = UNDEFINED;
-        }
-        else {
-            pathName = pathName.intern();
-        }
-        if (description == null) { // String in version 8.0.0
-            description = UNDEFINED;
-        }
-        else {
-            description = description.intern();
+        return Objects.requireNonNull(deserialized);
+    }
+
+    /**
+     * Returns the normalized start of the specified range of lines or columns.
+     *
+     * @param start
+     *         the provided start (0 or negative if undefined)
+     * @param end
+     *         the provided end (0 or negative if undefined)
+     *
+     * @return the start of the range
+     */
+    static int normalizeStart(final int start, final int end) {
+        int providedStart = defaultInteger(start);
+        int providedEnd = defaultInteger(end) == 0 ? providedStart : defaultInteger(end);
+        if (providedStart == 0) {
+            return providedEnd;
         }
+        return Math.min(providedStart, providedEnd);
+    }
 
-        return this;
+    /**
+     * Returns the normalized end of the specified range of lines or columns.
+     *
+     * @param start
+     *         the provided start (0 or negative if undefined)
+     * @param end
+     *         the provided end (0 or negative if undefined)
+     *
+     * @return the end of the range
+     */
+    static int normalizeEnd(final int start, final int end) {
+        int providedStart = defaultInteger(start);
+        int providedEnd = defaultInteger(end) == 0 ? providedStart : defaultInteger(end);
+        return Math.max(providedStart, providedEnd);
     }
 
-    private String normalizeFileName(@Nullable final String platformFileName) {
+    static String normalizeFileName(@Nullable final String platformFileName) {
         if (platformFileName == null || UNDEFINED.equals(platformFileName) || StringUtils.isBlank(platformFileName)) {
             return UNDEFINED;
         }
@@ -405,7 +610,7 @@ public class Issue implements Serializable {
      *
      * @return the valid string or a default string if the specified string is not valid
      */
-    private int defaultInteger(final int integer) {
+    private static int defaultInteger(final int integer) {
         return Math.max(integer, 0);
     }
 
@@ -418,7 +623,11 @@ public class Issue implements Serializable {
      * @return the valid string or a default string if the specified string is not valid
      */
     private String defaultString(@Nullable final String string) {
-        return StringUtils.defaultIfEmpty(string, UNDEFINED).intern();
+        return intern(StringUtils.defaultIfEmpty(string, UNDEFINED));
+    }
+
+    private static String intern(final String string) {
+        return INTERNING_POOL.intern(string);
     }
 
     /**
@@ -430,7 +639,7 @@ public class Issue implements Serializable {
      * @return the stripped string or the empty string if the specified string is {@code null}
      */
     private String stripToEmpty(@Nullable final String string) {
-        return StringUtils.stripToEmpty(string).intern();
+        return intern(StringUtils.stripToEmpty(string));
     }
 
     /**
@@ -450,7 +659,7 @@ public class Issue implements Serializable {
      * @see #getPath()
      */
     public String getFileName() {
-        return fileName.toString();
+        return file.getName();
     }
 
     /**
@@ -460,7 +669,16 @@ public class Issue implements Serializable {
      * @return the cached tree-string containing the name of the file that contains this issue
      */
     TreeString getFileNameTreeString() {
-        return fileName;
+        return file.getTreeString();
+    }
+
+    /**
+     * Returns the entry of the affected file in the path dictionary.
+     *
+     * @return the entry of the file that contains this issue
+     */
+    PathEntry getPathEntry() {
+        return file;
     }
 
     /**
@@ -470,16 +688,7 @@ public class Issue implements Serializable {
      * @return the folder of the file that contains this issue
      */
     public String getFolder() {
-        try {
-            String folder = FilenameUtils.getPath(getFileName());
-            if (StringUtils.isBlank(folder)) {
-                return UNDEFINED;
-            }
-            return PATH_UTIL.getRelativePath(folder);
-        }
-        catch (IllegalArgumentException ignore) {
-            return UNDEFINED; // fallback
-        }
+        return file.getFolder();
     }
 
     /**
@@ -488,12 +697,7 @@ public class Issue implements Serializable {
      * @return the base name of the file that contains this issue
      */
     public String getBaseName() {
-        try {
-            return FilenameUtils.getName(getFileName());
-        }
-        catch (IllegalArgumentException ignore) {
-            return getFileName(); // fallback
-        }
+        return file.getBaseName();
     }
 
     /**
@@ -502,12 +706,7 @@ public class Issue implements Serializable {
      * @return the base name of the file that contains this issue
      */
     public String getAbsolutePath() {
-        if (UNDEFINED.equals(pathName)) {
-            return getFileName();
-        }
-        else {
-            return PATH_UTIL.createAbsolutePath(pathName, getFileName());
-        }
+        return file.getAbsolutePath(getPath());
     }
 
     /**
@@ -518,7 +717,7 @@ public class Issue implements Serializable {
      * @return the base name of the file that contains this issue
      */
     public String getPath() {
-        return pathName;
+        return attributes.getPathName();
     }
 
     /**
@@ -532,8 +731,24 @@ public class Issue implements Serializable {
     @SuppressWarnings("checkstyle:HiddenField")
     @SuppressFBWarnings("NM")
     void setFileName(final String pathName, final TreeString fileName) {
-        this.pathName = normalizeFileName(pathName);
-        this.fileName = fileName;
+        setFileName(pathName, INTERNING_POOL.internPath(fileName.toString()));
+    }
+
+    /**
+     * Sets the name of the file that contains this issue.
+     *
+     * @param pathName
+     *         the path that contains the affected file
+     * @param file
+     *         the entry of the file in the path dictionary
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    @SuppressFBWarnings("NM")
+    void setFileName(final String pathName, final PathEntry file) {
+        attributes = attributes.withPathName(normalizeFileName(pathName));
+        this.file = file;
+
+        propertiesOfEqualityChanged();
     }
 
     /**
@@ -581,7 +796,7 @@ public class Issue implements Serializable {
      * @return the message
      */
     public String getMessage() {
-        return message.toString();
+        return message.getName();
     }
 
     /**
@@ -590,6 +805,15 @@ public class Issue implements Serializable {
      * @return the message
      */
     TreeString getMessageTreeString() {
+        return message.getTreeString();
+    }
+
+    /**
+     * Returns the entry of the detailed message for this issue in the text dictionary of the {@link InterningPool}.
+     *
+     * @return the message
+     */
+    TextEntry getMessageEntry() {
         return message;
     }
 
@@ -656,7 +880,7 @@ public class Issue implements Serializable {
      * @return the package name
      */
     public String getPackageName() {
-        return packageName.toString();
+        return packageName.getName();
     }
 
     /**
@@ -666,6 +890,16 @@ public class Issue implements Serializable {
      * @return the package name
      */
     TreeString getPackageNameTreeString() {
+        return packageName.getTreeString();
+    }
+
+    /**
+     * Returns the entry of the name of the package or name space (or similar concept) that contains this issue in the
+     * text dictionary of the {@link InterningPool}.
+     *
+     * @return the package name
+     */
+    TextEntry getPackageNameEntry() {
         return packageName;
     }
 
@@ -676,7 +910,19 @@ public class Issue implements Serializable {
      *         the name of the package
      */
     void setPackageName(final TreeString packageName) {
+        setPackageName(INTERNING_POOL.internText(packageName.toString()));
+    }
+
+    /**
+     * Sets the name of the package or name space (or similar concept) that contains this issue.
+     *
+     * @param packageName
+     *         the entry of the package name in the text dictionary of the {@link InterningPool}
+     */
+    void setPackageName(final TextEntry packageName) {
         this.packageName = packageName;
+
+        propertiesOfEqualityChanged();
     }
 
     /**
@@ -686,7 +932,7 @@ public class Issue implements Serializable {
      * @see #getPackageName()
      */
     public boolean hasPackageName() {
-        return !UNDEFINED.equals(getPackageName());
+        return !packageName.hasName(UNDEFINED);
     }
 
     /**
@@ -695,7 +941,7 @@ public class Issue implements Serializable {
      * @return the module
      */
     public String getModuleName() {
-        return moduleName;
+        return attributes.getModuleName();
     }
 
     /**
@@ -705,7 +951,9 @@ public class Issue implements Serializable {
      *         the module name to set
      */
     void setModuleName(@Nullable final String moduleName) {
-        this.moduleName = stripToEmpty(moduleName);
+        attributes = attributes.withModuleName(stripToEmpty(moduleName));
+
+        propertiesOfEqualityChanged();
     }
 
     /**
@@ -724,7 +972,7 @@ public class Issue implements Serializable {
      * @return the origin
      */
     public String getOrigin() {
-        return origin;
+        return attributes.getOrigin();
     }
 
     /**
@@ -736,7 +984,9 @@ public class Issue implements Serializable {
     public void setOrigin(final String origin) {
         Ensure.that(origin).isNotBlank("Issue origin '%s' must be not blank (%s)", id, toString());
 
-        this.origin = origin.intern();
+        attributes = attributes.withOrigin(intern(origin));
+
+        propertiesOfEqualityChanged();
     }
 
     /**
@@ -745,7 +995,7 @@ public class Issue implements Serializable {
      * @return the reference
      */
     public String getReference() {
-        return reference;
+        return attributes.getReference();
     }
 
     /**
@@ -755,7 +1005,7 @@ public class Issue implements Serializable {
      *         the reference
      */
     public void setReference(@Nullable final String reference) {
-        this.reference = stripToEmpty(reference);
+        attributes = attributes.withReference(stripToEmpty(reference));
     }
 
     /**
@@ -783,6 +1033,8 @@ public class Issue implements Serializable {
      */
     void setFingerprint(@Nullable final String fingerprint) {
         this.fingerprint = StringUtils.stripToEmpty(fingerprint);
+
+        propertyChanged();
     }
 
     /**
@@ -851,20 +1103,59 @@ public class Issue implements Serializable {
                 issue.additionalProperties != null) {
             return false;
         }
-        if (!origin.equals(issue.origin)) {
-            return false;
-        }
-        if (!moduleName.equals(issue.moduleName)) {
+        if (!attributes.isEqualForIssue(issue.attributes)) {
             return false;
         }
         if (!packageName.equals(issue.packageName)) {
             return false;
         }
-        return fileName.equals(issue.fileName);
+        return file.equals(issue.file);
+    }
+
+    private void propertiesOfEqualityChanged() {
+        hashCode = 0;
+        equalityModificationStamp++;
+
+        propertyChanged();
+    }
+
+    private void propertyChanged() {
+        modificationStamp++;
+
+        ModificationTracker.issueModified();
+    }
+
+    /**
+     * Returns the number of changes of the mutable properties file name, package name, module name, origin, and
+     * fingerprint of this issue.
+     *
+     * @return the modification stamp
+     */
+    int getModificationStamp() {
+        return modificationStamp;
+    }
+
+    /**
+     * Returns the number of changes of the mutable properties file name, package name, module name, and origin of this
+     * issue. These properties are part of {@link #equals(Object)} and {@link #hashCode()}.
+     *
+     * @return the modification stamp
+     */
+    int getEqualityModificationStamp() {
+        return equalityModificationStamp;
     }
 
     @Override
     public int hashCode() {
+        int result = hashCode;
+        if (result == 0) {
+            result = computeHashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private int computeHashCode() {
         int result = category.hashCode();
         result = 31 * result + type.hashCode();
         result = 31 * result + severity.hashCode();
@@ -876,15 +1167,14 @@ public class Issue implements Serializable {
         result = 31 * result + lineRanges.hashCode();
         result = 31 * result + description.hashCode();
         result = 31 * result + (additionalProperties == null ? 0 : additionalProperties.hashCode());
-        result = 31 * result + origin.hashCode();
-        result = 31 * result + moduleName.hashCode();
+        result = 31 * 31 * result + attributes.hashCodeForIssue();
         result = 31 * result + packageName.hashCode();
-        result = 31 * result + fileName.hashCode();
+        result = 31 * result + file.hashCode();
         return result;
     }
 
     @Override
     public String toString() {
-        return String.format("%s(%d,%d): %s: %s: %s", fileName, lineStart, columnStart, type, category, message);
+        return String.format("%s(%d,%d): %s: %s: %s", file, lineStart, columnStart, type, category, message);
     }
 }
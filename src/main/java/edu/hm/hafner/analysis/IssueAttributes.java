@@ -0,0 +1,154 @@
+package edu.hm.hafner.analysis;
+
+import java.lang.ref.WeakReference;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * The attributes of an {@link Issue} that are typically the same for all issues of a report: the path, the module
+ * name, the origin, and the reference. Instances of this class are immutable and shared by all issues that have the
+ * same attribute values, so each issue stores a single reference rather than four strings. Additionally, the equality
+ * of issues that share the same attributes instance is decided without comparing the strings.
+ * <p>
+ * Issues obtain the shared instances using {@link #of(String, String, String, String)} when they are created and by
+ * deriving new attributes when a value is changed. Since issues of the same report are created and modified in
+ * sequence, it is sufficient to remember the last derived attributes of each instance and the last attributes of each
+ * thread. Attributes are never changed in place: when an issue gets a different value, then the issue references
+ * another instance.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class IssueAttributes {
+    private static final IssueAttributes UNDEFINED = new IssueAttributes(Issue.UNDEFINED, Issue.UNDEFINED,
+            Issue.UNDEFINED, Issue.UNDEFINED);
+    private static final ThreadLocal<IssueAttributes> LAST_CREATED = ThreadLocal.withInitial(() -> UNDEFINED);
+
+    /**
+     * Returns the shared attributes with the specified values. The values are expected to be normalized and interned
+     * already.
+     *
+     * @param pathName
+     *         the path that contains the affected file
+     * @param moduleName
+     *         the name of the module (or project) that contains the issue
+     * @param origin
+     *         the ID of the tool that did report the issue
+     * @param reference
+     *         an arbitrary reference to the execution of the static analysis tool
+     *
+     * @return the attributes
+     */
+    static IssueAttributes of(final String pathName, final String moduleName, final String origin,
+            final String reference) {
+        IssueAttributes last = LAST_CREATED.get();
+        IssueAttributes attributes = last.with(pathName, moduleName, origin, reference);
+        if (attributes != last) {
+            LAST_CREATED.set(attributes);
+        }
+        return attributes;
+    }
+
+    private final String pathName;
+    private final String moduleName;
+    private final String origin;
+    private final String reference;
+    /** The hash code of the properties that are part of {@link Issue#equals(Object)}: module name and origin. */
+    private final int hashCode;
+
+    /** The attributes that have been derived from this instance most recently. */
+    @Nullable
+    private volatile WeakReference<IssueAttributes> derived;
+
+    private IssueAttributes(final String pathName, final String moduleName, final String origin,
+            final String reference) {
+        this.pathName = pathName;
+        this.moduleName = moduleName;
+        this.origin = origin;
+        this.reference = reference;
+
+        hashCode = 31 * origin.hashCode() + moduleName.hashCode();
+    }
+
+    String getPathName() {
+        return pathName;
+    }
+
+    String getModuleName() {
+        return moduleName;
+    }
+
+    String getOrigin() {
+        return origin;
+    }
+
+    String getReference() {
+        return reference;
+    }
+
+    IssueAttributes withPathName(final String newPathName) {
+        return with(newPathName, moduleName, origin, reference);
+    }
+
+    IssueAttributes withModuleName(final String newModuleName) {
+        return with(pathName, newModuleName, origin, reference);
+    }
+
+    IssueAttributes withOrigin(final String newOrigin) {
+        return with(pathName, moduleName, newOrigin, reference);
+    }
+
+    IssueAttributes withReference(final String newReference) {
+        return with(pathName, moduleName, origin, newReference);
+    }
+
+    private IssueAttributes with(final String newPathName, final String newModuleName, final String newOrigin,
+            final String newReference) {
+        if (hasValues(newPathName, newModuleName, newOrigin, newReference)) {
+            return this;
+        }
+
+        WeakReference<IssueAttributes> lastDerived = derived;
+        if (lastDerived != null) {
+            IssueAttributes cached = lastDerived.get();
+            if (cached != null && cached.hasValues(newPathName, newModuleName, newOrigin, newReference)) {
+                return cached;
+            }
+        }
+
+        IssueAttributes created = new IssueAttributes(newPathName, newModuleName, newOrigin, newReference);
+        derived = new WeakReference<>(created);
+        return created;
+    }
+
+    private boolean hasValues(final String otherPathName, final String otherModuleName, final String otherOrigin,
+            final String otherReference) {
+        return pathName.equals(otherPathName) && moduleName.equals(otherModuleName)
+                && origin.equals(otherOrigin) && reference.equals(otherReference);
+    }
+
+    /**
+     * Returns whether the properties that are part of {@link Issue#equals(Object)} are equal to the properties of the
+     * other attributes. Shared instances are detected without comparing the strings.
+     *
+     * @param other
+     *         the other attributes
+     *
+     * @return {@code true} if module name and origin are equal, {@code false} otherwise
+     */
+    boolean isEqualForIssue(final IssueAttributes other) {
+        if (this == other) {
+            return true;
+        }
+        return hashCode == other.hashCode && origin.equals(other.origin) && moduleName.equals(other.moduleName);
+    }
+
+    /**
+     * Returns the hash code of the properties that are part of {@link Issue#hashCode()}.
+     *
+     * @return the hash code of module name and origin
+     */
+    int hashCodeForIssue() {
+        return hashCode;
+    }
+}
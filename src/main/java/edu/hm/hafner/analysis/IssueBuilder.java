@@ -1,14 +1,15 @@
 package edu.hm.hafner.analysis;
 
 import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 
 import edu.hm.hafner.util.PathUtil;
-import edu.hm.hafner.util.TreeString;
-import edu.hm.hafner.util.TreeStringBuilder;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 import static edu.hm.hafner.util.IntegerParser.*;
@@ -25,6 +26,13 @@ import static edu.hm.hafner.util.IntegerParser.*;
  *                      .setMessage("Missing JavaDoc")
  *                      .setSeverity(Severity.WARNING_LOW);
  * </pre></blockquote>
+ * <p>
+ * The file names, package names, messages, and all other string properties of the created issues are interned using
+ * the {@link InterningPool#getShared() shared interning pool}, so equal values of different builders share the same
+ * instance. File names are mapped to the entries of the path dictionary of the pool. Since parsers typically report
+ * the same files over and over again, each builder additionally caches the normalized file names of the most recently
+ * used combinations of directory and file name.
+ * </p>
  *
  * @author Ullrich Hafner
  */
@@ -32,12 +40,15 @@ import static edu.hm.hafner.util.IntegerParser.*;
 public class IssueBuilder {
     private static final String EMPTY = StringUtils.EMPTY;
     private static final String UNDEFINED = "-";
-    private static final TreeString UNDEFINED_TREE_STRING = TreeString.valueOf(UNDEFINED);
-    private static final TreeString EMPTY_TREE_STRING = TreeString.valueOf(StringUtils.EMPTY);
 
-    private final TreeStringBuilder fileNameBuilder = new TreeStringBuilder();
-    private final TreeStringBuilder packageNameBuilder = new TreeStringBuilder();
-    private final TreeStringBuilder messageBuilder = new TreeStringBuilder();
+    private static final InterningPool POOL = InterningPool.getShared();
+    private static final PathEntry UNDEFINED_PATH = POOL.internPath(UNDEFINED);
+    private static final TextEntry UNDEFINED_TEXT = POOL.internText(UNDEFINED);
+    private static final TextEntry EMPTY_TEXT = POOL.internText(EMPTY);
+    private static final PathUtil PATH_UTIL = new PathUtil();
+
+    /** The maximum number of file names in the cache of a builder. */
+    static final int FILE_NAME_CACHE_SIZE = 1024;
 
     private int lineStart = 0;
     private int lineEnd = 0;
@@ -49,8 +60,8 @@ public class IssueBuilder {
 
     @Nullable
     private String pathName;
-    private TreeString fileName = UNDEFINED_TREE_STRING;
-    private TreeString packageName = UNDEFINED_TREE_STRING;
+    private PathEntry fileName = UNDEFINED_PATH;
+    private TextEntry packageName = UNDEFINED_TEXT;
 
     @Nullable
     private String directory;
@@ -61,7 +72,7 @@ public class IssueBuilder {
     @Nullable
     private Severity severity;
 
-    private TreeString message = EMPTY_TREE_STRING;
+    private TextEntry message = EMPTY_TEXT;
     private String description = EMPTY;
 
     @Nullable
@@ -75,7 +86,11 @@ public class IssueBuilder {
     @Nullable
     private Serializable additionalProperties;
 
-    private UUID id = UUID.randomUUID();
+    @Nullable
+    private UUID id;
+    private IssueIdGenerator idGenerator = IssueIdGenerator.THREAD_LOCAL_RANDOM;
+
+    private final FileNameCache fileNameCache = new FileNameCache(FILE_NAME_CACHE_SIZE);
 
     /**
      * Sets the unique ID of the issue. If not set then an ID will be generated.
@@ -90,6 +105,20 @@ public class IssueBuilder {
         return this;
     }
 
+    /**
+     * Sets the generator that creates the IDs of issues that have no explicit ID set. If not set, then random UUIDs
+     * will be created using {@link IssueIdGenerator#THREAD_LOCAL_RANDOM}.
+     *
+     * @param idGenerator
+     *         the ID generator
+     *
+     * @return this
+     */
+    public IssueBuilder setIdGenerator(final IssueIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        return this;
+    }
+
     /**
      * Sets additional properties from the statical analysis tool. This object could be used to store tool specific
      * information.
@@ -134,14 +163,36 @@ public class IssueBuilder {
         return this;
     }
 
-    TreeString internFileName(@Nullable final String unsafeFileName) {
+    PathEntry internFileName(@Nullable final String unsafeFileName) {
         if (unsafeFileName == null || StringUtils.isEmpty(unsafeFileName)) {
-            return UNDEFINED_TREE_STRING;
+            return UNDEFINED_PATH;
         }
-        else {
-            return fileNameBuilder.intern(normalizeFileName(
-                    new PathUtil().createAbsolutePath(directory, unsafeFileName)));
+
+        PathEntry cached = fileNameCache.get(directory, unsafeFileName);
+        if (cached == null) {
+            cached = POOL.internPath(normalizeFileName(PATH_UTIL.createAbsolutePath(directory, unsafeFileName)));
+            fileNameCache.put(directory, unsafeFileName, cached);
         }
+        return cached;
+    }
+
+    /**
+     * Returns the number of file names that have been found in the file name cache of this builder.
+     *
+     * @return the number of hits
+     */
+    public long getFileNameCacheHitCount() {
+        return fileNameCache.hits;
+    }
+
+    /**
+     * Returns the number of file names that have not been found in the file name cache of this builder and that have
+     * been normalized.
+     *
+     * @return the number of misses
+     */
+    public long getFileNameCacheMissCount() {
+        return fileNameCache.misses;
     }
 
     /**
@@ -323,12 +374,12 @@ public class IssueBuilder {
         return this;
     }
 
-    TreeString internPackageName(@Nullable final String unsafePackageName) {
+    TextEntry internPackageName(@Nullable final String unsafePackageName) {
         if (unsafePackageName == null || StringUtils.isBlank(unsafePackageName)) {
-            return UNDEFINED_TREE_STRING;
+            return UNDEFINED_TEXT;
         }
         else {
-            return packageNameBuilder.intern(unsafePackageName);
+            return POOL.internText(unsafePackageName);
         }
     }
 
@@ -408,10 +459,10 @@ public class IssueBuilder {
      */
     public IssueBuilder setMessage(@Nullable final String message) {
         if (StringUtils.isBlank(message)) {
-            this.message = EMPTY_TREE_STRING;
+            this.message = EMPTY_TEXT;
         }
         else {
-            this.message = messageBuilder.intern(StringUtils.stripToEmpty(message));
+            this.message = POOL.internText(StringUtils.stripToEmpty(message));
         }
         return this;
     }
@@ -453,7 +504,7 @@ public class IssueBuilder {
      * @return the initialized builder
      */
     public IssueBuilder copy(final Issue copy) {
-        fileName = copy.getFileNameTreeString();
+        fileName = copy.getPathEntry();
         lineStart = copy.getLineStart();
         lineEnd = copy.getLineEnd();
         columnStart = copy.getColumnStart();
@@ -463,9 +514,9 @@ public class IssueBuilder {
         category = copy.getCategory();
         type = copy.getType();
         severity = copy.getSeverity();
-        message = copy.getMessageTreeString();
+        message = copy.getMessageEntry();
         description = copy.getDescription();
-        packageName = copy.getPackageNameTreeString();
+        packageName = copy.getPackageNameEntry();
         moduleName = copy.getModuleName();
         origin = copy.getOrigin();
         reference = copy.getReference();
@@ -483,11 +534,26 @@ public class IssueBuilder {
         Issue issue = new Issue(pathName, fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges,
                 category, type, packageName, moduleName, severity,
                 message, description, origin, reference, fingerprint,
-                additionalProperties, id);
-        id = UUID.randomUUID(); // make sure that multiple invocations will create different IDs
+                additionalProperties, id == null ? idGenerator.next() : id);
+        id = null; // make sure that multiple invocations will create different IDs
         return issue;
     }
 
+    /**
+     * Appends a new row with the properties of this builder to the specified table. In contrast to {@link #build()},
+     * no {@link Issue} instance is created.
+     *
+     * @param table
+     *         the table to append the row to
+     */
+    void appendTo(final IssueTable table) {
+        table.add(pathName, fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges,
+                category, type, packageName, moduleName, severity,
+                message, description, origin, reference, fingerprint,
+                additionalProperties, id == null ? idGenerator.next() : id);
+        id = null; // make sure that multiple invocations will create different IDs
+    }
+
     private static String normalizeFileName(@Nullable final String platformFileName) {
         return defaultString(StringUtils.replace(
                 StringUtils.strip(platformFileName), "\\", "/"));
@@ -502,7 +568,7 @@ public class IssueBuilder {
      * @return the valid string or a default string if the specified string is not valid
      */
     private static String defaultString(@Nullable final String string) {
-        return StringUtils.defaultIfEmpty(string, UNDEFINED).intern();
+        return POOL.intern(StringUtils.defaultIfEmpty(string, UNDEFINED));
     }
 
     /**
@@ -514,4 +580,82 @@ public class IssueBuilder {
     public Optional<Issue> buildOptional() {
         return Optional.of(build());
     }
+
+    /**
+     * A bounded cache of normalized file names. The cache is keyed by the directory and the file name as reported by
+     * the tool, so changes of the current directory (see {@link #setDirectory(String)}) are respected. If the cache is
+     * full, then the least recently used file name will be removed. Lookups use a reusable key, so a hit does not
+     * allocate any memory.
+     */
+    private static final class FileNameCache {
+        private final Map<Key, PathEntry> entries;
+        private final Key lookup = new Key(null, StringUtils.EMPTY);
+
+        private long hits;
+        private long misses;
+
+        @SuppressWarnings("serial")
+        FileNameCache(final int capacity) {
+            entries = new LinkedHashMap<Key, PathEntry>(capacity * 4 / 3 + 1, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Key, PathEntry> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        @Nullable
+        PathEntry get(@Nullable final String directory, final String fileName) {
+            lookup.set(directory, fileName);
+            PathEntry entry = entries.get(lookup);
+            if (entry == null) {
+                misses++;
+            }
+            else {
+                hits++;
+            }
+            return entry;
+        }
+
+        void put(@Nullable final String directory, final String fileName, final PathEntry entry) {
+            entries.put(new Key(directory, fileName), entry);
+        }
+    }
+
+    /**
+     * The key of a {@link FileNameCache}: the current directory and the file name as reported by the tool.
+     */
+    private static final class Key {
+        @Nullable
+        private String directory;
+        private String fileName;
+        private int hashCode;
+
+        Key(@Nullable final String directory, final String fileName) {
+            set(directory, fileName);
+        }
+
+        void set(@Nullable final String newDirectory, final String newFileName) {
+            directory = newDirectory;
+            fileName = newFileName;
+            hashCode = 31 * Objects.hashCode(newDirectory) + newFileName.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return fileName.equals(key.fileName) && Objects.equals(directory, key.directory);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -1,13 +1,25 @@
 package edu.hm.hafner.analysis;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * Computes old, new, and fixed issues based on the reports of two consecutive static analysis runs for the same
  * software artifact.
+ * <p>
+ * The issues of the reference report are indexed once using hash tables: one index uses the properties that are part
+ * of {@link Issue#equals(Object)}, the other index uses the {@link Issue#getFingerprint() fingerprint}. So the
+ * difference is computed in linear time with respect to the size of both reports.
+ * </p>
  *
  * @author Ullrich Hafner
  */
@@ -16,6 +28,11 @@ public class IssueDifference {
     private final Report fixedIssues;
     private final Report outstandingIssues;
 
+    private final Map<Issue, List<Issue>> referencesByEquals = new HashMap<>();
+    private final Map<String, Deque<Issue>> referencesByFingerprint = new HashMap<>();
+    private final Set<Issue> matchedReferences = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Issue> matchedCurrents = Collections.newSetFromMap(new IdentityHashMap<>());
+
     /**
      * Creates a new instance of {@link IssueDifference}.
      *
@@ -27,43 +44,62 @@ public class IssueDifference {
      *         the issues of a previous report (reference)
      */
     public IssueDifference(final Report currentIssues, final String referenceId, final Report referenceIssues) {
-        newIssues = currentIssues.copy();
-        fixedIssues = referenceIssues.copy();
         outstandingIssues = new Report();
 
-        List<UUID> removed = matchIssuesByEquals(currentIssues);
-        Report secondPass = currentIssues.copy();
-        removed.forEach(secondPass::remove);
-        matchIssuesByFingerprint(secondPass);
+        indexReferenceIssues(referenceIssues);
+        matchIssuesByEquals(currentIssues);
+        matchIssuesByFingerprint(currentIssues);
+
+        newIssues = currentIssues.copyEmptyInstance();
+        for (Issue current : currentIssues) {
+            if (!matchedCurrents.contains(current)) {
+                newIssues.add(current);
+            }
+        }
+        fixedIssues = referenceIssues.copyEmptyInstance();
+        for (Issue reference : referenceIssues) {
+            if (!matchedReferences.contains(reference)) {
+                fixedIssues.add(reference);
+            }
+        }
 
         newIssues.forEach(issue -> issue.setReference(referenceId));
     }
 
-    private List<UUID> matchIssuesByEquals(final Report currentIssues) {
-        List<UUID> removedIds = new ArrayList<>();
+    private void indexReferenceIssues(final Report referenceIssues) {
+        for (Issue reference : referenceIssues) {
+            referencesByEquals.computeIfAbsent(reference, key -> new ArrayList<>(1)).add(reference);
+            referencesByFingerprint.computeIfAbsent(reference.getFingerprint(), key -> new ArrayDeque<>())
+                    .add(reference);
+        }
+    }
+
+    private void matchIssuesByEquals(final Report currentIssues) {
         for (Issue current : currentIssues) {
             List<Issue> equalIssues = findReferenceByEquals(current);
 
             if (!equalIssues.isEmpty()) {
-                removedIds.add(remove(current, selectIssueWithSameFingerprint(current, equalIssues)));
+                match(current, selectIssueWithSameFingerprint(current, equalIssues));
             }
         }
-        return removedIds;
     }
 
     private void matchIssuesByFingerprint(final Report currentIssues) {
         for (Issue current : currentIssues) {
-            findReferenceByFingerprint(current).ifPresent(issue -> remove(current, issue));
+            if (!matchedCurrents.contains(current)) {
+                Issue reference = findReferenceByFingerprint(current);
+                if (reference != null) {
+                    match(current, reference);
+                }
+            }
         }
     }
 
-    private UUID remove(final Issue current, final Issue oldIssue) {
-        UUID id = current.getId();
-        Issue issueWithLatestProperties = newIssues.remove(id);
-        issueWithLatestProperties.setReference(oldIssue.getReference());
-        outstandingIssues.add(issueWithLatestProperties);
-        fixedIssues.remove(oldIssue.getId());
-        return id;
+    private void match(final Issue current, final Issue oldIssue) {
+        current.setReference(oldIssue.getReference());
+        outstandingIssues.add(current);
+        matchedCurrents.add(current);
+        matchedReferences.add(oldIssue);
     }
 
     private Issue selectIssueWithSameFingerprint(final Issue current, final List<Issue> equalIssues) {
@@ -73,19 +109,22 @@ public class IssueDifference {
                 .orElse(equalIssues.get(0));
     }
 
-    private Optional<Issue> findReferenceByFingerprint(final Issue current) {
-        for (Issue reference : fixedIssues) {
-            if (current.getFingerprint().equals(reference.getFingerprint())) {
-                return Optional.of(reference);
-            }
+    @Nullable
+    private Issue findReferenceByFingerprint(final Issue current) {
+        Deque<Issue> candidates = referencesByFingerprint.get(current.getFingerprint());
+        if (candidates == null) {
+            return null;
+        }
+        while (!candidates.isEmpty() && matchedReferences.contains(candidates.peekFirst())) {
+            candidates.removeFirst(); // already matched by equals or by another fingerprint
         }
-        return Optional.empty();
+        return candidates.peekFirst();
     }
 
     private List<Issue> findReferenceByEquals(final Issue current) {
         List<Issue> equalIssues = new ArrayList<>();
-        for (Issue reference : fixedIssues) {
-            if (current.equals(reference)) {
+        for (Issue reference : referencesByEquals.getOrDefault(current, Collections.emptyList())) {
+            if (!matchedReferences.contains(reference)) {
                 equalIssues.add(reference);
             }
         }
@@ -0,0 +1,39 @@
+package edu.hm.hafner.analysis;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates the unique IDs of {@link Issue issues}. The generated IDs must be unique across all reports.
+ *
+ * @author Ullrich Hafner
+ * @see IssueBuilder#setIdGenerator(IssueIdGenerator)
+ */
+@FunctionalInterface
+public interface IssueIdGenerator {
+    /**
+     * Generates random (type 4) UUIDs using the {@link ThreadLocalRandom} of the current thread. Since there is no
+     * shared random number generator, this generator does not block when issues are created by several threads in
+     * parallel. This is the default generator of an {@link IssueBuilder}.
+     */
+    IssueIdGenerator THREAD_LOCAL_RANDOM = () -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L; // version 4
+        long leastSignificantBits = (random.nextLong() & ~(0x3L << 62)) | (1L << 63); // IETF variant
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    };
+
+    /**
+     * Generates cryptographically strong random UUIDs using {@link UUID#randomUUID()}. Note that this generator uses a
+     * shared {@link java.security.SecureRandom} instance so it will contend if issues are created by several threads in
+     * parallel.
+     */
+    IssueIdGenerator SECURE_RANDOM = UUID::randomUUID;
+
+    /**
+     * Returns a new unique ID.
+     *
+     * @return the ID
+     */
+    UUID next();
+}
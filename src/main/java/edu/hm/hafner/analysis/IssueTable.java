@@ -0,0 +1,503 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A memory efficient alternative to a {@link Report} for reports that contain a huge number of issues. Rather than
+ * storing an {@link Issue} instance for each element, the issues are stored column-wise: the line and column numbers
+ * of all issues are stored in primitive arrays, all other properties are encoded as integer codes that reference
+ * the values in a dictionary. Each distinct value of a property is therefore stored only once.
+ * <p>
+ * The issues of a table are created on demand, every call of {@link #get(int)} (or {@link #iterator()}) creates a new
+ * {@link Issue} view with the properties of the selected row. Aggregations (see {@link #getSizeOf(Severity)} and
+ * {@link #getPropertyCount(Column)}) and filters (see {@link #filter(Column, Predicate)}) are evaluated directly on
+ * the integer codes without creating any issues: a filter predicate is evaluated only once for each distinct value.
+ * </p>
+ * <p>
+ * In contrast to a {@link Report}, a table does not skip duplicates: these will be removed when the table is
+ * converted to a report with {@link #toReport()}. A table is not thread safe.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class IssueTable implements Iterable<Issue>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Column[] COLUMNS = Column.values();
+
+    private final Report properties;
+    private final Dictionary[] dictionaries;
+
+    private int size;
+    private int[] lineStarts;
+    private int[] lineEnds;
+    private int[] columnStarts;
+    private int[] columnEnds;
+    private final int[][] codes;
+    private long[] mostSignificantIdBits;
+    private long[] leastSignificantIdBits;
+    private String[] fingerprints;
+    /** Line ranges and additional properties are rarely used, so these are stored for affected rows only. */
+    private final Map<Integer, LineRangeList> lineRanges = new HashMap<>();
+    private final Map<Integer, Serializable> additionalProperties = new HashMap<>();
+
+    /**
+     * Creates an empty {@link IssueTable}.
+     */
+    public IssueTable() {
+        this(new Report(), createDictionaries(), INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link IssueTable} that contains the issues and properties of the specified report.
+     *
+     * @param report
+     *         the report to convert
+     */
+    public IssueTable(final Report report) {
+        this(report.copyEmptyInstance(), createDictionaries(), Math.max(report.size(), INITIAL_CAPACITY));
+
+        addAll(report);
+    }
+
+    private IssueTable(final Report properties, final Dictionary[] dictionaries, final int capacity) {
+        this.properties = properties;
+        this.dictionaries = dictionaries;
+
+        lineStarts = new int[capacity];
+        lineEnds = new int[capacity];
+        columnStarts = new int[capacity];
+        columnEnds = new int[capacity];
+        codes = new int[COLUMNS.length][capacity];
+        mostSignificantIdBits = new long[capacity];
+        leastSignificantIdBits = new long[capacity];
+        fingerprints = new String[capacity];
+    }
+
+    private static Dictionary[] createDictionaries() {
+        Dictionary[] dictionaries = new Dictionary[COLUMNS.length];
+        for (int i = 0; i < dictionaries.length; i++) {
+            dictionaries[i] = new Dictionary();
+        }
+        return dictionaries;
+    }
+
+    /**
+     * Appends the specified issue to the end of this table.
+     *
+     * @param issue
+     *         the issue to append
+     *
+     * @return this
+     */
+    public IssueTable add(final Issue issue) {
+        ensureCapacity(size + 1);
+
+        lineStarts[size] = issue.getLineStart();
+        lineEnds[size] = issue.getLineEnd();
+        columnStarts[size] = issue.getColumnStart();
+        columnEnds[size] = issue.getColumnEnd();
+        for (Column column : COLUMNS) {
+            codes[column.ordinal()][size] = dictionaries[column.ordinal()].encode(column.getValue(issue));
+        }
+        mostSignificantIdBits[size] = issue.getId().getMostSignificantBits();
+        leastSignificantIdBits[size] = issue.getId().getLeastSignificantBits();
+        fingerprints[size] = issue.getFingerprint();
+
+        LineRangeList ranges = new LineRangeList();
+        for (LineRange range : issue.getLineRanges()) {
+            ranges.add(range);
+        }
+        if (!ranges.isEmpty()) {
+            lineRanges.put(size, ranges);
+        }
+        if (issue.getAdditionalProperties() != null) {
+            additionalProperties.put(size, issue.getAdditionalProperties());
+        }
+        size++;
+
+        return this;
+    }
+
+    /**
+     * Appends a new issue with the properties of the specified builder to the end of this table. The properties of
+     * the builder are normalized in the same way as the properties of an {@link Issue} and are encoded directly, no
+     * {@link Issue} instance is created. The builder can be reused to create the next issue.
+     *
+     * @param builder
+     *         the builder that contains the properties of the issue
+     *
+     * @return this
+     */
+    public IssueTable add(final IssueBuilder builder) {
+        builder.appendTo(this);
+
+        return this;
+    }
+
+    /**
+     * Appends a new issue with the specified properties to the end of this table. The properties are normalized in the
+     * same way as the properties of an {@link Issue}.
+     */
+    @SuppressWarnings("ParameterNumber")
+    void add(@Nullable final String pathName, final PathEntry file, final int lineStart, final int lineEnd,
+            final int columnStart, final int columnEnd, @Nullable final LineRangeList ranges,
+            @Nullable final String category, @Nullable final String type, final TextEntry packageName,
+            @Nullable final String moduleName, @Nullable final Severity severity,
+            final TextEntry message, final String description,
+            @Nullable final String origin, @Nullable final String reference,
+            @Nullable final String fingerprint, @Nullable final Serializable properties, final UUID id) {
+        ensureCapacity(size + 1);
+
+        lineStarts[size] = Issue.normalizeStart(lineStart, lineEnd);
+        lineEnds[size] = Issue.normalizeEnd(lineStart, lineEnd);
+        columnStarts[size] = Issue.normalizeStart(columnStart, columnEnd);
+        columnEnds[size] = Issue.normalizeEnd(columnStart, columnEnd);
+        encode(Column.PATH, Issue.normalizeFileName(pathName));
+        encode(Column.FILE_NAME, file);
+        encode(Column.PACKAGE_NAME, packageName);
+        encode(Column.MODULE_NAME, StringUtils.defaultIfEmpty(moduleName, Issue.UNDEFINED));
+        encode(Column.CATEGORY, StringUtils.defaultString(category));
+        encode(Column.TYPE, StringUtils.defaultIfEmpty(type, Issue.UNDEFINED));
+        encode(Column.SEVERITY, severity == null ? Severity.WARNING_NORMAL : severity);
+        encode(Column.MESSAGE, message);
+        encode(Column.DESCRIPTION, description);
+        encode(Column.ORIGIN, StringUtils.stripToEmpty(origin));
+        encode(Column.REFERENCE, StringUtils.stripToEmpty(reference));
+        mostSignificantIdBits[size] = id.getMostSignificantBits();
+        leastSignificantIdBits[size] = id.getLeastSignificantBits();
+        fingerprints[size] = StringUtils.defaultIfEmpty(fingerprint, Issue.UNDEFINED);
+
+        if (ranges != null && !ranges.isEmpty()) {
+            lineRanges.put(size, new LineRangeList(ranges));
+        }
+        if (properties != null) {
+            additionalProperties.put(size, properties);
+        }
+        size++;
+    }
+
+    private void encode(final Column column, final Object value) {
+        codes[column.ordinal()][size] = dictionaries[column.ordinal()].encode(value);
+    }
+
+    /**
+     * Appends all of the specified issues to the end of this table.
+     *
+     * @param issues
+     *         the issues to append
+     *
+     * @return this
+     */
+    public IssueTable addAll(final Iterable<? extends Issue> issues) {
+        for (Issue issue : issues) {
+            add(issue);
+        }
+        return this;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > lineStarts.length) {
+            int grown = Math.max(capacity, lineStarts.length + (lineStarts.length >> 1));
+            lineStarts = Arrays.copyOf(lineStarts, grown);
+            lineEnds = Arrays.copyOf(lineEnds, grown);
+            columnStarts = Arrays.copyOf(columnStarts, grown);
+            columnEnds = Arrays.copyOf(columnEnds, grown);
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = Arrays.copyOf(codes[i], grown);
+            }
+            mostSignificantIdBits = Arrays.copyOf(mostSignificantIdBits, grown);
+            leastSignificantIdBits = Arrays.copyOf(leastSignificantIdBits, grown);
+            fingerprints = Arrays.copyOf(fingerprints, grown);
+        }
+    }
+
+    /**
+     * Returns the number of issues in this table.
+     *
+     * @return total number of issues
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this table is empty.
+     *
+     * @return {@code true} if this table is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the issue with the specified index. Each invocation creates a new {@link Issue} instance.
+     *
+     * @param index
+     *         the index
+     *
+     * @return the issue at the specified index
+     * @throws IndexOutOfBoundsException
+     *         if there is no element for the given index
+     */
+    public Issue get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No issue at index " + index + ", size is " + size);
+        }
+        return new Issue(getString(Column.PATH, index), (PathEntry) getValue(Column.FILE_NAME, index),
+                lineStarts[index], lineEnds[index], columnStarts[index], columnEnds[index],
+                lineRanges.get(index),
+                getString(Column.CATEGORY, index), getString(Column.TYPE, index),
+                getText(Column.PACKAGE_NAME, index), getString(Column.MODULE_NAME, index),
+                (Severity) getValue(Column.SEVERITY, index), getText(Column.MESSAGE, index),
+                getString(Column.DESCRIPTION, index), getString(Column.ORIGIN, index),
+                getString(Column.REFERENCE, index), fingerprints[index], additionalProperties.get(index),
+                new UUID(mostSignificantIdBits[index], leastSignificantIdBits[index]));
+    }
+
+    private Object getValue(final Column column, final int index) {
+        return dictionaries[column.ordinal()].decode(codes[column.ordinal()][index]);
+    }
+
+    private String getString(final Column column, final int index) {
+        return (String) getValue(column, index);
+    }
+
+    private TextEntry getText(final Column column, final int index) {
+        return (TextEntry) getValue(column, index);
+    }
+
+    @Override
+    public Iterator<Issue> iterator() {
+        return new Iterator<Issue>() {
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < size;
+            }
+
+            @Override
+            public Issue next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more issues in table");
+                }
+                return get(position++);
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential stream of the issues in this table. The issues are created on demand.
+     *
+     * @return a sequential {@code Stream} over the issues in this table
+     */
+    public Stream<Issue> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Returns the number of issues with the specified severity.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues with the specified severity
+     */
+    public int getSizeOf(final Severity severity) {
+        return getPropertyCount(Column.SEVERITY).getOrDefault(severity.getName(), 0);
+    }
+
+    /**
+     * Returns the different values of the specified property for all issues of this table.
+     *
+     * @param column
+     *         the property
+     *
+     * @return the different values, in the order of their first occurrence
+     */
+    public Set<String> getProperties(final Column column) {
+        return new LinkedHashSet<>(getPropertyCount(column).keySet());
+    }
+
+    /**
+     * Returns the number of issues for each value of the specified property.
+     *
+     * @param column
+     *         the property
+     *
+     * @return the number of issues for each value, in the order of the first occurrence of the values
+     */
+    public Map<String, Integer> getPropertyCount(final Column column) {
+        Dictionary dictionary = dictionaries[column.ordinal()];
+        int[] columnCodes = codes[column.ordinal()];
+        int[] counts = new int[dictionary.size()];
+        for (int i = 0; i < size; i++) {
+            counts[columnCodes[i]]++;
+        }
+
+        Map<String, Integer> propertyCount = new LinkedHashMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                propertyCount.put(dictionary.decode(code).toString(), counts[code]);
+            }
+        }
+        return propertyCount;
+    }
+
+    /**
+     * Returns a new table with all issues of this table whose value of the specified property is accepted by the
+     * specified criterion. The criterion is evaluated only once for each distinct value of the property. The new table
+     * shares the dictionaries with this table.
+     *
+     * @param column
+     *         the property to filter by
+     * @param criterion
+     *         the filter criterion for the values of the property
+     *
+     * @return a new table with the matching issues
+     */
+    public IssueTable filter(final Column column, final Predicate<? super String> criterion) {
+        Dictionary dictionary = dictionaries[column.ordinal()];
+        boolean[] accepted = new boolean[dictionary.size()];
+        for (int code = 0; code < accepted.length; code++) {
+            accepted[code] = criterion.test(dictionary.decode(code).toString());
+        }
+
+        int[] columnCodes = codes[column.ordinal()];
+        int matches = 0;
+        for (int i = 0; i < size; i++) {
+            if (accepted[columnCodes[i]]) {
+                matches++;
+            }
+        }
+
+        IssueTable filtered = new IssueTable(properties.copyEmptyInstance(), dictionaries,
+                Math.max(matches, INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++) {
+            if (accepted[columnCodes[i]]) {
+                filtered.copyRow(this, i);
+            }
+        }
+        return filtered;
+    }
+
+    private void copyRow(final IssueTable source, final int index) {
+        ensureCapacity(size + 1);
+
+        lineStarts[size] = source.lineStarts[index];
+        lineEnds[size] = source.lineEnds[index];
+        columnStarts[size] = source.columnStarts[index];
+        columnEnds[size] = source.columnEnds[index];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i][size] = source.codes[i][index];
+        }
+        mostSignificantIdBits[size] = source.mostSignificantIdBits[index];
+        leastSignificantIdBits[size] = source.leastSignificantIdBits[index];
+        fingerprints[size] = source.fingerprints[index];
+        if (source.lineRanges.containsKey(index)) {
+            lineRanges.put(size, source.lineRanges.get(index));
+        }
+        if (source.additionalProperties.containsKey(index)) {
+            additionalProperties.put(size, source.additionalProperties.get(index));
+        }
+        size++;
+    }
+
+    /**
+     * Converts this table into a {@link Report}. The report contains all issues of this table and the properties
+     * (messages, names of origins, etc.) of the report this table has been created from. Duplicates will be skipped.
+     *
+     * @return the report
+     */
+    public Report toReport() {
+        Report report = properties.copyEmptyInstance();
+        for (Issue issue : this) {
+            report.add(issue);
+        }
+        return report;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d issues (%d distinct files, %d distinct messages)",
+                size, dictionaries[Column.FILE_NAME.ordinal()].size(), dictionaries[Column.MESSAGE.ordinal()].size());
+    }
+
+    /**
+     * The dictionary-encoded properties of an issue.
+     */
+    public enum Column {
+        PATH(Issue::getPath),
+        FILE_NAME(Issue::getPathEntry),
+        PACKAGE_NAME(Issue::getPackageNameEntry),
+        MODULE_NAME(Issue::getModuleName),
+        CATEGORY(Issue::getCategory),
+        TYPE(Issue::getType),
+        SEVERITY(Issue::getSeverity),
+        MESSAGE(Issue::getMessageEntry),
+        DESCRIPTION(Issue::getDescription),
+        ORIGIN(Issue::getOrigin),
+        REFERENCE(Issue::getReference);
+
+        private final Function<Issue, Object> getter;
+
+        Column(final Function<Issue, Object> getter) {
+            this.getter = getter;
+        }
+
+        Object getValue(final Issue issue) {
+            return getter.apply(issue);
+        }
+    }
+
+    /**
+     * Maps the distinct values of a property to consecutive integer codes. The values are identified by their own
+     * {@link Object#equals(Object)} and {@link Object#hashCode()} methods: the values are pooled instances with value
+     * equality, so no string representation needs to be created.
+     */
+    private static final class Dictionary implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Map<Object, Integer> codes = new HashMap<>();
+        private final List<Object> values = new ArrayList<>();
+
+        int encode(final Object value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        Object decode(final int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Screens the lines of a report before the regular expression of a parser is evaluated. A line passes the prefilter if
+ * it contains at least one of the literal tokens of the prefilter. Since a simple {@link String#indexOf(String)} scan
+ * is much faster than {@link java.util.regex.Matcher#find()}, lines that cannot match are skipped cheaply.
+ * <p>
+ * The tokens are either declared by the parser or derived from the regular expression: a literal that is part of
+ * every match of the expression is a valid token. The derivation is conservative: if the expression contains an
+ * alternative on the top level or flags, then no token will be derived and all lines pass the prefilter.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class LinePrefilter {
+    private static final String[] NO_TOKENS = new String[0];
+    /** Escape sequences that are followed by an operand (e.g. a code point or a property name). */
+    private static final String ESCAPES_WITH_OPERAND = "QEcknpPux";
+
+    private final String[] tokens;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder skips = new LongAdder();
+
+    /**
+     * Creates a prefilter for the specified tokens. If no tokens are declared, then the token is derived from the
+     * specified pattern.
+     *
+     * @param pattern
+     *         the pattern of the parser
+     * @param declaredTokens
+     *         the tokens declared by the parser, at least one token is required in a matching line
+     *
+     * @return the prefilter
+     */
+    static LinePrefilter of(final Pattern pattern, final String... declaredTokens) {
+        if (declaredTokens.length > 0) {
+            return new LinePrefilter(declaredTokens.clone());
+        }
+        return new LinePrefilter(deriveTokens(pattern));
+    }
+
+    /**
+     * Creates a prefilter that passes all lines.
+     *
+     * @return the prefilter
+     */
+    static LinePrefilter acceptingAllLines() {
+        return new LinePrefilter(NO_TOKENS);
+    }
+
+    private static String[] deriveTokens(final Pattern pattern) {
+        if (pattern.flags() != 0) {
+            return NO_TOKENS;
+        }
+        return findRequiredLiterals(pattern.pattern()).stream()
+                .max(Comparator.comparingInt(String::length))
+                .map(literal -> new String[] {literal})
+                .orElse(NO_TOKENS);
+    }
+
+    /**
+     * Returns the literals that are part of every match of the specified regular expression. Only the literals of the
+     * top level sequence of the expression are considered: groups, character classes, and escape sequences end a
+     * literal. A quantifier removes the last character from a literal, since this character might not be part of a
+     * match.
+     *
+     * @param regexp
+     *         the regular expression
+     *
+     * @return the required literals, or an empty list if the literals cannot be determined
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    static List<String> findRequiredLiterals(final String regexp) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < regexp.length()) {
+            char c = regexp.charAt(position);
+            if (c == '\\' && position + 1 < regexp.length()) {
+                char escaped = regexp.charAt(position + 1);
+                if (Character.isLetterOrDigit(escaped)) {
+                    if (Character.isDigit(escaped) || ESCAPES_WITH_OPERAND.indexOf(escaped) >= 0) {
+                        return Collections.emptyList();
+                    }
+                    addLiteral(literals, literal);
+                }
+                else {
+                    literal.append(escaped);
+                }
+                position += 2;
+            }
+            else if (c == '(') {
+                if (hasInlineFlags(regexp, position)) {
+                    return Collections.emptyList();
+                }
+                addLiteral(literals, literal);
+                position = skipGroup(regexp, position);
+            }
+            else if (c == '[') {
+                addLiteral(literals, literal);
+                position = skipCharacterClass(regexp, position);
+            }
+            else if (c == '?' || c == '*' || c == '+' || c == '{') {
+                if (literal.length() > 0) {
+                    literal.setLength(literal.length() - 1);
+                }
+                addLiteral(literals, literal);
+                position = c == '{' ? regexp.indexOf('}', position) + 1 : position + 1;
+                if (position == 0) {
+                    return Collections.emptyList();
+                }
+            }
+            else if (c == '|') {
+                return Collections.emptyList();
+            }
+            else if (c == '.' || c == '^' || c == '$') {
+                addLiteral(literals, literal);
+                position++;
+            }
+            else {
+                literal.append(c);
+                position++;
+            }
+        }
+        addLiteral(literals, literal);
+        return literals;
+    }
+
+    private static void addLiteral(final List<String> literals, final StringBuilder literal) {
+        if (literal.length() > 0) {
+            literals.add(literal.toString());
+            literal.setLength(0);
+        }
+    }
+
+    private static boolean hasInlineFlags(final String regexp, final int position) {
+        return regexp.startsWith("(?", position) && position + 2 < regexp.length()
+                && (Character.isLetter(regexp.charAt(position + 2)) || regexp.charAt(position + 2) == '-');
+    }
+
+    private static int skipGroup(final String regexp, final int start) {
+        int depth = 0;
+        int position = start;
+        while (position < regexp.length()) {
+            char c = regexp.charAt(position);
+            if (c == '\\') {
+                position += 2;
+                continue;
+            }
+            if (c == '[') {
+                position = skipCharacterClass(regexp, position);
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            }
+            else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    return position + 1;
+                }
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private static int skipCharacterClass(final String regexp, final int start) {
+        int depth = 0;
+        int position = start;
+        while (position < regexp.length()) {
+            char c = regexp.charAt(position);
+            if (c == '\\') {
+                position += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                position++;
+                if (position < regexp.length() && regexp.charAt(position) == '^') {
+                    position++;
+                }
+                if (position < regexp.length() && regexp.charAt(position) == ']') {
+                    position++; // a closing bracket at the start of a class is a literal
+                }
+                continue;
+            }
+            if (c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return position + 1;
+                }
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private LinePrefilter(final String[] tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Returns the tokens of this prefilter.
+     *
+     * @return the tokens, an empty list if all lines pass the prefilter
+     */
+    List<String> getTokens() {
+        return Arrays.asList(tokens);
+    }
+
+    /**
+     * Returns whether the specified line contains at least one of the tokens.
+     *
+     * @param line
+     *         the line to screen
+     *
+     * @return {@code true} if the line should be handed over to the regular expression, {@code false} if the line
+     *         cannot match the regular expression
+     */
+    boolean test(final CharSequence line) {
+        if (contains(line)) {
+            hits.increment();
+            return true;
+        }
+        skips.increment();
+        return false;
+    }
+
+    private boolean contains(final CharSequence line) {
+        if (tokens.length == 0) {
+            return true;
+        }
+        for (String token : tokens) {
+            if (LineScanner.contains(line, token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getSkipCount() {
+        return skips.sum();
+    }
+}
@@ -0,0 +1,397 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Scans the lines of a {@link Reader} without creating a new {@link String} for each line. The characters are read
+ * into a buffer that is reused for all lines, the current line is provided as {@link CharSequence} view of this
+ * buffer. This view is valid until the next line is read, so it can be used to check cheaply whether a line is of
+ * interest at all, e.g. with {@link String#indexOf(String)} like scans or a {@link java.util.regex.Matcher}. A
+ * {@link String} is created only for the lines that are kept by the caller, see {@link #getLineAsString()}.
+ * <p>
+ * Lines are terminated in the same way as in {@link java.io.BufferedReader#readLine()}: by a line feed, a carriage
+ * return, or a carriage return followed by a line feed. ANSI color codes are removed from each line in place. Lines
+ * without an escape character are not modified at all.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class LineScanner implements Closeable {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final char ESCAPE = 27;
+
+    private final Reader reader;
+    @Nullable
+    private final Function<String, String> lineMapper;
+
+    private char[] buffer;
+    /** Start of the characters in the buffer that have not been scanned yet. */
+    private int position = 0;
+    /** End of the characters in the buffer. */
+    private int limit = 0;
+    private boolean isEndOfInput = false;
+    /** Determines whether a line feed at the start of the next line belongs to the last line. */
+    private boolean skipLineFeed = false;
+
+    private final LineView view = new LineView();
+    @Nullable
+    private CharSequence line;
+    @Nullable
+    private String lineAsString;
+
+    /**
+     * Creates a new instance of {@link LineScanner}.
+     *
+     * @param reader
+     *         the reader to scan
+     */
+    public LineScanner(final Reader reader) {
+        this(reader, null);
+    }
+
+    /**
+     * Creates a new instance of {@link LineScanner}.
+     *
+     * @param reader
+     *         the reader to scan
+     * @param lineMapper
+     *         an optional mapper that transforms each of the lines before the color codes are removed. If a mapper is
+     *         given, then a {@link String} will be created for each line.
+     */
+    LineScanner(final Reader reader, @Nullable final Function<String, String> lineMapper) {
+        this(reader, lineMapper, DEFAULT_BUFFER_SIZE);
+    }
+
+    LineScanner(final Reader reader, @Nullable final Function<String, String> lineMapper, final int bufferSize) {
+        this.reader = reader;
+        this.lineMapper = lineMapper;
+        buffer = new char[bufferSize];
+    }
+
+    /**
+     * Reads the next line. The previous line (and its {@link CharSequence} view) will be discarded.
+     *
+     * @return {@code true} if there is a next line, {@code false} if the end of the input has been reached
+     * @throws ParsingException
+     *         if the input could not be read
+     */
+    public boolean advance() {
+        lineAsString = null;
+        line = null;
+
+        if (skipLineFeed) {
+            if (position == limit) {
+                fill();
+            }
+            if (position < limit && buffer[position] == '\n') {
+                position++;
+            }
+            skipLineFeed = false;
+        }
+
+        int scanned = position;
+        boolean hasEscape = false;
+        while (true) {
+            for (int i = scanned; i < limit; i++) {
+                char c = buffer[i];
+                if (c > ESCAPE) {
+                    continue; // fast path for printable characters
+                }
+                if (c == ESCAPE) {
+                    hasEscape = true;
+                }
+                else if (c == '\n' || c == '\r') {
+                    setLine(position, i, hasEscape);
+                    position = i + 1;
+                    if (c == '\r') {
+                        if (position < limit) {
+                            if (buffer[position] == '\n') {
+                                position++;
+                            }
+                        }
+                        else {
+                            skipLineFeed = true;
+                        }
+                    }
+                    return true;
+                }
+            }
+            scanned = limit - position;
+            if (!fill()) {
+                if (position < limit) {
+                    setLine(position, limit, hasEscape);
+                    position = limit;
+                    return true;
+                }
+                return false;
+            }
+            scanned += position;
+        }
+    }
+
+    /**
+     * Reads more characters into the buffer. The unscanned characters are moved to the start of the buffer, the buffer
+     * grows if it is full.
+     *
+     * @return {@code true} if characters have been read, {@code false} if the end of the input has been reached
+     */
+    private boolean fill() {
+        if (isEndOfInput) {
+            return false;
+        }
+        int remaining = limit - position;
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+            position = 0;
+            limit = remaining;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        try {
+            int read;
+            do {
+                read = reader.read(buffer, limit, buffer.length - limit);
+            }
+            while (read == 0);
+            if (read < 0) {
+                isEndOfInput = true;
+                return false;
+            }
+            limit += read;
+            return true;
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    private void setLine(final int start, final int end, final boolean hasEscape) {
+        if (lineMapper == null) {
+            view.set(buffer, start, hasEscape ? removeColorCodes(buffer, start, end) : end);
+            line = view;
+        }
+        else {
+            lineAsString = removeColorCodes(lineMapper.apply(new String(buffer, start, end - start)));
+            line = lineAsString;
+        }
+    }
+
+    /**
+     * Returns the current line as {@link CharSequence}. The returned instance is a view that is valid until the next
+     * invocation of {@link #advance()}.
+     *
+     * @return the current line
+     * @throws NoSuchElementException
+     *         if there is no current line
+     */
+    public CharSequence getLine() {
+        if (line == null) {
+            throw new NoSuchElementException("There is no current line");
+        }
+        return line;
+    }
+
+    /**
+     * Returns the current line as {@link String}. The string is created on the first invocation for the current line.
+     *
+     * @return the current line
+     * @throws NoSuchElementException
+     *         if there is no current line
+     */
+    public String getLineAsString() {
+        if (lineAsString == null) {
+            lineAsString = getLine().toString();
+        }
+        return lineAsString;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Removes the ANSI color codes from the specified line. If the line does not contain an escape character, then the
+     * line is returned unchanged.
+     *
+     * @param line
+     *         the line to clean
+     *
+     * @return the line without color codes
+     */
+    static String removeColorCodes(final String line) {
+        if (line.indexOf(ESCAPE) < 0) {
+            return line;
+        }
+        char[] characters = line.toCharArray();
+        return new String(characters, 0, removeColorCodes(characters, 0, characters.length));
+    }
+
+    /**
+     * Removes the ANSI color codes (i.e. the sequences that match {@code ESC\[[;\d]*[ -/]*[@-~]}) from the specified
+     * region of the characters. The characters are moved in place.
+     *
+     * @param characters
+     *         the characters
+     * @param start
+     *         the start of the region
+     * @param end
+     *         the end of the region (exclusive)
+     *
+     * @return the new end of the region
+     */
+    static int removeColorCodes(final char[] characters, final int start, final int end) {
+        int source = start;
+        while (source < end && characters[source] != ESCAPE) {
+            source++;
+        }
+        int target = source;
+        while (source < end) {
+            int codeEnd = characters[source] == ESCAPE ? findEndOfColorCode(characters, source, end) : -1;
+            if (codeEnd < 0) {
+                characters[target++] = characters[source++];
+            }
+            else {
+                source = codeEnd;
+            }
+        }
+        return target;
+    }
+
+    @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
+    private static int findEndOfColorCode(final char[] characters, final int escape, final int end) {
+        int position = escape + 1;
+        if (position >= end || characters[position] != '[') {
+            return -1;
+        }
+        position++;
+        while (position < end && (characters[position] == ';' || isDigit(characters[position]))) {
+            position++;
+        }
+        while (position < end && characters[position] >= ' ' && characters[position] <= '/') {
+            position++;
+        }
+        if (position < end && characters[position] >= '@' && characters[position] <= '~') {
+            return position + 1;
+        }
+        return -1;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns whether the specified text contains the specified token.
+     *
+     * @param text
+     *         the text to search in
+     * @param token
+     *         the token to search for
+     *
+     * @return {@code true} if the text contains the token, {@code false} otherwise
+     */
+    static boolean contains(final CharSequence text, final String token) {
+        if (text instanceof String) {
+            return ((String) text).contains(token);
+        }
+        if (text instanceof LineView) {
+            return ((LineView) text).contains(token);
+        }
+        int tokenLength = token.length();
+        if (tokenLength == 0) {
+            return true;
+        }
+        char first = token.charAt(0);
+        int last = text.length() - tokenLength;
+        for (int i = 0; i <= last; i++) {
+            if (text.charAt(i) == first && regionMatches(text, i, token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(final CharSequence text, final int offset, final String token) {
+        for (int j = 1; j < token.length(); j++) {
+            if (text.charAt(offset + j) != token.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A {@link CharSequence} view of a region of the buffer.
+     */
+    private static final class LineView implements CharSequence {
+        private char[] characters = new char[0];
+        private int start;
+        private int end;
+
+        void set(final char[] newCharacters, final int newStart, final int newEnd) {
+            characters = newCharacters;
+            start = newStart;
+            end = newEnd;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        boolean contains(final String token) {
+            int tokenLength = token.length();
+            if (tokenLength == 0) {
+                return true;
+            }
+            char first = token.charAt(0);
+            int last = end - tokenLength;
+            for (int i = start; i <= last; i++) {
+                if (characters[i] == first && regionMatches(i, token)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean regionMatches(final int offset, final String token) {
+            for (int j = 1; j < token.length(); j++) {
+                if (characters[offset + j] != token.charAt(j)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("Index out of range: " + index);
+            }
+            return characters[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(final int subStart, final int subEnd) {
+            if (subStart < 0 || subEnd > length() || subStart > subEnd) {
+                throw new IndexOutOfBoundsException(
+                        String.format("Invalid range [%d, %d) for length %d", subStart, subEnd, length()));
+            }
+            return new String(characters, start + subStart, subEnd - subStart);
+        }
+
+        @Override
+        public String toString() {
+            return new String(characters, start, length());
+        }
+    }
+}
@@ -1,11 +1,25 @@
 package edu.hm.hafner.analysis;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import edu.hm.hafner.util.LookaheadStream;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * Parses a report file line by line for issues using a pre-defined regular expression. If the regular expression
@@ -28,47 +42,287 @@ public abstract class LookaheadParser extends IssueParser {
     private static final String CMAKE_PREFIX = "-- Build files have";
     private static final Pattern CMAKE_PATH = Pattern.compile(CMAKE_PREFIX + " been written to: (?<dir>.*)");
 
+    /** Number of lines that are parsed as a single task in {@link #parseInParallel(ReaderFactory, Executor)}. */
+    static final int CHUNK_SIZE = 8192;
+
     private final Pattern pattern;
+    private final String[] requiredTokens;
+
+    private transient LinePrefilter prefilter;
 
     /**
-     * Creates a new instance of {@link LookaheadParser}.
+     * Creates a new instance of {@link LookaheadParser}. Lines that do not contain the longest literal of the pattern
+     * that is required in every match will be skipped before the pattern is evaluated. If the parser overrides {@link
+     * #isLineInteresting(String)}, then no literal is derived: such a parser might need to inspect every line (e.g. to
+     * track the active module).
      *
      * @param pattern
      *         pattern of compiler warnings.
      */
     protected LookaheadParser(final String pattern) {
+        this(pattern, new String[0]);
+    }
+
+    /**
+     * Creates a new instance of {@link LookaheadParser}. Lines that do not contain at least one of the specified tokens
+     * will be skipped before the pattern is evaluated.
+     *
+     * @param pattern
+     *         pattern of compiler warnings.
+     * @param requiredTokens
+     *         the tokens that are required in matching lines, a line needs to contain at least one of the tokens. If
+     *         no tokens are specified, then the token is derived from the pattern - unless the parser overrides {@link
+     *         #isLineInteresting(String)}.
+     */
+    protected LookaheadParser(final String pattern, final String... requiredTokens) {
         super();
 
         this.pattern = Pattern.compile(pattern);
+        this.requiredTokens = requiredTokens.clone();
+        prefilter = createPrefilter();
+    }
+
+    private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+        input.defaultReadObject();
+
+        prefilter = createPrefilter();
+    }
+
+    private LinePrefilter createPrefilter() {
+        String[] tokens = requiredTokens == null ? new String[0] : requiredTokens; // old format
+        // the implementation of RegexpLineParser is stateless, it just skips long lines
+        Class<?> base = this instanceof RegexpLineParser ? RegexpLineParser.class : LookaheadParser.class;
+        if (tokens.length == 0 && isOverridden(base, "isLineInteresting", String.class)) {
+            return LinePrefilter.acceptingAllLines();
+        }
+        return LinePrefilter.of(pattern, tokens);
+    }
+
+    /**
+     * Returns the number of lines that passed the prefilter of this parser and have been evaluated by the pattern.
+     *
+     * @return the number of lines that passed the prefilter
+     */
+    public long getPrefilterHitCount() {
+        return prefilter.getHitCount();
+    }
+
+    /**
+     * Returns the number of lines that have been skipped by the prefilter of this parser since they do not contain
+     * the required tokens.
+     *
+     * @return the number of skipped lines
+     */
+    public long getPrefilterSkipCount() {
+        return prefilter.getSkipCount();
     }
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
         Report report = new Report();
+        try (ScannedLookaheadStream lookahead = new ScannedLookaheadStream(readerFactory.readLines(),
+                readerFactory.getFileName())) {
+            parse(report::add, lookahead);
+        }
+
+        return postProcess(report);
+    }
+
+    /**
+     * Parses the specified file for issues and appends the issues to the specified {@link SpillingReport}. Use this
+     * method rather than {@link #parse(ReaderFactory)} for files that might contain more issues than fit into memory.
+     * Note that {@link #postProcess(Report) post processing} requires all issues of the file: so if this parser
+     * overrides {@link #postProcess(Report)}, then the issues are parsed into memory and appended to the specified
+     * report after post processing.
+     *
+     * @param readerFactory
+     *         provides a reader to the reports
+     * @param report
+     *         the report to append the issues to
+     *
+     * @throws ParsingCanceledException
+     *         Signals that the user canceled this operation
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     */
+    public void parse(final ReaderFactory readerFactory, final SpillingReport report)
+            throws ParsingException, ParsingCanceledException {
+        if (isOverridden(LookaheadParser.class, "postProcess", Report.class)) {
+            report.addAll(parse(readerFactory));
+
+            return;
+        }
+        try (ScannedLookaheadStream lookahead = new ScannedLookaheadStream(readerFactory.readLines(),
+                readerFactory.getFileName())) {
+            parse(report::add, lookahead);
+        }
+        catch (UncheckedIOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Parses the specified file for issues using the {@link ForkJoinPool#commonPool() common fork/join pool}. See
+     * {@link #parseInParallel(ReaderFactory, Executor)} for details.
+     *
+     * @param readerFactory
+     *         provides a reader to the reports
+     *
+     * @return the issues
+     * @throws ParsingCanceledException
+     *         Signals that the user canceled this operation
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     */
+    public Report parseInParallel(final ReaderFactory readerFactory)
+            throws ParsingException, ParsingCanceledException {
+        return parseInParallel(readerFactory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses the specified file for issues in parallel. If this parser is {@link #isLineIndependent() line
+     * independent}, then the lines of the file are split into chunks that are parsed by the specified executor. The
+     * current make or cmake directory at the start of each chunk is determined while reading the file, and the line
+     * numbers of each chunk start after the lines of the preceding chunks. The issues of the chunks are merged in the
+     * order of the file, so the result is the same as the result of {@link #parse(ReaderFactory)}. Parsers that are
+     * not line independent parse the file sequentially.
+     *
+     * @param readerFactory
+     *         provides a reader to the reports
+     * @param executor
+     *         the executor that parses the chunks
+     *
+     * @return the issues
+     * @throws ParsingCanceledException
+     *         Signals that the user canceled this operation
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     */
+    public Report parseInParallel(final ReaderFactory readerFactory, final Executor executor)
+            throws ParsingException, ParsingCanceledException {
+        if (!isLineIndependent()) {
+            return parse(readerFactory);
+        }
+        return postProcess(parseChunks(readerFactory, executor, CHUNK_SIZE,
+                2 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Parses the specified file in chunks of lines. At most {@code maximumPendingChunks} chunks are kept in memory
+     * while the chunks are parsed by the executor.
+     *
+     * @param readerFactory
+     *         provides a reader to the reports
+     * @param executor
+     *         the executor that parses the chunks
+     * @param chunkSize
+     *         the number of lines of a chunk
+     * @param maximumPendingChunks
+     *         the maximum number of chunks that are read but not merged yet
+     *
+     * @return the issues, not post processed yet
+     */
+    Report parseChunks(final ReaderFactory readerFactory, final Executor executor, final int chunkSize,
+            final int maximumPendingChunks) {
+        Report report = new Report();
+        Deque<CompletableFuture<List<Issue>>> pending = new ArrayDeque<>();
         try (Stream<String> lines = readerFactory.readStream()) {
-            try (LookaheadStream lookahead = new LookaheadStream(lines, readerFactory.getFileName())) {
-                parse(report, lookahead);
+            String fileName = readerFactory.getFileName();
+            Iterator<String> iterator = lines.iterator();
+
+            int linesBefore = 0;
+            String directory = null;
+            while (iterator.hasNext()) {
+                String chunkDirectory = directory;
+                List<String> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && iterator.hasNext()) {
+                    String line = iterator.next();
+                    chunk.add(line);
+                    directory = findDirectory(line, directory);
+                }
+                if (Thread.interrupted()) {
+                    throw new ParsingCanceledException();
+                }
+
+                int chunkStart = linesBefore;
+                pending.add(CompletableFuture.supplyAsync(
+                        () -> parseChunk(chunk, fileName, chunkStart, chunkDirectory), executor));
+                linesBefore += chunk.size();
+
+                if (pending.size() >= maximumPendingChunks) {
+                    report.addAll(join(pending.removeFirst()));
+                }
+            }
+            while (!pending.isEmpty()) {
+                report.addAll(join(pending.removeFirst()));
             }
+            return report;
+        }
+        catch (UncheckedIOException exception) {
+            throw new ParsingException(exception);
+        }
+        finally {
+            pending.forEach(chunk -> chunk.cancel(false));
         }
+    }
 
-        return postProcess(report);
+    private List<Issue> parseChunk(final List<String> lines, final String fileName, final int linesBefore,
+            @Nullable final String directory) {
+        List<Issue> issues = new ArrayList<>();
+        IssueBuilder builder = new IssueBuilder().setDirectory(directory);
+        try (LookaheadStream lookahead = new LookaheadStream(lines.stream(), fileName, linesBefore)) {
+            while (lookahead.hasNext()) {
+                parseNextLine(issues::add, lookahead, builder);
+            }
+        }
+        return issues;
     }
 
-    private void parse(final Report report, final LookaheadStream lookahead) {
+    private static List<Issue> join(final CompletableFuture<List<Issue>> chunk) {
+        try {
+            return chunk.join();
+        }
+        catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the make or cmake directory that is active after the specified line. This is a cheap pre-scan of the
+     * directory handling in {@link #parseNextLine(Consumer, LookaheadStream, IssueBuilder)}.
+     *
+     * @param line
+     *         the line to inspect
+     * @param directory
+     *         the directory that is active before the specified line
+     *
+     * @return the active directory
+     */
+    @Nullable
+    private static String findDirectory(final String line, @Nullable final String directory) {
+        String found = null;
+        if (line.contains(ENTERING_DIRECTORY)) {
+            found = matchDirectory(line, MAKE_PATH);
+        }
+        else if (line.contains(CMAKE_PREFIX)) {
+            found = matchDirectory(line, CMAKE_PATH);
+        }
+        return found == null ? directory : found;
+    }
+
+    private void parse(final Consumer<Issue> report, final ScannedLookaheadStream lookahead) {
         IssueBuilder builder = new IssueBuilder();
         while (lookahead.hasNext()) {
-            String line = lookahead.next();
-            if (line.contains(ENTERING_DIRECTORY)) {
-                extractAndStoreDirectory(builder, line, MAKE_PATH);
-            }
-            else if (line.contains(CMAKE_PREFIX)) {
-                extractAndStoreDirectory(builder, line, CMAKE_PATH);
+            CharSequence next = lookahead.peekSequence();
+            if (isDirectoryLine(next) || prefilter.test(next)) {
+                parseLine(report, lookahead.next(), lookahead, builder);
             }
-            else if (isLineInteresting(line)) {
-                Matcher matcher = pattern.matcher(line);
-                if (matcher.find()) {
-                    createIssue(matcher, lookahead, builder).ifPresent(report::add);
-                }
+            else {
+                lookahead.skip(); // skip the line without creating a String
             }
             if (Thread.interrupted()) {
                 throw new ParsingCanceledException();
@@ -76,11 +330,72 @@ public abstract class LookaheadParser extends IssueParser {
         }
     }
 
+    private static boolean isDirectoryLine(final CharSequence line) {
+        return LineScanner.contains(line, ENTERING_DIRECTORY) || LineScanner.contains(line, CMAKE_PREFIX);
+    }
+
+    /**
+     * Parses the next line of the specified {@link LookaheadStream}. If the line is a make or cmake directory
+     * notification, then the directory is stored in the specified builder. Otherwise, the line is handed over to
+     * {@link #createIssue(Matcher, LookaheadStream, IssueBuilder)} if it matches the pattern of this parser. Note that
+     * this method may consume additional lines of the stream.
+     *
+     * @param report
+     *         the consumer of the created issues
+     * @param lookahead
+     *         the lines to parse, must have a next line
+     * @param builder
+     *         the issue builder that holds the parsing state of the current file
+     */
+    void parseNextLine(final Consumer<Issue> report, final LookaheadStream lookahead, final IssueBuilder builder) {
+        String line = lookahead.next();
+        if (isDirectoryLine(line) || prefilter.test(line)) {
+            parseLine(report, line, lookahead, builder);
+        }
+    }
+
+    /**
+     * Parses a line that has been read already and that passed the prefilter.
+     *
+     * @param report
+     *         the consumer of the created issues
+     * @param line
+     *         the line to parse
+     * @param lookahead
+     *         the lookahead stream to read additional lines
+     * @param builder
+     *         the issue builder that holds the parsing state of the current file
+     */
+    private void parseLine(final Consumer<Issue> report, final String line, final LookaheadStream lookahead,
+            final IssueBuilder builder) {
+        if (line.contains(ENTERING_DIRECTORY)) {
+            extractAndStoreDirectory(builder, line, MAKE_PATH);
+        }
+        else if (line.contains(CMAKE_PREFIX)) {
+            extractAndStoreDirectory(builder, line, CMAKE_PATH);
+        }
+        else if (isLineInteresting(line)) {
+            Matcher matcher = pattern.matcher(line);
+            if (matcher.find()) {
+                createIssue(matcher, lookahead, builder).ifPresent(report);
+            }
+        }
+    }
+
     private void extractAndStoreDirectory(final IssueBuilder builder, final String line, final Pattern makePath) {
+        String directory = matchDirectory(line, makePath);
+        if (directory != null) {
+            builder.setDirectory(directory);
+        }
+    }
+
+    @Nullable
+    private static String matchDirectory(final String line, final Pattern makePath) {
         Matcher makeLineMatcher = makePath.matcher(line);
         if (makeLineMatcher.matches()) {
-            builder.setDirectory(makeLineMatcher.group("dir"));
+            return makeLineMatcher.group("dir");
         }
+        return null;
     }
 
     /**
@@ -105,6 +420,11 @@ public abstract class LookaheadParser extends IssueParser {
      * Returns whether the specified line is interesting. Each interesting line will be matched by the defined regular
      * expression. Here a parser can implement some fast checks (i.e. string or character comparisons) in order to see
      * if a required condition is met. This default implementation does always return {@code true}.
+     * <p>
+     * If a parser overrides this method, then this method is invoked for every line of the report: the prefilter
+     * does not derive a required literal from the pattern in this case. Parsers that do not need to see every line
+     * should declare the required tokens in the constructor.
+     * </p>
      *
      * @param line
      *         the line to inspect
@@ -116,6 +436,45 @@ public abstract class LookaheadParser extends IssueParser {
         return true;
     }
 
+    /**
+     * Returns whether the lines of a file can be parsed independently of each other. Then the file can be split into
+     * chunks that are parsed in parallel, see {@link #parseInParallel(ReaderFactory, Executor)}. A parser is line
+     * independent if {@link #createIssue(Matcher, LookaheadStream, IssueBuilder)} does not consume additional lines,
+     * sets all properties of the builder that it uses for each issue, and does not store any state in the parser
+     * instance. This default implementation returns {@code false}.
+     *
+     * @return {@code true} if the lines can be parsed independently, {@code false} otherwise
+     */
+    protected boolean isLineIndependent() {
+        return false;
+    }
+
+    /**
+     * Returns whether the specified method of the given base class is overridden by a subclass.
+     *
+     * @param base
+     *         the base class that declares the method
+     * @param name
+     *         the name of the method
+     * @param parameterTypes
+     *         the parameter types of the method
+     *
+     * @return {@code true} if a subclass overrides the method, {@code false} otherwise
+     */
+    private boolean isOverridden(final Class<?> base, final String name, final Class<?>... parameterTypes) {
+        for (Class<?> type = getClass(); type != base; type = type.getSuperclass()) {
+            try {
+                type.getDeclaredMethod(name, parameterTypes);
+
+                return true;
+            }
+            catch (NoSuchMethodException ignore) {
+                // continue with the super class
+            }
+        }
+        return false;
+    }
+
     /**
      * Post processes the issues. This default implementation does nothing.
      *
@@ -0,0 +1,698 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import edu.hm.hafner.analysis.IssueTable.Column;
+import edu.hm.hafner.util.NoSuchElementException;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A read-only report that is stored in a memory-mapped file. Only the requested issues are created on the heap, all
+ * other issues remain on disk (or in the page cache of the operating system). Use {@link #create(Report, Path)} to
+ * store a report in a file and {@link #open(Path)} to map an existing file.
+ * <p>
+ * The file consists of the following sections:
+ * </p>
+ * <ul>
+ *     <li>A header with the number of issues and strings, the offsets of the other sections, and a hash of the
+ *     layout of the issue records.</li>
+ *     <li>The issue records: each issue is stored as a record of fixed width, so the issue with a given index can be
+ *     located directly. All string properties of an issue are stored as index into the string heap, in the order
+ *     of the file's own field list.</li>
+ *     <li>An index of all issues sorted by ID, used by {@link #findById(UUID)}.</li>
+ *     <li>An index of all issues by file name (sorted by file name), used by {@link #findByFileName(String)}.</li>
+ *     <li>The line ranges of the issues.</li>
+ *     <li>The string heap: each distinct string is stored only once using UTF-8.</li>
+ *     <li>The serialized additional properties of the issues.</li>
+ *     <li>The properties of the report (messages, names of origins, etc.).</li>
+ * </ul>
+ * <p>
+ * Since the file is mapped as a single buffer, its size is limited to 2 GB. Instances of this class are immutable
+ * and can be used by several threads concurrently.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class MappedReport implements Iterable<Issue> {
+    private static final int MAGIC_NUMBER = 0x52505432; // RPT2
+    private static final int VERSION = 2;
+
+    private static final StringField[] STRING_FIELDS = StringField.values();
+    /** Identifies the layout of the issue records, a file with a different layout is rejected when opened. */
+    private static final int SCHEMA_HASH = computeSchemaHash();
+
+    private static final int ID_MOST_SIGNIFICANT_BITS = 0;
+    private static final int ID_LEAST_SIGNIFICANT_BITS = 8;
+    private static final int LINE_START = 16;
+    private static final int LINE_END = 20;
+    private static final int COLUMN_START = 24;
+    private static final int COLUMN_END = 28;
+    private static final int COLUMN_VALUES = 32;
+    private static final int FINGERPRINT = COLUMN_VALUES + STRING_FIELDS.length * Integer.BYTES;
+    private static final int LINE_RANGES_OFFSET = FINGERPRINT + Integer.BYTES;
+    private static final int LINE_RANGES_COUNT = LINE_RANGES_OFFSET + Integer.BYTES;
+    private static final int ADDITIONAL_PROPERTIES_OFFSET = LINE_RANGES_COUNT + Integer.BYTES;
+    private static final int ADDITIONAL_PROPERTIES_LENGTH = ADDITIONAL_PROPERTIES_OFFSET + Integer.BYTES;
+    private static final int RECORD_SIZE = ADDITIONAL_PROPERTIES_LENGTH + Integer.BYTES;
+
+    private static final int ID_ENTRY_SIZE = 2 * Long.BYTES + Integer.BYTES;
+    private static final int FILE_ENTRY_SIZE = 3 * Integer.BYTES;
+    private static final int HEADER_SIZE = 15 * Integer.BYTES;
+
+    private static int computeSchemaHash() {
+        StringBuilder schema = new StringBuilder("id,lineStart,lineEnd,columnStart,columnEnd");
+        for (StringField field : STRING_FIELDS) {
+            schema.append(',').append(field.name());
+        }
+        return schema.append(",fingerprint,lineRanges,additionalProperties").toString().hashCode();
+    }
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int fileCount;
+    private final int recordsOffset;
+    private final int idIndexOffset;
+    private final int fileIndexOffset;
+    private final int postingsOffset;
+    private final int lineRangesOffset;
+    private final int stringOffsetsOffset;
+    private final int heapOffset;
+    private final int additionalPropertiesOffset;
+    private final int propertiesOffset;
+
+    /**
+     * Stores the specified report in the specified file and maps the file into memory. An existing file will be
+     * overwritten.
+     *
+     * @param report
+     *         the report to store
+     * @param file
+     *         the file to create
+     *
+     * @return the mapped report
+     * @throws IOException
+     *         if the file could not be written
+     */
+    public static MappedReport create(final Report report, final Path file) throws IOException {
+        new MappedReportWriter(report).write(file);
+
+        return open(file);
+    }
+
+    /**
+     * Maps the specified file into memory. The file must have been created using {@link #create(Report, Path)}.
+     *
+     * @param file
+     *         the file to map
+     *
+     * @return the mapped report
+     * @throws IOException
+     *         if the file could not be mapped
+     * @throws IllegalArgumentException
+     *         if the file does not contain a mapped report
+     */
+    public static MappedReport open(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Mapped report file is too large: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+
+            return new MappedReport(buffer);
+        }
+    }
+
+    private MappedReport(final ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC_NUMBER) {
+            throw new IllegalArgumentException("Not a valid mapped report file");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Unsupported version of mapped report file: " + buffer.getInt(4));
+        }
+        if (buffer.getInt(14 * Integer.BYTES) != SCHEMA_HASH) {
+            throw new IllegalArgumentException("Unsupported record layout of mapped report file");
+        }
+        size = buffer.getInt(2 * Integer.BYTES);
+        fileCount = buffer.getInt(3 * Integer.BYTES);
+        recordsOffset = buffer.getInt(4 * Integer.BYTES);
+        idIndexOffset = buffer.getInt(5 * Integer.BYTES);
+        fileIndexOffset = buffer.getInt(6 * Integer.BYTES);
+        postingsOffset = buffer.getInt(7 * Integer.BYTES);
+        lineRangesOffset = buffer.getInt(8 * Integer.BYTES);
+        stringOffsetsOffset = buffer.getInt(9 * Integer.BYTES);
+        heapOffset = buffer.getInt(10 * Integer.BYTES);
+        additionalPropertiesOffset = buffer.getInt(11 * Integer.BYTES);
+        propertiesOffset = buffer.getInt(12 * Integer.BYTES);
+    }
+
+    /**
+     * Returns the number of issues in this report.
+     *
+     * @return total number of issues
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this report is empty.
+     *
+     * @return {@code true} if this report is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the issue with the specified index. Each invocation creates a new {@link Issue} instance.
+     *
+     * @param index
+     *         the index
+     *
+     * @return the issue at the specified index
+     * @throws IndexOutOfBoundsException
+     *         if there is no element for the given index
+     */
+    public Issue get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No issue at index " + index + ", size is " + size);
+        }
+        int record = recordsOffset + index * RECORD_SIZE;
+        InterningPool pool = InterningPool.getShared();
+        return new Issue(getValue(record, StringField.PATH), pool.internPath(getValue(record, StringField.FILE_NAME)),
+                buffer.getInt(record + LINE_START), buffer.getInt(record + LINE_END),
+                buffer.getInt(record + COLUMN_START), buffer.getInt(record + COLUMN_END),
+                getLineRanges(record),
+                getValue(record, StringField.CATEGORY), getValue(record, StringField.TYPE),
+                pool.internText(getValue(record, StringField.PACKAGE_NAME)),
+                getValue(record, StringField.MODULE_NAME),
+                Severity.valueOf(getValue(record, StringField.SEVERITY)),
+                pool.internText(getValue(record, StringField.MESSAGE)),
+                getValue(record, StringField.DESCRIPTION),
+                getValue(record, StringField.ORIGIN), getValue(record, StringField.REFERENCE),
+                getString(buffer.getInt(record + FINGERPRINT)), getAdditionalProperties(record),
+                new UUID(buffer.getLong(record + ID_MOST_SIGNIFICANT_BITS),
+                        buffer.getLong(record + ID_LEAST_SIGNIFICANT_BITS)));
+    }
+
+    private String getValue(final int record, final StringField field) {
+        return getString(getStringIndex(record, field));
+    }
+
+    private int getStringIndex(final int record, final StringField field) {
+        return buffer.getInt(record + COLUMN_VALUES + field.ordinal() * Integer.BYTES);
+    }
+
+    private LineRangeList getLineRanges(final int record) {
+        int count = buffer.getInt(record + LINE_RANGES_COUNT);
+        LineRangeList lineRanges = new LineRangeList(count);
+        int position = lineRangesOffset + buffer.getInt(record + LINE_RANGES_OFFSET);
+        for (int i = 0; i < count; i++) {
+            lineRanges.add(new LineRange(buffer.getInt(position), buffer.getInt(position + Integer.BYTES)));
+            position += 2 * Integer.BYTES;
+        }
+        return lineRanges;
+    }
+
+    @Nullable
+    private Serializable getAdditionalProperties(final int record) {
+        int length = buffer.getInt(record + ADDITIONAL_PROPERTIES_LENGTH);
+        if (length == 0) {
+            return null;
+        }
+        byte[] serialized = getBytes(additionalPropertiesOffset + buffer.getInt(record + ADDITIONAL_PROPERTIES_OFFSET),
+                length);
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return (Serializable) input.readObject();
+        }
+        catch (IOException | ClassNotFoundException exception) {
+            throw new IllegalStateException("Can't restore additional properties of issue", exception);
+        }
+    }
+
+    private String getString(final int index) {
+        int start = buffer.getInt(stringOffsetsOffset + index * Integer.BYTES);
+        int end = buffer.getInt(stringOffsetsOffset + (index + 1) * Integer.BYTES);
+        return new String(getBytes(heapOffset + start, end - start), StandardCharsets.UTF_8);
+    }
+
+    private byte[] getBytes(final int position, final int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(position);
+        view.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public Iterator<Issue> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * Returns a sequential stream of the issues in this report. The issues are created on demand.
+     *
+     * @return a sequential {@code Stream} over the issues in this report
+     */
+    public Stream<Issue> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Returns the issue with the specified ID. The issue is located using a binary search in the ID index.
+     *
+     * @param issueId
+     *         the ID of the issue
+     *
+     * @return the found issue
+     * @throws NoSuchElementException
+     *         if there is no such issue found
+     */
+    public Issue findById(final UUID issueId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entry = idIndexOffset + middle * ID_ENTRY_SIZE;
+            int comparison = new UUID(buffer.getLong(entry), buffer.getLong(entry + Long.BYTES)).compareTo(issueId);
+            if (comparison < 0) {
+                low = middle + 1;
+            }
+            else if (comparison > 0) {
+                high = middle - 1;
+            }
+            else {
+                return get(buffer.getInt(entry + 2 * Long.BYTES));
+            }
+        }
+        throw new NoSuchElementException("No issue found with id %s.", issueId);
+    }
+
+    /**
+     * Returns all issues with the specified file name. The issues are located using a binary search in the file name
+     * index.
+     *
+     * @param fileName
+     *         the file name of the issues (see {@link Issue#getFileName()})
+     *
+     * @return a new report with the found issues, in the order of this report
+     */
+    public Report findByFileName(final String fileName) {
+        Report found = createEmptyReport();
+        int low = 0;
+        int high = fileCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entry = fileIndexOffset + middle * FILE_ENTRY_SIZE;
+            int comparison = getString(buffer.getInt(entry)).compareTo(fileName);
+            if (comparison < 0) {
+                low = middle + 1;
+            }
+            else if (comparison > 0) {
+                high = middle - 1;
+            }
+            else {
+                int postings = postingsOffset + buffer.getInt(entry + Integer.BYTES);
+                int count = buffer.getInt(entry + 2 * Integer.BYTES);
+                for (int i = 0; i < count; i++) {
+                    found.add(get(buffer.getInt(postings + i * Integer.BYTES)));
+                }
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the different file names of all issues.
+     *
+     * @return the file names, sorted alphabetically
+     */
+    public Set<String> getFiles() {
+        Set<String> files = new LinkedHashSet<>();
+        for (int i = 0; i < fileCount; i++) {
+            files.add(getString(buffer.getInt(fileIndexOffset + i * FILE_ENTRY_SIZE)));
+        }
+        return files;
+    }
+
+    /**
+     * Returns all issues whose value of the specified property is accepted by the specified criterion. Only the
+     * string indexes in the issue records are scanned, each distinct value is decoded and evaluated only once. Issue
+     * instances are created for the matching issues only.
+     *
+     * @param column
+     *         the property to filter by
+     * @param criterion
+     *         the filter criterion for the values of the property
+     *
+     * @return a new report with the matching issues, in the order of this report
+     */
+    public Report filter(final Column column, final Predicate<? super String> criterion) {
+        Report filtered = createEmptyReport();
+        Map<Integer, Boolean> accepted = new HashMap<>();
+        StringField field = StringField.of(column);
+        for (int i = 0; i < size; i++) {
+            int value = getStringIndex(recordsOffset + i * RECORD_SIZE, field);
+            if (accepted.computeIfAbsent(value, index -> criterion.test(getString(index)))) {
+                filtered.add(get(i));
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Returns the number of issues for each value of the specified property. Only the string indexes in the issue
+     * records are scanned, no issue instances are created.
+     *
+     * @param column
+     *         the property
+     *
+     * @return the number of issues for each value, in the order of the first occurrence of the values
+     */
+    public Map<String, Integer> getPropertyCount(final Column column) {
+        Map<Integer, Integer> counts = new LinkedHashMap<>();
+        StringField field = StringField.of(column);
+        for (int i = 0; i < size; i++) {
+            counts.merge(getStringIndex(recordsOffset + i * RECORD_SIZE, field), 1, Integer::sum);
+        }
+        Map<String, Integer> propertyCount = new LinkedHashMap<>();
+        for (Entry<Integer, Integer> count : counts.entrySet()) {
+            propertyCount.put(getString(count.getKey()), count.getValue());
+        }
+        return propertyCount;
+    }
+
+    /**
+     * Loads all issues of this report into a new {@link Report}.
+     *
+     * @return the report
+     */
+    public Report toReport() {
+        Report report = createEmptyReport();
+        for (int i = 0; i < size; i++) {
+            report.add(get(i));
+        }
+        return report;
+    }
+
+    /**
+     * Creates an empty report with the properties (messages, names of origins, etc.) of the stored report.
+     *
+     * @return the empty report
+     */
+    private Report createEmptyReport() {
+        Report report = new Report();
+        int position = propertiesOffset;
+
+        int infoMessages = buffer.getInt(position);
+        for (int i = 0; i < infoMessages; i++) {
+            position += Integer.BYTES;
+            report.logInfo("%s", getString(buffer.getInt(position)));
+        }
+        position += Integer.BYTES;
+        int errorMessages = buffer.getInt(position);
+        for (int i = 0; i < errorMessages; i++) {
+            position += Integer.BYTES;
+            report.logError("%s", getString(buffer.getInt(position)));
+        }
+        position += Integer.BYTES;
+        int fileNames = buffer.getInt(position);
+        for (int i = 0; i < fileNames; i++) {
+            position += Integer.BYTES;
+            report.addFileName(getString(buffer.getInt(position)));
+        }
+        position += Integer.BYTES;
+        int names = buffer.getInt(position);
+        for (int i = 0; i < names; i++) {
+            report.setNameOfOrigin(getString(buffer.getInt(position + Integer.BYTES)),
+                    getString(buffer.getInt(position + 2 * Integer.BYTES)));
+            position += 2 * Integer.BYTES;
+        }
+        position += Integer.BYTES;
+        report.addDuplicates(buffer.getInt(position));
+
+        return report;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d issues (mapped)", size);
+    }
+
+    /**
+     * Writes a report into a file using the format of a {@link MappedReport}.
+     */
+    private static final class MappedReportWriter {
+        private final Report report;
+        private final Issue[] issues;
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final ByteArrayOutputStream heap = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream additionalProperties = new ByteArrayOutputStream();
+        private final List<Integer> stringOffsets = new ArrayList<>();
+
+        MappedReportWriter(final Report report) {
+            this.report = report;
+            issues = report.stream().toArray(Issue[]::new);
+        }
+
+        void write(final Path file) throws IOException {
+            ByteArrayOutputStream records = new ByteArrayOutputStream(issues.length * RECORD_SIZE);
+            ByteArrayOutputStream lineRanges = new ByteArrayOutputStream();
+            writeRecords(new DataOutputStream(records), new DataOutputStream(lineRanges));
+
+            ByteArrayOutputStream ids = new ByteArrayOutputStream(issues.length * ID_ENTRY_SIZE);
+            writeIdIndex(new DataOutputStream(ids));
+
+            ByteArrayOutputStream files = new ByteArrayOutputStream();
+            ByteArrayOutputStream postings = new ByteArrayOutputStream();
+            int fileCount = writeFileIndex(new DataOutputStream(files), new DataOutputStream(postings));
+
+            ByteArrayOutputStream properties = new ByteArrayOutputStream();
+            writeProperties(new DataOutputStream(properties));
+
+            stringOffsets.add(heap.size());
+            int recordsOffset = HEADER_SIZE;
+            int idIndexOffset = recordsOffset + records.size();
+            int fileIndexOffset = idIndexOffset + ids.size();
+            int postingsOffset = fileIndexOffset + files.size();
+            int lineRangesOffset = postingsOffset + postings.size();
+            int stringOffsetsOffset = lineRangesOffset + lineRanges.size();
+            int heapOffset = stringOffsetsOffset + stringOffsets.size() * Integer.BYTES;
+            int additionalPropertiesOffset = heapOffset + heap.size();
+            long propertiesOffset = (long) additionalPropertiesOffset + additionalProperties.size();
+            if (propertiesOffset + properties.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Report is too large to be mapped: " + report);
+            }
+
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                output.writeInt(MAGIC_NUMBER);
+                output.writeInt(VERSION);
+                output.writeInt(issues.length);
+                output.writeInt(fileCount);
+                output.writeInt(recordsOffset);
+                output.writeInt(idIndexOffset);
+                output.writeInt(fileIndexOffset);
+                output.writeInt(postingsOffset);
+                output.writeInt(lineRangesOffset);
+                output.writeInt(stringOffsetsOffset);
+                output.writeInt(heapOffset);
+                output.writeInt(additionalPropertiesOffset);
+                output.writeInt((int) propertiesOffset);
+                output.writeInt(stringOffsets.size() - 1);
+                output.writeInt(SCHEMA_HASH);
+
+                records.writeTo(output);
+                ids.writeTo(output);
+                files.writeTo(output);
+                postings.writeTo(output);
+                lineRanges.writeTo(output);
+                for (Integer offset : stringOffsets) {
+                    output.writeInt(offset);
+                }
+                heap.writeTo(output);
+                additionalProperties.writeTo(output);
+                properties.writeTo(output);
+            }
+        }
+
+        private void writeRecords(final DataOutputStream records, final DataOutputStream lineRanges)
+                throws IOException {
+            for (Issue issue : issues) {
+                records.writeLong(issue.getId().getMostSignificantBits());
+                records.writeLong(issue.getId().getLeastSignificantBits());
+                records.writeInt(issue.getLineStart());
+                records.writeInt(issue.getLineEnd());
+                records.writeInt(issue.getColumnStart());
+                records.writeInt(issue.getColumnEnd());
+                for (StringField field : STRING_FIELDS) {
+                    records.writeInt(intern(field.getValue(issue)));
+                }
+                records.writeInt(intern(issue.getFingerprint()));
+
+                records.writeInt(lineRanges.size());
+                int count = 0;
+                for (LineRange lineRange : issue.getLineRanges()) {
+                    lineRanges.writeInt(lineRange.getStart());
+                    lineRanges.writeInt(lineRange.getEnd());
+                    count++;
+                }
+                records.writeInt(count);
+
+                Serializable properties = issue.getAdditionalProperties();
+                if (properties == null) {
+                    records.writeInt(0);
+                    records.writeInt(0);
+                }
+                else {
+                    ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+                    try (ObjectOutputStream output = new ObjectOutputStream(serialized)) {
+                        output.writeObject(properties);
+                    }
+                    records.writeInt(additionalProperties.size());
+                    records.writeInt(serialized.size());
+                    serialized.writeTo(additionalProperties);
+                }
+            }
+        }
+
+        private void writeIdIndex(final DataOutputStream ids) throws IOException {
+            Integer[] sorted = IntStream.range(0, issues.length).boxed().toArray(Integer[]::new);
+            Arrays.sort(sorted, (left, right) -> issues[left].getId().compareTo(issues[right].getId()));
+            for (Integer index : sorted) {
+                ids.writeLong(issues[index].getId().getMostSignificantBits());
+                ids.writeLong(issues[index].getId().getLeastSignificantBits());
+                ids.writeInt(index);
+            }
+        }
+
+        private int writeFileIndex(final DataOutputStream files, final DataOutputStream postings) throws IOException {
+            Map<String, List<Integer>> issuesByFile = new TreeMap<>();
+            for (int i = 0; i < issues.length; i++) {
+                issuesByFile.computeIfAbsent(issues[i].getFileName(), key -> new ArrayList<>()).add(i);
+            }
+            for (Entry<String, List<Integer>> file : issuesByFile.entrySet()) {
+                files.writeInt(intern(file.getKey()));
+                files.writeInt(postings.size());
+                files.writeInt(file.getValue().size());
+                for (Integer index : file.getValue()) {
+                    postings.writeInt(index);
+                }
+            }
+            return issuesByFile.size();
+        }
+
+        private void writeProperties(final DataOutputStream properties) throws IOException {
+            writeStrings(properties, report.getInfoMessages());
+            writeStrings(properties, report.getErrorMessages());
+            writeStrings(properties, report.getFileNames());
+            Map<String, String> namesByOrigin = report.getNamesByOrigin();
+            properties.writeInt(namesByOrigin.size());
+            for (Entry<String, String> name : namesByOrigin.entrySet()) {
+                properties.writeInt(intern(name.getKey()));
+                properties.writeInt(intern(name.getValue()));
+            }
+            properties.writeInt(report.getDuplicatesSize());
+        }
+
+        private void writeStrings(final DataOutputStream properties, final Iterable<String> values)
+                throws IOException {
+            List<Integer> indexes = new ArrayList<>();
+            for (String value : values) {
+                indexes.add(intern(value));
+            }
+            properties.writeInt(indexes.size());
+            for (Integer index : indexes) {
+                properties.writeInt(index);
+            }
+        }
+
+        /**
+         * Returns the index of the specified string in the string heap. If the string is not yet part of the heap,
+         * then it will be appended.
+         */
+        private int intern(final String value) throws IOException {
+            Integer index = strings.get(value);
+            if (index == null) {
+                index = strings.size();
+                strings.put(value, index);
+                stringOffsets.add(heap.size());
+                heap.write(value.getBytes(StandardCharsets.UTF_8));
+            }
+            return index;
+        }
+    }
+
+    /**
+     * The string properties of an issue in the order they are stored in the issue records. This list defines the file
+     * format independently of {@link Column}. A hash of the field names is stored in the header of each file, so a
+     * file that has been written with a different list of fields is rejected.
+     */
+    private enum StringField {
+        PATH(Column.PATH, Issue::getPath),
+        FILE_NAME(Column.FILE_NAME, Issue::getFileName),
+        PACKAGE_NAME(Column.PACKAGE_NAME, Issue::getPackageName),
+        MODULE_NAME(Column.MODULE_NAME, Issue::getModuleName),
+        CATEGORY(Column.CATEGORY, Issue::getCategory),
+        TYPE(Column.TYPE, Issue::getType),
+        SEVERITY(Column.SEVERITY, issue -> issue.getSeverity().getName()),
+        MESSAGE(Column.MESSAGE, Issue::getMessage),
+        DESCRIPTION(Column.DESCRIPTION, Issue::getDescription),
+        ORIGIN(Column.ORIGIN, Issue::getOrigin),
+        REFERENCE(Column.REFERENCE, Issue::getReference);
+
+        private final Column column;
+        private final Function<Issue, String> getter;
+
+        StringField(final Column column, final Function<Issue, String> getter) {
+            this.column = column;
+            this.getter = getter;
+        }
+
+        String getValue(final Issue issue) {
+            return getter.apply(issue);
+        }
+
+        static StringField of(final Column column) {
+            for (StringField field : STRING_FIELDS) {
+                if (field.column == column) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("No such field in mapped reports: " + column);
+        }
+    }
+}
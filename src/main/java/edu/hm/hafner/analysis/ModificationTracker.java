@@ -0,0 +1,129 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the changes of the mutable properties of the issues of a {@link Report}. Each issue has modification stamps
+ * that are incremented whenever a mutable property is changed (see {@link Issue#getModificationStamp()}). A tracker
+ * stores the sum of the stamps of the tracked issues and compares it lazily with the current stamps: so a report detects
+ * that its indexes, statistics, or hashes are outdated without being affected by changes of issues in other reports.
+ * Issues do not reference the trackers of the reports that contain them.
+ * <p>
+ * The stamps of the tracked issues are verified only if an issue has been modified since the last verification
+ * (anywhere in this process). A tracker belongs to the elements of a report: reports that share their elements share
+ * the tracker as well.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class ModificationTracker {
+    /** Counts the modifications of all issues: the stamps need to be verified only if this counter changes. */
+    private static final AtomicLong MODIFICATIONS = new AtomicLong();
+
+    private final Collection<Issue> elements;
+
+    private long verifiedModifications;
+    private long stamps;
+    private long equalityStamps;
+    private long modificationCount;
+    private long equalityModificationCount;
+
+    /**
+     * Creates a new tracker for the specified elements. Elements that are added or removed later on need to be
+     * registered using {@link #add(Issue)} or {@link #remove(Issue)}.
+     *
+     * @param elements
+     *         the elements to track
+     */
+    ModificationTracker(final Collection<Issue> elements) {
+        this.elements = elements;
+
+        verifiedModifications = MODIFICATIONS.get();
+        for (Issue element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Called by an issue whenever one of its mutable properties has been changed.
+     */
+    static void issueModified() {
+        MODIFICATIONS.incrementAndGet();
+    }
+
+    /**
+     * Registers an issue that has been added to the tracked elements.
+     *
+     * @param issue
+     *         the added issue
+     */
+    synchronized void add(final Issue issue) {
+        stamps += issue.getModificationStamp();
+        equalityStamps += issue.getEqualityModificationStamp();
+    }
+
+    /**
+     * Unregisters an issue that has been removed from the tracked elements.
+     *
+     * @param issue
+     *         the removed issue
+     */
+    synchronized void remove(final Issue issue) {
+        stamps -= issue.getModificationStamp();
+        equalityStamps -= issue.getEqualityModificationStamp();
+    }
+
+    /**
+     * Returns the number of detected changes of the mutable properties file name, package name, module name, origin,
+     * and fingerprint of the tracked issues.
+     *
+     * @return the number of modifications
+     */
+    synchronized long getModificationCount() {
+        verify();
+
+        return modificationCount;
+    }
+
+    /**
+     * Returns the number of detected changes of the mutable properties file name, package name, module name, and origin
+     * of the tracked issues. Since these properties are part of the hash code, reports use this value to detect that
+     * their elements need to be rehashed.
+     *
+     * @return the number of modifications
+     */
+    synchronized long getEqualityModificationCount() {
+        verify();
+
+        return equalityModificationCount;
+    }
+
+    /**
+     * Compares the stamps of the tracked issues with the stored sums. Since stamps are never decremented, the sums
+     * change if at least one of the tracked issues has been modified. Removed issues that have been modified before
+     * their removal might be counted as modification as well.
+     */
+    private void verify() {
+        long modifications = MODIFICATIONS.get();
+        if (modifications == verifiedModifications) {
+            return;
+        }
+        verifiedModifications = modifications;
+
+        long currentStamps = 0;
+        long currentEqualityStamps = 0;
+        for (Issue element : elements) {
+            currentStamps += element.getModificationStamp();
+            currentEqualityStamps += element.getEqualityModificationStamp();
+        }
+        if (currentStamps != stamps) {
+            stamps = currentStamps;
+            modificationCount++;
+        }
+        if (currentEqualityStamps != equalityStamps) {
+            equalityStamps = currentEqualityStamps;
+            equalityModificationCount++;
+        }
+    }
+}
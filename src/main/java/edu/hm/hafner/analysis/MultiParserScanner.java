@@ -0,0 +1,242 @@
+package edu.hm.hafner.analysis;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.hm.hafner.util.LookaheadStream;
+
+/**
+ * Scans a single file with several {@link LookaheadParser} instances at once. The file is read only once: each line is
+ * decoded and mapped by the {@link ReaderFactory} a single time and then handed over to all registered parsers. Each
+ * parser gets its own {@link LookaheadStream} view of the lines and its own {@link IssueBuilder} so that the lookahead
+ * lines consumed by a parser and the make or cmake directory of a parser do not affect the other parsers. The result
+ * is one {@link Report} for each parser, equal to the report that would be created by invoking
+ * {@link LookaheadParser#parse(ReaderFactory)} for each parser separately.
+ * <p>
+ * The parsers process the lines in lockstep. If a parser consumes additional lines in
+ * {@link LookaheadParser#createIssue(java.util.regex.Matcher, LookaheadStream, IssueBuilder)}, then it skips the
+ * following steps until the other parsers have caught up. Only the lines that have not been consumed by all parsers
+ * are buffered.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class MultiParserScanner {
+    private final List<LookaheadParser> parsers;
+
+    /**
+     * Creates a new instance of {@link MultiParserScanner}.
+     *
+     * @param parsers
+     *         the parsers to scan the files with
+     */
+    public MultiParserScanner(final LookaheadParser... parsers) {
+        this(Arrays.asList(parsers));
+    }
+
+    /**
+     * Creates a new instance of {@link MultiParserScanner}.
+     *
+     * @param parsers
+     *         the parsers to scan the files with
+     */
+    public MultiParserScanner(final Collection<? extends LookaheadParser> parsers) {
+        if (parsers.isEmpty()) {
+            throw new IllegalArgumentException("At least one parser is required");
+        }
+        this.parsers = Collections.unmodifiableList(new ArrayList<>(parsers));
+    }
+
+    /**
+     * Returns the registered parsers.
+     *
+     * @return the parsers, in the order of registration
+     */
+    public List<LookaheadParser> getParsers() {
+        return parsers;
+    }
+
+    /**
+     * Scans the specified file with all registered parsers.
+     *
+     * @param readerFactory
+     *         provides a reader to the file
+     *
+     * @return the reports of the parsers, in the order of registration
+     * @throws ParsingCanceledException
+     *         Signals that the user canceled this operation
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     */
+    public List<Report> scan(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        try (Stream<String> lines = readerFactory.readStream()) {
+            SharedLines sharedLines = new SharedLines(lines.iterator());
+            List<ParserState> states = parsers.stream()
+                    .map(parser -> new ParserState(parser, sharedLines, readerFactory.getFileName()))
+                    .collect(Collectors.toList());
+            scan(states, sharedLines);
+
+            return states.stream().map(ParserState::getReport).collect(Collectors.toList());
+        }
+        catch (UncheckedIOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    private void scan(final List<ParserState> states, final SharedLines sharedLines) {
+        for (int line = 0; ; line++) {
+            boolean hasNext = false;
+            int firstRequiredLine = Integer.MAX_VALUE;
+            for (ParserState state : states) {
+                if (state.isAt(line) && state.hasNext()) {
+                    state.parseNextLine();
+                }
+                hasNext |= state.hasNext();
+                firstRequiredLine = Math.min(firstRequiredLine, state.getPosition());
+            }
+            if (!hasNext) {
+                return;
+            }
+            sharedLines.release(firstRequiredLine);
+
+            if (Thread.interrupted()) {
+                throw new ParsingCanceledException();
+            }
+        }
+    }
+
+    /**
+     * The parsing state of a single parser: its view of the lines, its builder, and its issues.
+     */
+    private static final class ParserState {
+        private final LookaheadParser parser;
+        private final Cursor cursor;
+        private final LookaheadStream lookahead;
+        private final IssueBuilder builder = new IssueBuilder();
+        private final Report report = new Report();
+
+        ParserState(final LookaheadParser parser, final SharedLines sharedLines, final String fileName) {
+            this.parser = parser;
+
+            cursor = sharedLines.createCursor();
+            lookahead = new LookaheadStream(StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false),
+                    fileName);
+        }
+
+        /**
+         * Returns whether the next line of this parser is the line with the specified index, i.e. the parser has not
+         * consumed the line already as lookahead of a previous line.
+         *
+         * @param line
+         *         the index of the line
+         *
+         * @return {@code true} if the next line of this parser is the specified line
+         */
+        boolean isAt(final int line) {
+            return lookahead.getLine() == line;
+        }
+
+        boolean hasNext() {
+            return lookahead.hasNext();
+        }
+
+        void parseNextLine() {
+            parser.parseNextLine(report::add, lookahead, builder);
+        }
+
+        /**
+         * Returns the index of the next line that this parser will read from the shared lines.
+         *
+         * @return the index of the next line
+         */
+        int getPosition() {
+            return cursor.position;
+        }
+
+        Report getReport() {
+            return parser.postProcess(report);
+        }
+    }
+
+    /**
+     * The lines of the scanned file that are shared by all parsers. Lines are read on demand and are released as soon
+     * as all parsers have read them.
+     */
+    private static final class SharedLines {
+        private final Iterator<String> lines;
+        private final List<String> buffer = new ArrayList<>();
+        /** The index of the first line in the buffer. */
+        private int first = 0;
+
+        SharedLines(final Iterator<String> lines) {
+            this.lines = lines;
+        }
+
+        Cursor createCursor() {
+            return new Cursor(this);
+        }
+
+        boolean has(final int index) {
+            return index < first + buffer.size() || lines.hasNext();
+        }
+
+        String get(final int index) {
+            while (index >= first + buffer.size()) {
+                buffer.add(lines.next());
+            }
+            return buffer.get(index - first);
+        }
+
+        /**
+         * Releases all lines before the specified index. The buffer is compacted once the released lines make up half
+         * of the buffer.
+         *
+         * @param index
+         *         the index of the first line that is still required
+         */
+        void release(final int index) {
+            int released = Math.min(index - first, buffer.size());
+            if (released > 0 && released * 2 >= buffer.size()) {
+                buffer.subList(0, released).clear();
+                first += released;
+            }
+        }
+    }
+
+    /**
+     * An iterator over the shared lines that maintains its own position.
+     */
+    private static final class Cursor implements Iterator<String> {
+        private final SharedLines lines;
+        private int position = 0;
+
+        Cursor(final SharedLines lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return lines.has(position);
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return lines.get(position++);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Serializable;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.util.PathUtil;
+import edu.hm.hafner.util.TreeString;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * An entry of the path dictionary of the {@link InterningPool}: each distinct file name of an {@link Issue} is
+ * represented by a single entry. The entries form a tree of folders: an entry stores only the last segment of the file
+ * name and references the entry of its parent folder. So the files of a folder share the entries of all parent folders
+ * and a deep file tree stores each folder name only once. Since the entries are immutable, they can be shared by
+ * parsers that run in parallel. The {@link String} representation of the file name is materialized on first access
+ * and cached afterwards: since only the entries of files are accessed this way, the names of folder entries are never
+ * materialized. The derived values folder, base name, and absolute path are computed once on first access and reused
+ * by all issues that reference the same file.
+ *
+ * @author Ullrich Hafner
+ */
+final class PathEntry implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final PathUtil PATH_UTIL = new PathUtil();
+
+    @Nullable
+    private final PathEntry parent;
+    private final String segment;
+    private final int hashCode;
+
+    @Nullable
+    private transient String name;
+    @Nullable
+    private transient TreeString treeString;
+    @Nullable
+    private transient String folder;
+    @Nullable
+    private transient String baseName;
+    /** The absolute path that has been computed most recently, along with the path used to compute it. */
+    @Nullable
+    private transient AbsolutePath absolutePath;
+
+    /**
+     * Creates a new entry.
+     *
+     * @param parent
+     *         the entry of the parent folder (including the trailing separator), or {@code null} if the file name has
+     *         no parent folder
+     * @param segment
+     *         the last segment of the file name
+     * @param hashCode
+     *         the hash code of the whole file name
+     */
+    PathEntry(@Nullable final PathEntry parent, final String segment, final int hashCode) {
+        this.parent = parent;
+        this.segment = segment;
+        this.hashCode = hashCode;
+    }
+
+    @Nullable
+    PathEntry getParent() {
+        return parent;
+    }
+
+    TreeString getTreeString() {
+        TreeString cached = treeString;
+        if (cached == null) {
+            cached = InterningPool.getShared().internTreeString(getName());
+            treeString = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Returns the file name of this entry. The file name is composed of the segments of this entry and all of its
+     * parents. The file name is materialized on first access.
+     *
+     * @return the file name
+     */
+    String getName() {
+        String cached = name;
+        if (cached == null) {
+            cached = computeName();
+            name = cached;
+        }
+        return cached;
+    }
+
+    private String computeName() {
+        if (parent == null) {
+            return segment;
+        }
+        int length = 0;
+        for (PathEntry entry = this; entry != null; entry = entry.parent) {
+            length += entry.segment.length();
+        }
+        char[] name = new char[length];
+        int end = length;
+        for (PathEntry entry = this; entry != null; entry = entry.parent) {
+            end -= entry.segment.length();
+            entry.segment.getChars(0, entry.segment.length(), name, end);
+        }
+        return new String(name);
+    }
+
+    /**
+     * Returns whether the file name of this entry is equal to the specified file name. The file name of this entry
+     * will not be materialized.
+     *
+     * @param fileName
+     *         the file name to compare with
+     *
+     * @return {@code true} if the file names are equal, {@code false} otherwise
+     */
+    boolean hasName(final String fileName) {
+        int end = fileName.length();
+        for (PathEntry entry = this; entry != null; entry = entry.parent) {
+            end -= entry.segment.length();
+            if (end < 0 || !fileName.startsWith(entry.segment, end)) {
+                return false;
+            }
+        }
+        return end == 0;
+    }
+
+    /**
+     * Returns the folder of the file. The folder is computed on first access.
+     *
+     * @return the folder, or {@link Issue#UNDEFINED} if the file name has no folder
+     */
+    String getFolder() {
+        String cached = folder;
+        if (cached == null) {
+            cached = computeFolder();
+            folder = cached;
+        }
+        return cached;
+    }
+
+    private String computeFolder() {
+        try {
+            String path = FilenameUtils.getPath(getName());
+            if (StringUtils.isBlank(path)) {
+                return Issue.UNDEFINED;
+            }
+            return PATH_UTIL.getRelativePath(path);
+        }
+        catch (IllegalArgumentException ignore) {
+            return Issue.UNDEFINED; // fallback
+        }
+    }
+
+    /**
+     * Returns the base name of the file (i.e. the file name without the folder). The base name is computed on first
+     * access.
+     *
+     * @return the base name
+     */
+    String getBaseName() {
+        String cached = baseName;
+        if (cached == null) {
+            cached = computeBaseName();
+            baseName = cached;
+        }
+        return cached;
+    }
+
+    private String computeBaseName() {
+        try {
+            return FilenameUtils.getName(getName());
+        }
+        catch (IllegalArgumentException ignore) {
+            return getName(); // fallback
+        }
+    }
+
+    /**
+     * Returns the absolute path of the file within the specified path. Since the issues of a report typically share
+     * the same path, the most recently computed absolute path is reused.
+     *
+     * @param pathName
+     *         the path that contains the file
+     *
+     * @return the absolute path
+     */
+    String getAbsolutePath(final String pathName) {
+        if (Issue.UNDEFINED.equals(pathName)) {
+            return getName();
+        }
+        AbsolutePath cached = absolutePath;
+        if (cached == null || !cached.pathName.equals(pathName)) {
+            cached = new AbsolutePath(pathName, PATH_UTIL.createAbsolutePath(pathName, getName()));
+            absolutePath = cached;
+        }
+        return cached.value;
+    }
+
+    /**
+     * Called after de-serialization to map this entry to the shared entry of the dictionary.
+     *
+     * @return the shared entry
+     */
+    private Object readResolve() {
+        return InterningPool.getShared().internPath(getName());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PathEntry pathEntry = (PathEntry) o;
+        if (hashCode != pathEntry.hashCode) {
+            return false;
+        }
+        if (parent == pathEntry.parent) { // entries of the pool share their parents
+            return segment.equals(pathEntry.segment);
+        }
+        return pathEntry.hasName(getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+
+    /**
+     * An absolute path and the path that has been used to compute it.
+     */
+    private static final class AbsolutePath {
+        private final String pathName;
+        private final String value;
+
+        AbsolutePath(final String pathName, final String value) {
+            this.pathName = pathName;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Matches strings against a set of regular expressions: a string matches if at least one of the regular expressions
+ * can be found in the string (see {@link java.util.regex.Matcher#find()}). All patterns are compiled with the {@link
+ * Pattern#DOTALL} flag.
+ * <p>
+ * The patterns are compiled only once. Patterns that actually are literals (or literals that are anchored at the
+ * beginning of the input) are evaluated using simple string operations. All other patterns are merged into a single
+ * alternation so that a string needs to be scanned only once. Leading and trailing {@code .*} wildcards are removed
+ * since they do not change the result of {@link java.util.regex.Matcher#find()}.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class PatternMatcher implements Predicate<String> {
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String ANY = ".*";
+    private static final String START = "^";
+    private static final String QUOTE = "\\Q";
+    private static final String QUANTIFIERS = "?*+{";
+    /** Back references, named groups, quotes, and comments can't be merged with other patterns. */
+    private static final Pattern NOT_MERGEABLE = Pattern.compile("\\\\[1-9kQ]|\\(\\?<[a-zA-Z]|#");
+
+    private final List<String> literals = new ArrayList<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final List<Pattern> regularExpressions = new ArrayList<>();
+
+    /**
+     * Compiles the specified patterns.
+     *
+     * @param patterns
+     *         the regular expressions to match
+     *
+     * @throws java.util.regex.PatternSyntaxException
+     *         if one of the patterns is not a valid regular expression
+     */
+    PatternMatcher(final Collection<String> patterns) {
+        List<String> mergeable = new ArrayList<>();
+        for (String pattern : patterns) {
+            Pattern compiled = Pattern.compile(pattern, Pattern.DOTALL);
+            String simplified = removeUnboundedWildcards(pattern);
+            String prefix = simplified.startsWith(START) ? toLiteral(simplified.substring(START.length())) : null;
+            String literal = toLiteral(simplified);
+            if (prefix != null) {
+                prefixes.add(prefix);
+            }
+            else if (literal != null) {
+                literals.add(literal);
+            }
+            else if (NOT_MERGEABLE.matcher(pattern).find()) {
+                regularExpressions.add(compiled);
+            }
+            else {
+                mergeable.add(simplified);
+            }
+        }
+        if (mergeable.size() == 1) {
+            regularExpressions.add(Pattern.compile(mergeable.get(0), Pattern.DOTALL));
+        }
+        else if (mergeable.size() > 1) {
+            regularExpressions.add(Pattern.compile(mergeable.stream()
+                    .collect(Collectors.joining(")|(?:", "(?:", ")")), Pattern.DOTALL));
+        }
+    }
+
+    /**
+     * Removes leading and trailing {@code .*} wildcards from the specified pattern. Since the patterns are evaluated
+     * using {@link java.util.regex.Matcher#find()} and {@link Pattern#DOTALL}, such wildcards do not change the result
+     * but they make the evaluation quadratic in the length of the input.
+     *
+     * @param pattern
+     *         the pattern to simplify
+     *
+     * @return the simplified pattern
+     */
+    private static String removeUnboundedWildcards(final String pattern) {
+        if (pattern.contains(QUOTE)) {
+            return pattern;
+        }
+
+        String simplified = pattern;
+        if (simplified.startsWith(START + ANY) && isUnquantified(simplified, START.length() + ANY.length())) {
+            simplified = simplified.substring(START.length() + ANY.length());
+        }
+        while (simplified.startsWith(ANY) && isUnquantified(simplified, ANY.length())) {
+            simplified = simplified.substring(ANY.length());
+        }
+        while (simplified.endsWith(ANY) && !isEscaped(simplified, simplified.length() - ANY.length())) {
+            simplified = simplified.substring(0, simplified.length() - ANY.length());
+        }
+        return simplified;
+    }
+
+    private static boolean isUnquantified(final String pattern, final int position) {
+        return position >= pattern.length() || QUANTIFIERS.indexOf(pattern.charAt(position)) < 0;
+    }
+
+    private static boolean isEscaped(final String pattern, final int position) {
+        int backslashes = 0;
+        for (int i = position - 1; i >= 0 && pattern.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 1;
+    }
+
+    /**
+     * Returns the literal that is matched by the specified pattern. A pattern is a literal if it contains no meta
+     * characters, or if all meta characters are escaped with a backslash.
+     *
+     * @param pattern
+     *         the pattern
+     *
+     * @return the literal, or {@code null} if the pattern is not a literal
+     */
+    @Nullable
+    private static String toLiteral(final String pattern) {
+        StringBuilder literal = new StringBuilder(pattern.length());
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\\' && i + 1 < pattern.length() && isEscapedMetaCharacter(pattern.charAt(i + 1))) {
+                literal.append(pattern.charAt(++i));
+            }
+            else if (META_CHARACTERS.indexOf(c) >= 0) {
+                return null;
+            }
+            else {
+                literal.append(c);
+            }
+        }
+        return literal.toString();
+    }
+
+    private static boolean isEscapedMetaCharacter(final char c) {
+        return META_CHARACTERS.indexOf(c) >= 0 || c == '/' || c == '-' || c == '#' || c == ' ';
+    }
+
+    @Override
+    public boolean test(final String value) {
+        for (String literal : literals) {
+            if (value.contains(literal)) {
+                return true;
+            }
+        }
+        for (String prefix : prefixes) {
+            if (value.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return matchesRegularExpression(value);
+    }
+
+    /**
+     * Returns whether the concatenation of the two specified strings, separated by a newline, matches one of the
+     * patterns. The concatenated string is only created if it is actually required to evaluate a pattern.
+     *
+     * @param first
+     *         the first string
+     * @param second
+     *         the second string
+     *
+     * @return {@code true} if the concatenated string matches, {@code false} otherwise
+     */
+    boolean test(final String first, final String second) {
+        String joined = null;
+        for (String literal : literals) {
+            if (literal.indexOf('\n') < 0) {
+                if (first.contains(literal) || second.contains(literal)) {
+                    return true;
+                }
+            }
+            else {
+                joined = join(first, second, joined);
+                if (joined.contains(literal)) {
+                    return true;
+                }
+            }
+        }
+        for (String prefix : prefixes) {
+            if (prefix.length() <= first.length()) {
+                if (first.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            else {
+                joined = join(first, second, joined);
+                if (joined.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return !regularExpressions.isEmpty() && matchesRegularExpression(join(first, second, joined));
+    }
+
+    private static String join(final String first, final String second, @Nullable final String joined) {
+        if (joined == null) {
+            return first + "\n" + second;
+        }
+        return joined;
+    }
+
+    private boolean matchesRegularExpression(final String value) {
+        for (Pattern regularExpression : regularExpressions) {
+            if (regularExpression.matcher(value).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
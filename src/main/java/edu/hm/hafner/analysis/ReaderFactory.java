@@ -6,11 +6,9 @@ import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Document;
 import org.xml.sax.helpers.DefaultHandler;
 
@@ -28,11 +26,9 @@ public abstract class ReaderFactory {
 
     private final Charset charset;
     private final Function<String, String> lineMapper;
+    private final Function<String, String> customLineMapper;
 
-    private static final Pattern ANSI_COLOR_CODES
-            = Pattern.compile("\u001B\\[[;\\d]*[ -/]*[@-~]");
-    private static final Function<String, String> REMOVE_COLOR_CODES
-            = string -> ANSI_COLOR_CODES.matcher(string).replaceAll(StringUtils.EMPTY);
+    private static final Function<String, String> REMOVE_COLOR_CODES = LineScanner::removeColorCodes;
 
     /**
      * Creates a new factory to read a resource with a given charset.
@@ -55,6 +51,16 @@ public abstract class ReaderFactory {
     public ReaderFactory(final Charset charset, final Function<String, String> lineMapper) {
         this.charset = charset;
         this.lineMapper = REMOVE_COLOR_CODES.compose(lineMapper);
+        customLineMapper = lineMapper;
+    }
+
+    /**
+     * Returns the mapper that transforms each of the resource lines before the color codes are removed.
+     *
+     * @return the line mapper
+     */
+    Function<String, String> getLineMapper() {
+        return customLineMapper;
     }
 
     /**
@@ -98,6 +104,20 @@ public abstract class ReaderFactory {
         }
     }
 
+    /**
+     * Provides the lines of the file using a {@link LineScanner}. In contrast to {@link #readStream()}, the scanner
+     * does not create a {@link String} for each line, unless this factory has been created with a custom line mapper.
+     *
+     * @return the line scanner
+     * @throws ParsingException
+     *         if the file could not be read
+     */
+    @MustBeClosed
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public LineScanner readLines() {
+        return new LineScanner(create(), customLineMapper == IDENTITY ? null : customLineMapper);
+    }
+
     @SuppressWarnings({"illegalcatch", "PMD.DoNotUseThreads", "PMD.AvoidThrowingRawExceptionTypes"})
     private Runnable closeReader(final AutoCloseable closeable) {
         return () -> {
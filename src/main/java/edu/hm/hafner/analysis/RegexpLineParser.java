@@ -32,6 +32,18 @@ public abstract class RegexpLineParser extends LookaheadParser {
         super(pattern);
     }
 
+    /**
+     * Creates a new instance of {@link RegexpLineParser}.
+     *
+     * @param pattern
+     *         pattern of compiler warnings
+     * @param requiredTokens
+     *         the tokens that are required in matching lines, a line needs to contain at least one of the tokens
+     */
+    protected RegexpLineParser(final String pattern, final String... requiredTokens) {
+        super(pattern, requiredTokens);
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return line.length() < MAX_LINE_LENGTH; // skip long lines, see JENKINS-55805
@@ -6,22 +6,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
-import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -30,10 +27,14 @@ import org.eclipse.collections.impl.factory.Lists;
 
 import com.google.errorprone.annotations.FormatMethod;
 
+import edu.hm.hafner.analysis.ReportIndex.Property;
+import edu.hm.hafner.analysis.ReportIndex.PropertyFilter;
+import edu.hm.hafner.analysis.ReportStatistics.CountedProperty;
 import edu.hm.hafner.util.Ensure;
 import edu.hm.hafner.util.NoSuchElementException;
 import edu.hm.hafner.util.VisibleForTesting;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import static java.util.stream.Collectors.*;
@@ -58,7 +59,18 @@ public class Report implements Iterable<Issue>, Serializable {
     @VisibleForTesting
     static final String DEFAULT_ID = "-";
 
-    private final Set<Issue> elements = new LinkedHashSet<>();
+    private Set<Issue> elements = new LinkedHashSet<>();
+    /** Tracks the modifications of the elements, shared with all reports that share the elements. */
+    private transient ModificationTracker tracker = new ModificationTracker(elements);
+    private transient ReportIndex index = new ReportIndex(elements, tracker);
+    private transient ReportStatistics statistics = new ReportStatistics(elements, tracker);
+    /** Determines whether the elements are shared with another report: they will be copied before modification. */
+    private transient boolean isShared;
+    /** The elements as array: used for indexed access and iteration, created on demand after each modification. */
+    @Nullable
+    private transient Issue[] snapshot;
+    /** The value of {@link ModificationTracker#getEqualityModificationCount()} when the elements have been hashed. */
+    private transient long equalityModificationCount;
     private final List<String> infoMessages = new ArrayList<>();
     private final List<String> errorMessages = new ArrayList<>();
 
@@ -122,11 +134,20 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return this
      */
     public Report add(final Issue issue) {
-        if (elements.contains(issue)) {
-            duplicatesSize++; // elements are marked as duplicate if the fingerprint is different
+        rehashIfModified();
+        if (isShared && elements.contains(issue)) {
+            duplicatesSize++;
+            return this;
+        }
+
+        prepareModification();
+        if (elements.add(issue)) {
+            tracker.add(issue);
+            index.add(issue);
+            statistics.add(issue);
         }
         else {
-            elements.add(issue);
+            duplicatesSize++; // elements are marked as duplicate if the fingerprint is different
         }
         return this;
     }
@@ -200,6 +221,8 @@ public class Report implements Iterable<Issue>, Serializable {
         if (namesByOrigin == null) {
             namesByOrigin = new HashMap<>();
         }
+        trackElements();
+        isShared = false;
 
         return this;
     }
@@ -236,13 +259,15 @@ public class Report implements Iterable<Issue>, Serializable {
      *         if there is no such issue found
      */
     Issue remove(final UUID issueId) {
-        for (Issue element : elements) {
-            if (element.getId().equals(issueId)) {
-                elements.remove(element);
-                return element;
-            }
+        Issue element = findById(issueId);
+        rehashIfModified();
+        prepareModification();
+        if (elements.remove(element)) {
+            tracker.remove(element);
+            index.remove(element);
+            statistics.remove(element);
         }
-        throw new NoSuchElementException("No issue found with id %s.", issueId);
+        return element;
     }
 
     /**
@@ -256,12 +281,23 @@ public class Report implements Iterable<Issue>, Serializable {
      *         if there is no such issue found
      */
     public Issue findById(final UUID issueId) {
-        for (Issue issue : elements) {
-            if (issue.getId().equals(issueId)) {
-                return issue;
-            }
+        Issue issue = index.findById(issueId);
+        if (issue == null) {
+            throw new NoSuchElementException("No issue found with id %s.", issueId);
         }
-        throw new NoSuchElementException("No issue found with id %s.", issueId);
+        return issue;
+    }
+
+    /**
+     * Returns all issues with the specified fingerprint. The issues are returned in the order of this report.
+     *
+     * @param fingerprint
+     *         the fingerprint of the issues
+     *
+     * @return the found issues
+     */
+    Set<Issue> findByFingerprint(final String fingerprint) {
+        return index.findByProperty(Property.FINGERPRINT, fingerprint);
     }
 
     /**
@@ -273,6 +309,9 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the found issues
      */
     public Set<Issue> findByProperty(final Predicate<? super Issue> criterion) {
+        if (criterion instanceof PropertyFilter) {
+            return new HashSet<>(findByIndex((PropertyFilter) criterion));
+        }
         return filterElements(criterion).collect(toSet());
     }
 
@@ -286,27 +325,130 @@ public class Report implements Iterable<Issue>, Serializable {
      */
     public Report filter(final Predicate<? super Issue> criterion) {
         Report filtered = copyEmptyInstance();
-        filtered.addAll(filterElements(criterion).collect(toList()));
+        if (criterion instanceof PropertyFilter) {
+            filtered.addAll(findByIndex((PropertyFilter) criterion));
+        }
+        else {
+            filtered.addAll(filterElements(criterion).collect(toList()));
+        }
         return filtered;
     }
 
+    private Set<Issue> findByIndex(final PropertyFilter filter) {
+        return index.findByProperty(filter.getProperty(), filter.getValue());
+    }
+
     private Stream<Issue> filterElements(final Predicate<? super Issue> criterion) {
         return elements.stream().filter(criterion);
     }
 
+    /**
+     * Rehashes the elements of this report if properties of issues that are part of the hash code have been changed
+     * in the meantime. Otherwise, such issues might be stored in the wrong bucket of the hash set. Issues that became
+     * equal to other issues of this report are removed and counted as duplicates.
+     */
+    private void rehashIfModified() {
+        if (isRehashRequired()) {
+            Set<Issue> rehashed = new LinkedHashSet<>(elements);
+            duplicatesSize += elements.size() - rehashed.size();
+
+            elements = rehashed;
+            trackElements();
+            snapshot = null;
+            isShared = false;
+        }
+    }
+
+    private boolean isRehashRequired() {
+        return tracker.getEqualityModificationCount() != equalityModificationCount;
+    }
+
+    /**
+     * Returns the elements of this report hashed with the current hash codes of the issues. If issues have been
+     * modified since the elements have been hashed, then a rehashed copy of the elements is returned. The elements of
+     * this report are not changed.
+     *
+     * @return the hashed elements
+     */
+    private Set<Issue> getHashedElements() {
+        Set<Issue> current = elements;
+        if (isRehashRequired()) {
+            return new LinkedHashSet<>(current);
+        }
+        return current;
+    }
+
+    /**
+     * Prepares the modification of the elements of this report: if the elements are shared with another report, then
+     * the elements and the corresponding index and statistics will be copied.
+     */
+    private void prepareModification() {
+        if (isShared) {
+            elements = new LinkedHashSet<>(elements);
+            trackElements();
+            isShared = false;
+        }
+        snapshot = null;
+    }
+
+    /**
+     * Creates a new tracker for the elements of this report and creates a new index and new statistics based on this
+     * tracker. Called whenever this report gets its own copy of the elements.
+     */
+    private void trackElements() {
+        tracker = new ModificationTracker(elements);
+        index = new ReportIndex(elements, tracker);
+        statistics = new ReportStatistics(elements, tracker);
+        equalityModificationCount = tracker.getEqualityModificationCount();
+    }
+
+    /**
+     * Shares the elements (and the corresponding index and statistics) of the source report with this empty report.
+     * The elements will be copied as soon as one of the reports will be modified.
+     *
+     * @param source
+     *         the report to share the elements with
+     */
+    private void shareElements(final Report source) {
+        elements = source.elements;
+        tracker = source.tracker;
+        index = source.index;
+        statistics = source.statistics;
+        snapshot = source.snapshot;
+        equalityModificationCount = source.equalityModificationCount;
+        isShared = true;
+        source.isShared = true;
+    }
+
+    private Issue[] getSnapshot() {
+        Issue[] current = snapshot;
+        if (current == null) {
+            current = elements.toArray(new Issue[0]);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * Returns an iterator over the issues of this report. The iterator is based on a snapshot of the issues, i.e.
+     * subsequent modifications of this report will not be visible.
+     *
+     * @return an iterator (that does not support removal)
+     */
     @NonNull
     @Override
     public Iterator<Issue> iterator() {
-        return Lists.immutable.withAll(elements).iterator();
+        return Collections.unmodifiableList(Arrays.asList(getSnapshot())).iterator();
     }
 
     /**
-     * Creates a new sequential {@code Stream} of {@link Issue} instances from a {@code Spliterator}.
+     * Creates a new sequential {@code Stream} of {@link Issue} instances. The stream is based on a snapshot of the
+     * issues, i.e. subsequent modifications of this report will not be visible.
      *
      * @return a new sequential {@code Stream}
      */
     public Stream<Issue> stream() {
-        return StreamSupport.stream(Spliterators.spliterator(iterator(), 0L, Spliterator.NONNULL), false);
+        return Arrays.stream(getSnapshot());
     }
 
     /**
@@ -378,7 +520,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return total number of issues
      */
     public int getSizeOf(final Severity severity) {
-        return elements.stream().filter(issue -> issue.getSeverity().equals(severity)).mapToInt(e -> 1).sum();
+        return statistics.getSizeOf(severity);
     }
 
     /**
@@ -395,11 +537,7 @@ public class Report implements Iterable<Issue>, Serializable {
         if (index < 0 || index >= size()) {
             throw new IndexOutOfBoundsException("No such index " + index + " in " + toString());
         }
-        Iterator<Issue> all = elements.iterator();
-        for (int i = 0; i < index; i++) {
-            all.next(); // skip this element
-        }
-        return all.next();
+        return getSnapshot()[index];
     }
 
     @Override
@@ -423,7 +561,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected modules
      */
     public Set<String> getModules() {
-        return getProperties(Issue::getModuleName);
+        return statistics.getValues(CountedProperty.MODULE_NAME);
     }
 
     /**
@@ -449,7 +587,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected packages
      */
     public Set<String> getPackages() {
-        return getProperties(Issue::getPackageName);
+        return statistics.getValues(CountedProperty.PACKAGE_NAME);
     }
 
     /**
@@ -467,7 +605,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected packages
      */
     public Set<String> getFolders() {
-        return getProperties(Issue::getFolder);
+        return statistics.getValues(CountedProperty.FOLDER);
     }
 
     /**
@@ -488,7 +626,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected files
      */
     public Set<String> getAbsolutePaths() {
-        return getProperties(Issue::getAbsolutePath);
+        return statistics.getValues(CountedProperty.ABSOLUTE_PATH);
     }
 
     /**
@@ -497,7 +635,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected files
      */
     public Set<String> getFiles() {
-        return getProperties(Issue::getFileName);
+        return statistics.getValues(CountedProperty.FILE_NAME);
     }
 
     /**
@@ -515,7 +653,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used categories
      */
     public Set<String> getCategories() {
-        return getProperties(Issue::getCategory);
+        return statistics.getValues(CountedProperty.CATEGORY);
     }
 
     /**
@@ -533,7 +671,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used types
      */
     public Set<String> getTypes() {
-        return getProperties(Issue::getType);
+        return statistics.getValues(CountedProperty.TYPE);
     }
 
     /**
@@ -551,7 +689,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the tools
      */
     public Set<String> getTools() {
-        return getProperties(Issue::getOrigin);
+        return statistics.getValues(CountedProperty.ORIGIN);
     }
 
     /**
@@ -569,7 +707,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the severities
      */
     public Set<Severity> getSeverities() {
-        return getProperties(Issue::getSeverity);
+        return statistics.getSeverities();
     }
 
     /**
@@ -622,17 +760,13 @@ public class Report implements Iterable<Issue>, Serializable {
      * @see #getProperties(Function)
      */
     public Map<String, Report> groupByProperty(final String propertyName) {
-        Map<String, List<Issue>> issues = elements.stream()
-                .collect(groupingBy(Issue.getPropertyValueGetter(propertyName)));
+        Function<Issue, String> propertyValueGetter = Issue.getPropertyValueGetter(propertyName);
 
-        return issues.entrySet().stream()
-                .collect(toMap(
-                        Entry::getKey,
-                        e -> {
-                            Report report = new Report();
-                            report.addAll(e.getValue());
-                            return report;
-                        }));
+        Map<String, Report> reports = new HashMap<>();
+        for (Issue issue : elements) {
+            reports.computeIfAbsent(propertyValueGetter.apply(issue), key -> new Report()).add(issue);
+        }
+        return reports;
     }
 
     /**
@@ -647,7 +781,12 @@ public class Report implements Iterable<Issue>, Serializable {
     }
 
     private void copyIssuesAndProperties(final Report source, final Report destination) {
-        destination.addAll(source.elements);
+        if (destination.elements.isEmpty()) {
+            destination.shareElements(source);
+        }
+        else {
+            destination.addAll(source.elements);
+        }
         copyProperties(source, destination);
     }
 
@@ -762,11 +901,13 @@ public class Report implements Iterable<Issue>, Serializable {
         }
 
         Report report = (Report) o;
+        Set<Issue> hashedElements = getHashedElements();
+        Set<Issue> otherHashedElements = report.getHashedElements();
 
-        if (duplicatesSize != report.duplicatesSize) {
+        if (getDuplicatesSize(hashedElements) != report.getDuplicatesSize(otherHashedElements)) {
             return false;
         }
-        if (!elements.equals(report.elements)) {
+        if (!hashedElements.equals(otherHashedElements)) {
             return false;
         }
         if (!infoMessages.equals(report.infoMessages)) {
@@ -777,13 +918,22 @@ public class Report implements Iterable<Issue>, Serializable {
 
     @Override
     public int hashCode() {
-        int result = elements.hashCode();
+        Set<Issue> hashedElements = getHashedElements();
+        int result = hashedElements.hashCode();
         result = 31 * result + infoMessages.hashCode();
         result = 31 * result + errorMessages.hashCode();
-        result = 31 * result + duplicatesSize;
+        result = 31 * result + getDuplicatesSize(hashedElements);
         return result;
     }
 
+    /**
+     * Returns the number of duplicates including the issues that became duplicates since the elements have been
+     * hashed.
+     */
+    private int getDuplicatesSize(final Set<Issue> hashedElements) {
+        return duplicatesSize + elements.size() - hashedElements.size();
+    }
+
     /**
      * Returns a human readable name for the specified {@code origin} of this report.
      *
@@ -808,6 +958,26 @@ public class Report implements Iterable<Issue>, Serializable {
         namesByOrigin.put(origin, name);
     }
 
+    /**
+     * Returns the human readable names of all origins of this report.
+     *
+     * @return the names, mapped by origin
+     */
+    Map<String, String> getNamesByOrigin() {
+        return Collections.unmodifiableMap(namesByOrigin);
+    }
+
+    /**
+     * Increments the number of duplicates by the specified value. Used when a report is restored from an external
+     * representation.
+     *
+     * @param duplicates
+     *         the number of duplicates to add
+     */
+    void addDuplicates(final int duplicates) {
+        duplicatesSize += duplicates;
+    }
+
     /**
      * Prints a summary of an {@link Issue}.
      */
@@ -845,8 +1015,8 @@ public class Report implements Iterable<Issue>, Serializable {
      * @author Raphael Furch
      */
     public static class IssueFilterBuilder {
-        private final Collection<Predicate<Issue>> includeFilters = new ArrayList<>();
-        private final Collection<Predicate<Issue>> excludeFilters = new ArrayList<>();
+        private final Map<FilterProperty, List<String>> includePatterns = new EnumMap<>(FilterProperty.class);
+        private final Map<FilterProperty, List<String>> excludePatterns = new EnumMap<>(FilterProperty.class);
 
         /** Type of the filter: include or exclude elements. */
         enum FilterType {
@@ -854,42 +1024,76 @@ public class Report implements Iterable<Issue>, Serializable {
             EXCLUDE
         }
 
+        /** Properties of an issue that can be filtered. */
+        private enum FilterProperty {
+            FILE_NAME((matcher, issue) -> matcher.test(issue.getFileName())),
+            PACKAGE_NAME((matcher, issue) -> matcher.test(issue.getPackageName())),
+            MODULE_NAME((matcher, issue) -> matcher.test(issue.getModuleName())),
+            CATEGORY((matcher, issue) -> matcher.test(issue.getCategory())),
+            TYPE((matcher, issue) -> matcher.test(issue.getType())),
+            MESSAGE((matcher, issue) -> matcher.test(issue.getMessage(), issue.getDescription()));
+
+            private final BiPredicate<PatternMatcher, Issue> matches;
+
+            FilterProperty(final BiPredicate<PatternMatcher, Issue> matches) {
+                this.matches = matches;
+            }
+
+            Predicate<Issue> createFilter(final PatternMatcher matcher) {
+                return issue -> matches.test(matcher, issue);
+            }
+        }
+
         /**
-         * Adds a new filter for each patterns string. Adds the filter either to the include or exclude list.
+         * Adds the patterns to the include or exclude patterns of the specified property. All patterns of a property
+         * are combined into a single matcher when the filter is built.
          *
          * @param patterns
          *         filter patterns.
-         * @param propertyToFilter
-         *         Function to get a string from Issue for patterns
+         * @param property
+         *         the property of the issue the patterns will be matched against
          * @param type
          *         type of the filter
          */
-        private void addNewFilter(final Collection<String> patterns, final Function<Issue, String> propertyToFilter,
+        private void addNewFilter(final Collection<String> patterns, final FilterProperty property,
                 final FilterType type) {
-
-            Collection<Predicate<Issue>> filters = new ArrayList<>();
-            for (String pattern : patterns) {
-                filters.add(issueToFilter -> Pattern.compile(pattern, Pattern.DOTALL)
-                        .matcher(propertyToFilter.apply(issueToFilter)).find() == (type == FilterType.INCLUDE));
+            if (patterns.isEmpty()) {
+                return;
             }
 
-            if (type == FilterType.INCLUDE) {
-                includeFilters.addAll(filters);
-            }
-            else {
-                excludeFilters.addAll(filters);
-            }
+            Map<FilterProperty, List<String>> filters = type == FilterType.INCLUDE ? includePatterns : excludePatterns;
+            filters.computeIfAbsent(property, key -> new ArrayList<>()).addAll(patterns);
         }
 
         /**
          * Create a IssueFilter. Combine by default all includes with or and all excludes with and.
          *
          * @return a IssueFilter which has all added filter as filter criteria.
+         * @throws java.util.regex.PatternSyntaxException
+         *         if one of the patterns is not a valid regular expression
          */
         @SuppressWarnings("NoFunctionalReturnType")
         public Predicate<Issue> build() {
-            return includeFilters.stream().reduce(Predicate::or).orElse(issue -> true)
-                    .and(excludeFilters.stream().reduce(Predicate::and).orElse(issue -> true));
+            List<Predicate<Issue>> includeFilters = createFilters(includePatterns);
+            List<Predicate<Issue>> excludeFilters = createFilters(excludePatterns);
+
+            return issue -> (includeFilters.isEmpty() || matchesAny(includeFilters, issue))
+                    && !matchesAny(excludeFilters, issue);
+        }
+
+        private List<Predicate<Issue>> createFilters(final Map<FilterProperty, List<String>> patterns) {
+            List<Predicate<Issue>> filters = new ArrayList<>();
+            patterns.forEach((property, values) -> filters.add(property.createFilter(new PatternMatcher(values))));
+            return filters;
+        }
+
+        private static boolean matchesAny(final List<Predicate<Issue>> filters, final Issue issue) {
+            for (Predicate<Issue> filter : filters) {
+                if (filter.test(issue)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         //<editor-fold desc="File name">
@@ -903,7 +1107,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeFileNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getFileName, FilterType.INCLUDE);
+            addNewFilter(pattern, FilterProperty.FILE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -928,7 +1132,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeFileNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getFileName, FilterType.EXCLUDE);
+            addNewFilter(pattern, FilterProperty.FILE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -956,7 +1160,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludePackageNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getPackageName, FilterType.INCLUDE);
+            addNewFilter(pattern, FilterProperty.PACKAGE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -981,7 +1185,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludePackageNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getPackageName, FilterType.EXCLUDE);
+            addNewFilter(pattern, FilterProperty.PACKAGE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1009,7 +1213,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeModuleNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getModuleName, FilterType.INCLUDE);
+            addNewFilter(pattern, FilterProperty.MODULE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -1034,7 +1238,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeModuleNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getModuleName, FilterType.EXCLUDE);
+            addNewFilter(pattern, FilterProperty.MODULE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1062,7 +1266,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeCategoryFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getCategory, FilterType.INCLUDE);
+            addNewFilter(pattern, FilterProperty.CATEGORY, FilterType.INCLUDE);
             return this;
         }
 
@@ -1087,7 +1291,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeCategoryFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getCategory, FilterType.EXCLUDE);
+            addNewFilter(pattern, FilterProperty.CATEGORY, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1115,7 +1319,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeTypeFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getType, FilterType.INCLUDE);
+            addNewFilter(pattern, FilterProperty.TYPE, FilterType.INCLUDE);
             return this;
         }
 
@@ -1140,7 +1344,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeTypeFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getType, FilterType.EXCLUDE);
+            addNewFilter(pattern, FilterProperty.TYPE, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1210,8 +1414,7 @@ public class Report implements Iterable<Issue>, Serializable {
         }
 
         private void addMessageFilter(final Collection<String> pattern, final FilterType filterType) {
-            addNewFilter(pattern, issue -> String.format("%s\n%s", issue.getMessage(), issue.getDescription()),
-                    filterType);
+            addNewFilter(pattern, FilterProperty.MESSAGE, filterType);
         }
         //</editor-fold>
     }
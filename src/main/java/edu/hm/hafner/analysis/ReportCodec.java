@@ -0,0 +1,624 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Writes and reads {@link Report reports} using a compact binary format. Compared with the default Java serialization
+ * of a report, this format is much smaller and much faster to read:
+ * <ul>
+ *     <li>All strings are stored in a string table: each distinct string is written only once, all subsequent
+ *     occurrences are written as index into this table.</li>
+ *     <li>All numbers are written as variable length integers, line and column ends are written relative to the
+ *     corresponding start.</li>
+ *     <li>The predefined severities are written as ordinal.</li>
+ *     <li>The whole content can be compressed optionally.</li>
+ * </ul>
+ * The string table is built while writing (and reading) the issues, so a report is written and read in a single pass.
+ * The format starts with a magic number and a version number, so that the format can be evolved later on. The
+ * restored report is equal to the original report. Additional properties of issues are written using Java
+ * serialization.
+ *
+ * @author Ullrich Hafner
+ */
+public final class ReportCodec {
+    private static final int MAGIC_NUMBER = 0x52505431; // RPT1
+    private static final int VERSION = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int UNCOMPRESSED = 0;
+    private static final int COMPRESSED = 1;
+
+    private static final Severity[] PREDEFINED_SEVERITIES = {
+            Severity.ERROR, Severity.WARNING_HIGH, Severity.WARNING_NORMAL, Severity.WARNING_LOW};
+    private static final int OTHER_SEVERITY = PREDEFINED_SEVERITIES.length;
+
+    private final boolean isCompressed;
+
+    /**
+     * Creates a new codec that compresses the written reports.
+     */
+    public ReportCodec() {
+        this(true);
+    }
+
+    /**
+     * Creates a new codec.
+     *
+     * @param isCompressed
+     *         determines whether written reports should be compressed
+     */
+    public ReportCodec(final boolean isCompressed) {
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Writes the specified report to the specified stream. The stream will not be closed.
+     *
+     * @param report
+     *         the report to write
+     * @param stream
+     *         the stream to write to
+     *
+     * @throws IOException
+     *         if the report could not be written
+     */
+    public void write(final Report report, final OutputStream stream) throws IOException {
+        write(stream, writer -> writer.write(report));
+    }
+
+    /**
+     * Writes the specified issues to the specified stream. The written content is a valid report without any
+     * properties. The issues are written in the order of the collection, duplicates are not removed. The stream will
+     * not be closed.
+     *
+     * @param issues
+     *         the issues to write
+     * @param stream
+     *         the stream to write to
+     *
+     * @throws IOException
+     *         if the issues could not be written
+     * @see #readIssues(InputStream)
+     */
+    void writeIssues(final Collection<? extends Issue> issues, final OutputStream stream) throws IOException {
+        write(stream, writer -> writer.writeIssues(issues));
+    }
+
+    private void write(final OutputStream stream, final ContentWriter content) throws IOException {
+        DataOutputStream header = new DataOutputStream(stream);
+        header.writeInt(MAGIC_NUMBER);
+        header.writeByte(VERSION);
+        header.writeByte(isCompressed ? COMPRESSED : UNCOMPRESSED);
+        header.flush();
+
+        if (isCompressed) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                DeflaterOutputStream compressed = new DeflaterOutputStream(stream, deflater);
+                writeContent(content, compressed);
+                compressed.finish();
+            }
+            finally {
+                deflater.end();
+            }
+        }
+        else {
+            writeContent(content, stream);
+        }
+        stream.flush();
+    }
+
+    private void writeContent(final ContentWriter content, final OutputStream stream) throws IOException {
+        ReportWriter writer = new ReportWriter(new DataOutputStream(new BufferedOutputStream(stream)));
+        content.write(writer);
+        writer.flush();
+    }
+
+    /**
+     * Reads a report from the specified stream. The stream will not be closed. Note that the stream is read using a
+     * buffer, so the stream might be positioned after the end of the report afterwards.
+     *
+     * @param stream
+     *         the stream to read from
+     *
+     * @return the report
+     * @throws IOException
+     *         if the report could not be read
+     * @throws IllegalArgumentException
+     *         if the stream does not contain a report in a supported format
+     */
+    public Report read(final InputStream stream) throws IOException {
+        return new ReportReader(openContent(stream)).read();
+    }
+
+    /**
+     * Reads the issues of a report from the specified stream. In contrast to {@link #read(InputStream)} the issues are
+     * read lazily while iterating, so only the current issue is held in memory. The properties of the report are
+     * skipped. The stream will not be closed.
+     *
+     * @param stream
+     *         the stream to read from
+     *
+     * @return an iterator over the issues of the report
+     * @throws IOException
+     *         if the header of the report could not be read
+     * @throws UncheckedIOException
+     *         if an issue could not be read while iterating
+     * @throws IllegalArgumentException
+     *         if the stream does not contain a report in a supported format
+     */
+    Iterator<Issue> readIssues(final InputStream stream) throws IOException {
+        ReportReader reader = new ReportReader(openContent(stream));
+        reader.readProperties(new Report());
+        reader.readNumber(); // duplicates
+
+        return new IssueIterator(reader, reader.readNumber());
+    }
+
+    private InputStream openContent(final InputStream stream) throws IOException {
+        DataInputStream header = new DataInputStream(stream);
+        if (header.readInt() != MAGIC_NUMBER) {
+            throw new IllegalArgumentException("Not a valid report file");
+        }
+        int version = header.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported version of report file: " + version);
+        }
+        int compression = header.readUnsignedByte();
+        if (compression == COMPRESSED) {
+            return new InflaterInputStream(stream);
+        }
+        else if (compression == UNCOMPRESSED) {
+            return stream;
+        }
+        throw new IllegalArgumentException("Unsupported compression of report file: " + compression);
+    }
+
+    /**
+     * Writes the content of a report using the provided writer.
+     */
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(ReportWriter writer) throws IOException;
+    }
+
+    /**
+     * Iterates over the remaining issues of a reader.
+     */
+    private static final class IssueIterator implements Iterator<Issue> {
+        private final ReportReader reader;
+        private int remaining;
+
+        IssueIterator(final ReportReader reader, final int size) {
+            this.reader = reader;
+            remaining = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Issue next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException("No more issues available");
+            }
+            try {
+                remaining--;
+                return reader.readIssue();
+            }
+            catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+
+    /**
+     * Writes a report using a string table.
+     */
+    private static final class ReportWriter {
+        private final DataOutputStream output;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        ReportWriter(final DataOutputStream output) {
+            this.output = output;
+        }
+
+        void write(final Report report) throws IOException {
+            writeProperties(report);
+            writeNumber(report.getDuplicatesSize());
+
+            writeNumber(report.size());
+            for (Issue issue : report) {
+                write(issue);
+            }
+        }
+
+        void writeIssues(final Collection<? extends Issue> issues) throws IOException {
+            writeProperties(new Report());
+            writeNumber(0);
+
+            writeNumber(issues.size());
+            for (Issue issue : issues) {
+                write(issue);
+            }
+        }
+
+        private void writeProperties(final Report report) throws IOException {
+            writeStrings(report.getInfoMessages());
+            writeStrings(report.getErrorMessages());
+            writeStrings(report.getFileNames());
+            Map<String, String> namesByOrigin = report.getNamesByOrigin();
+            writeNumber(namesByOrigin.size());
+            for (Entry<String, String> name : namesByOrigin.entrySet()) {
+                writeString(name.getKey());
+                writeString(name.getValue());
+            }
+        }
+
+        private void write(final Issue issue) throws IOException {
+            output.writeLong(issue.getId().getMostSignificantBits());
+            output.writeLong(issue.getId().getLeastSignificantBits());
+
+            writeString(issue.getPath());
+            writeString(issue.getFileName());
+            writeNumber(issue.getLineStart());
+            writeNumber(issue.getLineEnd() - issue.getLineStart());
+            writeNumber(issue.getColumnStart());
+            writeNumber(issue.getColumnEnd() - issue.getColumnStart());
+            writeLineRanges(issue.getLineRanges());
+
+            writeString(issue.getCategory());
+            writeString(issue.getType());
+            writeString(issue.getPackageName());
+            writeString(issue.getModuleName());
+            writeSeverity(issue.getSeverity());
+            writeString(issue.getMessage());
+            writeString(issue.getDescription());
+            writeString(issue.getOrigin());
+            writeString(issue.getReference());
+            writeString(issue.getFingerprint());
+            writeAdditionalProperties(issue.getAdditionalProperties());
+        }
+
+        private void writeLineRanges(final Iterable<? extends LineRange> lineRanges) throws IOException {
+            List<LineRange> ranges = new ArrayList<>();
+            for (LineRange range : lineRanges) {
+                ranges.add(range);
+            }
+            writeNumber(ranges.size());
+            for (LineRange range : ranges) {
+                writeNumber(range.getStart());
+                writeNumber(range.getEnd() - range.getStart());
+            }
+        }
+
+        private void writeSeverity(final Severity severity) throws IOException {
+            for (int i = 0; i < PREDEFINED_SEVERITIES.length; i++) {
+                if (PREDEFINED_SEVERITIES[i].equals(severity)) {
+                    writeNumber(i);
+                    return;
+                }
+            }
+            writeNumber(OTHER_SEVERITY);
+            writeString(severity.getName());
+        }
+
+        private void writeAdditionalProperties(@Nullable final Serializable additionalProperties) throws IOException {
+            if (additionalProperties == null) {
+                writeNumber(0);
+            }
+            else {
+                ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+                try (ObjectOutputStream objectOutput = new ObjectOutputStream(serialized)) {
+                    objectOutput.writeObject(additionalProperties);
+                }
+                writeNumber(serialized.size());
+                serialized.writeTo(output);
+            }
+        }
+
+        private void writeStrings(final Iterable<String> values) throws IOException {
+            List<String> list = new ArrayList<>();
+            values.forEach(list::add);
+            writeNumber(list.size());
+            for (String value : list) {
+                writeString(value);
+            }
+        }
+
+        /**
+         * Writes the index of the specified string in the string table. If the string is not yet part of the table
+         * then the string is appended to the table: the new index is written followed by the UTF-8 encoded string.
+         */
+        private void writeString(final String value) throws IOException {
+            Integer index = strings.get(value);
+            if (index == null) {
+                int added = strings.size();
+                strings.put(value, added);
+                writeNumber(added);
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeNumber(bytes.length);
+                output.write(bytes);
+            }
+            else {
+                writeNumber(index);
+            }
+        }
+
+        /**
+         * Writes the specified non-negative number as variable length integer: 7 bits per byte, the highest bit
+         * indicates that more bytes follow.
+         */
+        private void writeNumber(final int value) throws IOException {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                output.writeByte((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            output.writeByte(remaining);
+        }
+
+        void flush() throws IOException {
+            output.flush();
+        }
+    }
+
+    /**
+     * Reads a report using a string table.
+     */
+    private static final class ReportReader {
+        private final InputStream input;
+        private byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+
+        private final List<String> strings = new ArrayList<>();
+        private final List<TextEntry> texts = new ArrayList<>();
+        private final List<PathEntry> paths = new ArrayList<>();
+        private final InterningPool pool = InterningPool.getShared();
+
+        ReportReader(final InputStream input) {
+            this.input = input;
+        }
+
+        Report read() throws IOException {
+            Report report = new Report();
+            readProperties(report);
+            int duplicates = readNumber();
+
+            int size = readNumber();
+            for (int i = 0; i < size; i++) {
+                report.add(readIssue());
+            }
+            report.addDuplicates(duplicates - report.getDuplicatesSize());
+
+            return report;
+        }
+
+        void readProperties(final Report report) throws IOException {
+            int infoMessages = readNumber();
+            for (int i = 0; i < infoMessages; i++) {
+                report.logInfo("%s", readString());
+            }
+            int errorMessages = readNumber();
+            for (int i = 0; i < errorMessages; i++) {
+                report.logError("%s", readString());
+            }
+            int fileNames = readNumber();
+            for (int i = 0; i < fileNames; i++) {
+                report.addFileName(readString());
+            }
+            int names = readNumber();
+            for (int i = 0; i < names; i++) {
+                report.setNameOfOrigin(readString(), readString());
+            }
+        }
+
+        Issue readIssue() throws IOException {
+            UUID id = new UUID(readLong(), readLong());
+
+            String pathName = readString();
+            PathEntry fileName = readPath();
+            int lineStart = readNumber();
+            int lineEnd = lineStart + readNumber();
+            int columnStart = readNumber();
+            int columnEnd = columnStart + readNumber();
+            LineRangeList lineRanges = readLineRanges();
+
+            String category = readString();
+            String type = readString();
+            TextEntry packageName = readText();
+            String moduleName = readString();
+            Severity severity = readSeverity();
+            TextEntry message = readText();
+            String description = readString();
+            String origin = readString();
+            String reference = readString();
+            String fingerprint = readString();
+            Serializable additionalProperties = readAdditionalProperties();
+
+            return new Issue(pathName, fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges,
+                    category, type, packageName, moduleName, severity, message, description, origin, reference,
+                    fingerprint, additionalProperties, id);
+        }
+
+        private LineRangeList readLineRanges() throws IOException {
+            int size = readNumber();
+            LineRangeList lineRanges = new LineRangeList(size);
+            for (int i = 0; i < size; i++) {
+                int start = readNumber();
+                lineRanges.add(new LineRange(start, start + readNumber()));
+            }
+            return lineRanges;
+        }
+
+        private Severity readSeverity() throws IOException {
+            int ordinal = readNumber();
+            if (ordinal < OTHER_SEVERITY) {
+                return PREDEFINED_SEVERITIES[ordinal];
+            }
+            if (ordinal == OTHER_SEVERITY) {
+                return new Severity(readString());
+            }
+            throw new IllegalArgumentException("Invalid severity in report file: " + ordinal);
+        }
+
+        @Nullable
+        private Serializable readAdditionalProperties() throws IOException {
+            int length = readNumber();
+            if (length == 0) {
+                return null;
+            }
+            byte[] serialized = readBytes(length);
+            try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+                return (Serializable) objectInput.readObject();
+            }
+            catch (ClassNotFoundException exception) {
+                throw new IOException("Can't restore additional properties of issue", exception);
+            }
+        }
+
+        private TextEntry readText() throws IOException {
+            int index = readIndex();
+            TextEntry cached = texts.get(index);
+            if (cached == null) {
+                cached = pool.internText(strings.get(index));
+                texts.set(index, cached);
+            }
+            return cached;
+        }
+
+        private PathEntry readPath() throws IOException {
+            int index = readIndex();
+            PathEntry cached = paths.get(index);
+            if (cached == null) {
+                cached = pool.internPath(strings.get(index));
+                paths.set(index, cached);
+            }
+            return cached;
+        }
+
+        private String readString() throws IOException {
+            return strings.get(readIndex());
+        }
+
+        private int readIndex() throws IOException {
+            int index = readNumber();
+            if (index == strings.size()) {
+                int length = readNumber();
+                fill(length);
+                strings.add(pool.intern(new String(buffer, position, length, StandardCharsets.UTF_8)));
+                position += length;
+                texts.add(null);
+                paths.add(null);
+            }
+            else if (index > strings.size()) {
+                throw new IllegalArgumentException("Invalid string reference in report file: " + index);
+            }
+            return index;
+        }
+
+        int readNumber() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int read = readByte();
+                value |= (read & 0x7F) << shift;
+                if ((read & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Invalid number in report file");
+        }
+
+        private long readLong() throws IOException {
+            fill(Long.BYTES);
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = value << Byte.SIZE | buffer[position++] & 0xFF;
+            }
+            return value;
+        }
+
+        private int readByte() throws IOException {
+            if (position == limit) {
+                fill(1);
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        private byte[] readBytes(final int length) throws IOException {
+            byte[] bytes = new byte[length];
+            int copied = Math.min(length, limit - position);
+            System.arraycopy(buffer, position, bytes, 0, copied);
+            position += copied;
+            int offset = copied;
+            while (offset < length) {
+                int read = input.read(bytes, offset, length - offset);
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of report file");
+                }
+                offset += read;
+            }
+            return bytes;
+        }
+
+        /**
+         * Makes sure that the buffer contains at least the specified number of bytes. If the buffer is too small then
+         * the buffer will be replaced with a larger one.
+         */
+        private void fill(final int length) throws IOException {
+            if (limit - position >= length) {
+                return;
+            }
+            if (length > buffer.length) {
+                byte[] larger = new byte[length];
+                System.arraycopy(buffer, position, larger, 0, limit - position);
+                limit -= position;
+                position = 0;
+                buffer = larger;
+            }
+            else {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= position;
+                position = 0;
+            }
+            while (limit < length) {
+                int read = input.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of report file");
+                }
+                limit += read;
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Secondary indexes of the issues of a {@link Report}. The index by ID is updated with every change of the report. The
+ * indexes by property value are created on demand when the first query for a property is evaluated and are updated
+ * afterwards with every change of the report. Since some of the indexed properties of an {@link Issue} are mutable,
+ * the property indexes are discarded whenever one of these properties of an issue of the report has been changed (see
+ * {@link ModificationTracker}).
+ *
+ * @author Ullrich Hafner
+ */
+final class ReportIndex {
+    private final Set<Issue> elements;
+    private final ModificationTracker tracker;
+
+    private final Map<UUID, Issue> elementsById = new HashMap<>();
+    private final Map<Property, Map<Object, Set<Issue>>> elementsByProperty = new EnumMap<>(Property.class);
+    private long modificationCount;
+
+    /**
+     * Creates a new index for the specified elements.
+     *
+     * @param elements
+     *         the elements of the report, the index will be updated with {@link #add(Issue)} and {@link
+     *         #remove(Issue)}
+     * @param tracker
+     *         the tracker that counts the modifications of the elements
+     */
+    ReportIndex(final Set<Issue> elements, final ModificationTracker tracker) {
+        this.elements = elements;
+        this.tracker = tracker;
+
+        for (Issue element : elements) {
+            elementsById.put(element.getId(), element);
+        }
+        modificationCount = tracker.getModificationCount();
+    }
+
+    /**
+     * Adds the specified issue to all indexes. The issue must already be part of the elements.
+     *
+     * @param issue
+     *         the issue to add
+     */
+    void add(final Issue issue) {
+        elementsById.put(issue.getId(), issue);
+        elementsByProperty.forEach((property, index) -> addToIndex(index, property, issue));
+    }
+
+    /**
+     * Removes the specified issue from all indexes.
+     *
+     * @param issue
+     *         the issue to remove
+     */
+    void remove(final Issue issue) {
+        elementsById.remove(issue.getId());
+        elementsByProperty.forEach((property, index) -> {
+            Object value = property.getValue(issue);
+            Set<Issue> bucket = index.get(value);
+            if (bucket != null) {
+                bucket.remove(issue);
+                if (bucket.isEmpty()) {
+                    index.remove(value);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the issue with the specified ID.
+     *
+     * @param id
+     *         the ID of the issue
+     *
+     * @return the issue, or {@code null} if there is no such issue
+     */
+    @Nullable
+    Issue findById(final UUID id) {
+        return elementsById.get(id);
+    }
+
+    /**
+     * Returns all issues that have the specified value for the given property. The issues are returned in the order
+     * of the report.
+     *
+     * @param property
+     *         the property to look for
+     * @param value
+     *         the value of the property
+     *
+     * @return the matching issues (an unmodifiable view)
+     */
+    Set<Issue> findByProperty(final Property property, final Object value) {
+        return Collections.unmodifiableSet(getIndex(property).getOrDefault(value, Collections.emptySet()));
+    }
+
+    private Map<Object, Set<Issue>> getIndex(final Property property) {
+        long currentModificationCount = tracker.getModificationCount();
+        if (currentModificationCount != modificationCount) {
+            elementsByProperty.keySet().removeIf(Property::isMutable);
+            modificationCount = currentModificationCount;
+        }
+        return elementsByProperty.computeIfAbsent(property, this::createIndex);
+    }
+
+    private Map<Object, Set<Issue>> createIndex(final Property property) {
+        Map<Object, Set<Issue>> index = new HashMap<>();
+        for (Issue element : elements) {
+            addToIndex(index, property, element);
+        }
+        return index;
+    }
+
+    private void addToIndex(final Map<Object, Set<Issue>> index, final Property property, final Issue issue) {
+        index.computeIfAbsent(property.getValue(issue), key -> new LinkedHashSet<>()).add(issue);
+    }
+
+    /**
+     * Properties of an {@link Issue} that can be indexed.
+     */
+    enum Property {
+        FILE_NAME(Issue::getFileName, true),
+        MODULE_NAME(Issue::getModuleName, true),
+        PACKAGE_NAME(Issue::getPackageName, true),
+        FINGERPRINT(Issue::getFingerprint, true),
+        SEVERITY(Issue::getSeverity, false);
+
+        private final Function<Issue, Object> getter;
+        private final boolean mutable;
+
+        Property(final Function<Issue, Object> getter, final boolean mutable) {
+            this.getter = getter;
+            this.mutable = mutable;
+        }
+
+        Object getValue(final Issue issue) {
+            return getter.apply(issue);
+        }
+
+        boolean isMutable() {
+            return mutable;
+        }
+    }
+
+    /**
+     * A predicate that checks if a property of an issue is equal to a given value. Reports use the indexes to evaluate
+     * such predicates without scanning all elements.
+     */
+    static final class PropertyFilter implements Predicate<Issue> {
+        private final Property property;
+        private final Object value;
+
+        PropertyFilter(final Property property, final Object value) {
+            this.property = property;
+            this.value = value;
+        }
+
+        Property getProperty() {
+            return property;
+        }
+
+        Object getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean test(final Issue issue) {
+            return property.getValue(issue).equals(value);
+        }
+    }
+}
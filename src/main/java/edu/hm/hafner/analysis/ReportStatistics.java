@@ -0,0 +1,233 @@
+package edu.hm.hafner.analysis;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Statistics of the issues of a {@link Report}: the number of issues per severity and the number of issues for each
+ * value of the most important properties. The statistics are updated with every change of the report so that queries
+ * do not need to scan all elements of the report.
+ * <p>
+ * The counters of the immutable properties (severity, category, and type) are updated incrementally. Since the other
+ * properties of an {@link Issue} are mutable, the counters of these properties are discarded whenever one of these
+ * properties of an issue of the report has been changed (see {@link ModificationTracker}). In this case all counters of
+ * the mutable properties are recomputed on demand in a single pass over the elements, afterwards they are updated
+ * incrementally again.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class ReportStatistics {
+    private static final Severity[] PREDEFINED_SEVERITIES = {
+            Severity.ERROR, Severity.WARNING_HIGH, Severity.WARNING_NORMAL, Severity.WARNING_LOW};
+
+    private final Set<Issue> elements;
+    private final ModificationTracker tracker;
+
+    private final int[] sizeOfPredefinedSeverities = new int[PREDEFINED_SEVERITIES.length];
+    private final Map<Severity, Counter> sizeOfOtherSeverities = new HashMap<>();
+    private final Map<CountedProperty, Map<String, Counter>> sizeOfValues = new EnumMap<>(CountedProperty.class);
+
+    private boolean isMutableValid;
+    private long modificationCount;
+
+    /**
+     * Creates new statistics for the specified elements.
+     *
+     * @param elements
+     *         the elements of the report, the statistics will be updated with {@link #add(Issue)} and {@link
+     *         #remove(Issue)}
+     * @param tracker
+     *         the tracker that counts the modifications of the elements
+     */
+    ReportStatistics(final Set<Issue> elements, final ModificationTracker tracker) {
+        this.elements = elements;
+        this.tracker = tracker;
+
+        for (CountedProperty property : CountedProperty.values()) {
+            sizeOfValues.put(property, new HashMap<>());
+        }
+        modificationCount = tracker.getModificationCount();
+        isMutableValid = false;
+        for (Issue element : elements) {
+            update(element, 1);
+        }
+    }
+
+    /**
+     * Adds the specified issue to the statistics. The issue must already be part of the elements.
+     *
+     * @param issue
+     *         the issue to add
+     */
+    void add(final Issue issue) {
+        update(issue, 1);
+    }
+
+    /**
+     * Removes the specified issue from the statistics.
+     *
+     * @param issue
+     *         the issue to remove
+     */
+    void remove(final Issue issue) {
+        update(issue, -1);
+    }
+
+    private void update(final Issue issue, final int delta) {
+        updateSeverity(issue.getSeverity(), delta);
+
+        invalidateModifiedProperties();
+        for (CountedProperty property : CountedProperty.values()) {
+            if (isMutableValid || !property.isMutable()) {
+                updateValue(property, issue, delta);
+            }
+        }
+    }
+
+    private void updateSeverity(final Severity severity, final int delta) {
+        for (int i = 0; i < PREDEFINED_SEVERITIES.length; i++) {
+            if (PREDEFINED_SEVERITIES[i].equals(severity)) {
+                sizeOfPredefinedSeverities[i] += delta;
+                return;
+            }
+        }
+        Counter counter = sizeOfOtherSeverities.computeIfAbsent(severity, key -> new Counter());
+        counter.add(delta);
+        if (counter.get() == 0) {
+            sizeOfOtherSeverities.remove(severity);
+        }
+    }
+
+    private void updateValue(final CountedProperty property, final Issue issue, final int delta) {
+        Map<String, Counter> counters = sizeOfValues.get(property);
+        String value = property.getValue(issue);
+        Counter counter = counters.computeIfAbsent(value, key -> new Counter());
+        counter.add(delta);
+        if (counter.get() == 0) {
+            counters.remove(value);
+        }
+    }
+
+    private void invalidateModifiedProperties() {
+        long currentModificationCount = tracker.getModificationCount();
+        if (currentModificationCount != modificationCount) {
+            modificationCount = currentModificationCount;
+            isMutableValid = false;
+        }
+    }
+
+    private Map<String, Counter> getCounters(final CountedProperty property) {
+        invalidateModifiedProperties();
+        if (property.isMutable() && !isMutableValid) {
+            for (CountedProperty mutable : CountedProperty.values()) {
+                if (mutable.isMutable()) {
+                    sizeOfValues.get(mutable).clear();
+                }
+            }
+            for (Issue element : elements) {
+                for (CountedProperty mutable : CountedProperty.values()) {
+                    if (mutable.isMutable()) {
+                        updateValue(mutable, element, 1);
+                    }
+                }
+            }
+            isMutableValid = true;
+        }
+        return sizeOfValues.get(property);
+    }
+
+    /**
+     * Returns the number of issues with the specified {@link Severity}.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues
+     */
+    int getSizeOf(final Severity severity) {
+        for (int i = 0; i < PREDEFINED_SEVERITIES.length; i++) {
+            if (PREDEFINED_SEVERITIES[i].equals(severity)) {
+                return sizeOfPredefinedSeverities[i];
+            }
+        }
+        Counter counter = sizeOfOtherSeverities.get(severity);
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * Returns the severities of all issues.
+     *
+     * @return the severities
+     */
+    Set<Severity> getSeverities() {
+        Set<Severity> severities = new HashSet<>(sizeOfOtherSeverities.keySet());
+        for (int i = 0; i < PREDEFINED_SEVERITIES.length; i++) {
+            if (sizeOfPredefinedSeverities[i] > 0) {
+                severities.add(PREDEFINED_SEVERITIES[i]);
+            }
+        }
+        return severities;
+    }
+
+    /**
+     * Returns the different values of the specified property for all issues.
+     *
+     * @param property
+     *         the property
+     *
+     * @return the different values (a modifiable copy)
+     */
+    Set<String> getValues(final CountedProperty property) {
+        return new HashSet<>(getCounters(property).keySet());
+    }
+
+    /**
+     * Properties of an {@link Issue} that are counted.
+     */
+    enum CountedProperty {
+        MODULE_NAME(Issue::getModuleName, true),
+        PACKAGE_NAME(Issue::getPackageName, true),
+        FOLDER(Issue::getFolder, true),
+        ABSOLUTE_PATH(Issue::getAbsolutePath, true),
+        FILE_NAME(Issue::getFileName, true),
+        ORIGIN(Issue::getOrigin, true),
+        CATEGORY(Issue::getCategory, false),
+        TYPE(Issue::getType, false);
+
+        private final Function<Issue, String> getter;
+        private final boolean mutable;
+
+        CountedProperty(final Function<Issue, String> getter, final boolean mutable) {
+            this.getter = getter;
+            this.mutable = mutable;
+        }
+
+        String getValue(final Issue issue) {
+            return getter.apply(issue);
+        }
+
+        boolean isMutable() {
+            return mutable;
+        }
+    }
+
+    /**
+     * A mutable counter.
+     */
+    private static final class Counter {
+        private int value;
+
+        void add(final int delta) {
+            value += delta;
+        }
+
+        int get() {
+            return value;
+        }
+    }
+}
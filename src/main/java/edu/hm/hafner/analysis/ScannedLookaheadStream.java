@@ -0,0 +1,120 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import edu.hm.hafner.util.LookaheadStream;
+
+/**
+ * A {@link LookaheadStream} that reads the lines from a {@link LineScanner}. The next line is kept in the buffer of the
+ * scanner: a {@link String} is created only if the line is actually handed out by {@link #next()} or
+ * {@link #peekNext()}. Lines that are not of interest can be inspected using {@link #peekSequence()} and skipped using
+ * {@link #skip()} without creating a {@link String}.
+ *
+ * @author Ullrich Hafner
+ */
+final class ScannedLookaheadStream extends LookaheadStream {
+    private final LineScanner scanner;
+    private final String fileName;
+
+    /** Determines whether the scanner has been advanced to a line that has not been handed out yet. */
+    private boolean isPending = false;
+    private int line = 0;
+
+    ScannedLookaheadStream(final LineScanner scanner, final String fileName) {
+        super(Stream.empty(), fileName);
+
+        this.scanner = scanner;
+        this.fileName = fileName;
+    }
+
+    @Override
+    public String getFileName() {
+        return fileName;
+    }
+
+    @Override
+    public void close() {
+        try {
+            scanner.close();
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!isPending) {
+            isPending = scanner.advance();
+        }
+        return isPending;
+    }
+
+    @Override
+    public boolean hasNext(final String regexp) {
+        return hasNext() && Pattern.compile(regexp).matcher(scanner.getLine()).find();
+    }
+
+    @Override
+    public String peekNext() {
+        ensureNext();
+
+        return scanner.getLineAsString();
+    }
+
+    @Override
+    public String next() {
+        ensureNext();
+
+        isPending = false;
+        line++;
+        return scanner.getLineAsString();
+    }
+
+    /**
+     * Peeks the next element in the stream as {@link CharSequence}. The returned view is valid until the next line is
+     * handed out or skipped.
+     *
+     * @return the next element in the stream
+     * @throws NoSuchElementException
+     *         if the stream has no more elements
+     */
+    CharSequence peekSequence() {
+        ensureNext();
+
+        return scanner.getLine();
+    }
+
+    /**
+     * Skips the next element in the stream. The line number is incremented as if the line has been handed out using
+     * {@link #next()}.
+     *
+     * @throws NoSuchElementException
+     *         if the stream has no more elements
+     */
+    void skip() {
+        ensureNext();
+
+        isPending = false;
+        line++;
+    }
+
+    private void ensureNext() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more lines in " + fileName);
+        }
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%d] -> '%s'", line, isPending ? scanner.getLine() : "");
+    }
+}
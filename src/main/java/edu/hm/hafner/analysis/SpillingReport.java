@@ -0,0 +1,635 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A set of unique {@link Issue issues} that holds at most a configurable number of issues in memory. As long as the
+ * budget is not exceeded, the issues are stored in a {@link Report}. When the budget is exceeded, the issues in memory
+ * are sorted by their hash code and spilled as a run to a temporary file, along with the position of each issue in the
+ * order the issues have been added. The issues of a run are unique, duplicates in different runs are found by merging
+ * the runs by hash code and comparing the issues with equal hash codes. So a huge number of issues degrades to disk
+ * I/O rather than to an {@link OutOfMemoryError}.
+ * <p>
+ * The issues are iterated in the order they have been added, the first added issue of a set of equal issues is
+ * retained. While iterating, the issues of a single run are held in memory. The number of issues and duplicates is
+ * computed by merging the runs and cached until the next issue is added.
+ * </p>
+ * <p>
+ * This report uses temporary files, so it must be closed to delete these files. Iterators of this report may be used
+ * only while this report is open.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class SpillingReport implements Iterable<Issue>, Closeable {
+    private static final Comparator<Issue> BY_HASH_CODE = Comparator.comparingInt(Issue::hashCode);
+
+    private final int budget;
+    @Nullable
+    private final Path directory;
+    private final ReportCodec codec = new ReportCodec(false);
+
+    private final List<Run> runs = new ArrayList<>();
+    /** The number of issues in all spilled runs, i.e. the position of the first issue in memory. */
+    private int spilledSize;
+    private Report buffer = new Report();
+    /** The number of duplicates that have been skipped while filling the spilled runs. */
+    private int spilledDuplicates;
+
+    @Nullable
+    private Counts counts;
+
+    /**
+     * Creates a new empty report that spills its issues to the default temporary-file directory.
+     *
+     * @param budget
+     *         the maximum number of issues to hold in memory
+     */
+    public SpillingReport(final int budget) {
+        this(budget, null);
+    }
+
+    /**
+     * Creates a new empty report.
+     *
+     * @param budget
+     *         the maximum number of issues to hold in memory
+     * @param directory
+     *         the directory to create the temporary files in, or {@code null} to use the default temporary-file
+     *         directory
+     */
+    public SpillingReport(final int budget, @Nullable final Path directory) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Budget must be positive: " + budget);
+        }
+        this.budget = budget;
+        this.directory = directory;
+    }
+
+    /**
+     * Appends the specified issue to this report. Duplicates will be skipped (the number of skipped elements is
+     * available using the method {@link #getDuplicatesSize()}. If the number of issues in memory reaches the budget,
+     * then these issues are spilled to a temporary file.
+     *
+     * @param issue
+     *         the issue to append
+     *
+     * @return this
+     * @throws UncheckedIOException
+     *         if the issues could not be spilled to a temporary file
+     */
+    public SpillingReport add(final Issue issue) {
+        counts = null;
+        buffer.add(issue);
+        if (buffer.size() >= budget) {
+            spill();
+        }
+        return this;
+    }
+
+    /**
+     * Appends all of the specified issues to this report.
+     *
+     * @param issues
+     *         the issues to append
+     *
+     * @return this
+     * @throws UncheckedIOException
+     *         if the issues could not be spilled to a temporary file
+     * @see #add(Issue)
+     */
+    public SpillingReport addAll(final Iterable<? extends Issue> issues) {
+        for (Issue issue : issues) {
+            add(issue);
+        }
+        return this;
+    }
+
+    private void spill() {
+        List<Path> created = new ArrayList<>();
+        try {
+            Path issuesFile = createTempFile(".run", created);
+            Path positionsFile = createTempFile(".positions", created);
+
+            List<Issue> issues = getBufferedIssues();
+            int[] positions = sortByHashCode(issues);
+            try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(issuesFile))) {
+                List<Issue> sorted = new ArrayList<>(issues.size());
+                for (int position : positions) {
+                    sorted.add(issues.get(position));
+                }
+                codec.writeIssues(sorted, output);
+            }
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(positionsFile)))) {
+                for (int position : positions) {
+                    output.writeInt(position);
+                }
+            }
+            runs.add(new Run(spilledSize, issues.size(), issuesFile, positionsFile));
+            spilledSize += issues.size();
+            spilledDuplicates += buffer.getDuplicatesSize();
+            buffer = new Report();
+        }
+        catch (IOException exception) {
+            for (Path file : created) {
+                try {
+                    Files.deleteIfExists(file);
+                }
+                catch (IOException ignore) {
+                    // best effort, the spilling problem is reported below
+                }
+            }
+            throw new UncheckedIOException("Can't spill issues to a temporary file", exception);
+        }
+    }
+
+    private Path createTempFile(final String suffix, final List<Path> created) throws IOException {
+        Path file = directory == null
+                ? Files.createTempFile("issues", suffix)
+                : Files.createTempFile(directory, "issues", suffix);
+        created.add(file);
+        return file;
+    }
+
+    private List<Issue> getBufferedIssues() {
+        List<Issue> issues = new ArrayList<>(buffer.size());
+        buffer.forEach(issues::add);
+        return issues;
+    }
+
+    /**
+     * Returns the positions of the specified issues sorted by the hash code of the issues. Issues with the same hash
+     * code retain their order.
+     */
+    private static int[] sortByHashCode(final List<Issue> issues) {
+        return IntStream.range(0, issues.size())
+                .boxed()
+                .sorted(Comparator.comparingInt(position -> issues.get(position).hashCode()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Returns the number of runs that have been spilled to temporary files.
+     *
+     * @return the number of runs
+     */
+    int getRunsSize() {
+        return runs.size();
+    }
+
+    /**
+     * Returns whether issues have been spilled to temporary files.
+     *
+     * @return {@code true} if issues have been spilled, {@code false} if all issues are held in memory
+     */
+    public boolean isSpilled() {
+        return !runs.isEmpty();
+    }
+
+    /**
+     * Returns an iterator over the issues of this report. If issues have been spilled, then the iterator merges the
+     * runs to find the duplicates first. Afterwards, the runs are read one after another: only the issues of the
+     * current run are held in memory.
+     *
+     * @return an iterator over the issues of this report
+     * @throws UncheckedIOException
+     *         if the spilled issues could not be read
+     */
+    @Override
+    public Iterator<Issue> iterator() {
+        if (runs.isEmpty()) {
+            return buffer.iterator();
+        }
+        return new SpilledIterator(new Merger().getDuplicates());
+    }
+
+    /**
+     * Creates a new sequential {@code Stream} of {@link Issue} instances from this report. The stream should be
+     * closed if it is not consumed completely.
+     *
+     * @return a new stream of issues
+     */
+    public Stream<Issue> stream() {
+        Iterator<Issue> iterator = iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Returns the number of issues in this report.
+     *
+     * @return total number of issues
+     */
+    public int size() {
+        return getCounts().size;
+    }
+
+    /**
+     * Returns whether this report is empty.
+     *
+     * @return {@code true} if this report is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return runs.isEmpty() && buffer.isEmpty();
+    }
+
+    /**
+     * Returns the number of duplicates. Every issue that has been added to this report, but already is part of this
+     * report (based on {@link Issue#equals(Object)}) is counted as a duplicate. Duplicates are not stored in this report.
+     *
+     * @return total number of duplicates
+     */
+    public int getDuplicatesSize() {
+        return getCounts().duplicates;
+    }
+
+    /**
+     * Returns the number of issues with the specified {@link Severity}.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues
+     */
+    public int getSizeOf(final Severity severity) {
+        return getCounts().sizeOfSeverity.getOrDefault(severity, 0);
+    }
+
+    private Counts getCounts() {
+        if (counts == null) {
+            counts = new Counts();
+        }
+        return counts;
+    }
+
+    /**
+     * Copies all issues of this report into a new {@link Report}. Note that the created report holds all issues in
+     * memory.
+     *
+     * @return a report with all issues of this report
+     */
+    public Report toReport() {
+        Report report = new Report();
+        try (Stream<Issue> issues = stream()) {
+            issues.forEach(report::add);
+        }
+        report.addDuplicates(getDuplicatesSize());
+        return report;
+    }
+
+    /**
+     * Deletes all temporary files of this report and removes all issues.
+     *
+     * @throws IOException
+     *         if a temporary file could not be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (Run run : runs) {
+            try {
+                Files.deleteIfExists(run.issues);
+                Files.deleteIfExists(run.positions);
+            }
+            catch (IOException exception) {
+                failure = exception;
+            }
+        }
+        runs.clear();
+        spilledSize = 0;
+        buffer = new Report();
+        spilledDuplicates = 0;
+        counts = null;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * The number of issues, duplicates and issues per severity of this report.
+     */
+    private final class Counts {
+        private int size;
+        private int duplicates;
+        private final Map<Severity, Integer> sizeOfSeverity = new HashMap<>();
+
+        Counts() {
+            if (runs.isEmpty()) {
+                size = buffer.size();
+                duplicates = buffer.getDuplicatesSize();
+                for (Issue issue : buffer) {
+                    sizeOfSeverity.merge(issue.getSeverity(), 1, Integer::sum);
+                }
+            }
+            else {
+                Merger merger = new Merger();
+                size = merger.getRetained();
+                duplicates = spilledDuplicates + buffer.getDuplicatesSize() + merger.getDuplicates().cardinality();
+                sizeOfSeverity.putAll(merger.getSizeOfSeverity());
+            }
+        }
+    }
+
+    /**
+     * A run of issues that has been spilled to temporary files. The issues are stored sorted by their hash code, the
+     * positions of the issues (in the order the issues have been added to the run) are stored in the same order in a
+     * second file.
+     */
+    private static final class Run {
+        private final int offset;
+        private final int size;
+        private final Path issues;
+        private final Path positions;
+
+        Run(final int offset, final int size, final Path issues, final Path positions) {
+            this.offset = offset;
+            this.size = size;
+            this.issues = issues;
+            this.positions = positions;
+        }
+    }
+
+    /**
+     * Merges the runs and the issues in memory by the hash code of the issues. Since all runs are sorted by the hash
+     * code, equal issues of different runs are merged into the same group of issues with the same hash code. Within
+     * such a group, the issues of older runs take precedence: the issues that are equal to an issue of an older run
+     * are marked as duplicates.
+     */
+    private final class Merger {
+        private final PriorityQueue<Cursor> cursors = new PriorityQueue<>(
+                Comparator.comparingInt((Cursor cursor) -> cursor.head().hashCode()).thenComparingInt(Cursor::order));
+        private final BitSet duplicates = new BitSet();
+        private final Map<Severity, Integer> sizeOfSeverity = new HashMap<>();
+        private int retained;
+        private int order;
+
+        Merger() {
+            List<Closeable> inputs = new ArrayList<>();
+            try {
+                for (Run run : runs) {
+                    InputStream issues = open(run.issues, inputs);
+                    DataInputStream positions = new DataInputStream(open(run.positions, inputs));
+                    add(run.offset, codec.readIssues(issues), readPositions(positions, run.size));
+                }
+                List<Issue> buffered = getBufferedIssues();
+                int[] positions = sortByHashCode(buffered);
+                add(spilledSize, IntStream.of(positions).mapToObj(buffered::get).iterator(),
+                        IntStream.of(positions).iterator());
+
+                merge();
+            }
+            catch (IOException exception) {
+                throw new UncheckedIOException("Can't read spilled issues", exception);
+            }
+            finally {
+                close(inputs);
+            }
+        }
+
+        private InputStream open(final Path file, final List<Closeable> inputs) throws IOException {
+            InputStream input = new BufferedInputStream(Files.newInputStream(file));
+            inputs.add(input);
+            return input;
+        }
+
+        private void add(final int offset, final Iterator<Issue> issues, final Iterator<Integer> positions) {
+            Cursor cursor = new Cursor(order++, offset, issues, positions);
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+
+        private void close(final List<Closeable> inputs) {
+            for (Closeable input : inputs) {
+                try {
+                    input.close();
+                }
+                catch (IOException ignore) {
+                    // the content has been read already
+                }
+            }
+        }
+
+        private void merge() {
+            List<Issue> group = new ArrayList<>();
+            List<Cursor> consumed = new ArrayList<>();
+            while (!cursors.isEmpty()) {
+                int hashCode = cursors.peek().head().hashCode();
+                while (!cursors.isEmpty() && cursors.peek().head().hashCode() == hashCode) {
+                    Cursor cursor = cursors.poll();
+                    do {
+                        Issue issue = cursor.head();
+                        if (group.contains(issue)) {
+                            duplicates.set(cursor.position());
+                        }
+                        else {
+                            group.add(issue);
+                            sizeOfSeverity.merge(issue.getSeverity(), 1, Integer::sum);
+                            retained++;
+                        }
+                    }
+                    while (cursor.advance() && cursor.head().hashCode() == hashCode);
+                    consumed.add(cursor);
+                }
+                for (Cursor cursor : consumed) {
+                    if (cursor.hasHead()) {
+                        cursors.add(cursor);
+                    }
+                }
+                group.clear();
+                consumed.clear();
+            }
+        }
+
+        /**
+         * Returns the positions of the issues that are duplicates of issues in older runs.
+         *
+         * @return the positions of the duplicates
+         */
+        BitSet getDuplicates() {
+            return duplicates;
+        }
+
+        int getRetained() {
+            return retained;
+        }
+
+        Map<Severity, Integer> getSizeOfSeverity() {
+            return sizeOfSeverity;
+        }
+    }
+
+    private static Iterator<Integer> readPositions(final DataInputStream positions, final int size) {
+        return new Iterator<Integer>() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                return read < size;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more positions available");
+                }
+                try {
+                    read++;
+                    return positions.readInt();
+                }
+                catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the issues of the runs and the issues in memory in the order they have been added. The issues of a run
+     * are read into memory and restored to the order they have been added, the duplicates are skipped.
+     */
+    private final class SpilledIterator implements Iterator<Issue> {
+        private final BitSet duplicates;
+        private final Iterator<Run> remaining = new ArrayList<>(runs).iterator();
+        private Iterator<Issue> current = new ArrayList<Issue>().iterator();
+        private boolean isBufferRead;
+
+        SpilledIterator(final BitSet duplicates) {
+            this.duplicates = duplicates;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                if (remaining.hasNext()) {
+                    current = read(remaining.next());
+                }
+                else if (isBufferRead) {
+                    return false;
+                }
+                else {
+                    isBufferRead = true;
+                    current = retain(getBufferedIssues(), spilledSize);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Issue next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more issues available");
+            }
+            return current.next();
+        }
+
+        private Iterator<Issue> read(final Run run) {
+            Issue[] issues = new Issue[run.size];
+            try (InputStream input = new BufferedInputStream(Files.newInputStream(run.issues));
+                    DataInputStream positions = new DataInputStream(
+                            new BufferedInputStream(Files.newInputStream(run.positions)))) {
+                Iterator<Issue> sorted = codec.readIssues(input);
+                while (sorted.hasNext()) {
+                    issues[positions.readInt()] = sorted.next();
+                }
+            }
+            catch (IOException exception) {
+                throw new UncheckedIOException("Can't read spilled issues", exception);
+            }
+            return retain(Arrays.asList(issues), run.offset);
+        }
+
+        private Iterator<Issue> retain(final List<Issue> issues, final int offset) {
+            List<Issue> retained = new ArrayList<>(issues.size());
+            for (int position = 0; position < issues.size(); position++) {
+                if (!duplicates.get(offset + position)) {
+                    retained.add(issues.get(position));
+                }
+            }
+            return retained.iterator();
+        }
+    }
+
+    /**
+     * The current position within a run of issues that is sorted by hash code.
+     */
+    private static final class Cursor {
+        private final int order;
+        private final int offset;
+        private final Iterator<Issue> issues;
+        private final Iterator<Integer> positions;
+        @Nullable
+        private Issue head;
+        private int position;
+
+        Cursor(final int order, final int offset, final Iterator<Issue> issues, final Iterator<Integer> positions) {
+            this.order = order;
+            this.offset = offset;
+            this.issues = issues;
+            this.positions = positions;
+        }
+
+        int order() {
+            return order;
+        }
+
+        Issue head() {
+            if (head == null) {
+                throw new NoSuchElementException("Run has no more issues");
+            }
+            return head;
+        }
+
+        /**
+         * Returns the position of the current issue in the order all issues have been added to the report.
+         *
+         * @return the position of the current issue
+         */
+        int position() {
+            return position;
+        }
+
+        boolean hasHead() {
+            return head != null;
+        }
+
+        boolean advance() {
+            if (issues.hasNext()) {
+                head = issues.next();
+                position = offset + positions.next();
+                return true;
+            }
+            head = null;
+            return false;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Serializable;
+
+import edu.hm.hafner.util.TreeString;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * An entry of the text dictionary of the {@link InterningPool}: each distinct message or package name of an
+ * {@link Issue} is represented by a single entry. Similar to the {@link PathEntry entries of file names}, the entries
+ * form a prefix tree: an entry stores only the text after the last separator (e.g. the last segment of a package name)
+ * and references the entry of the text before. So the package names of a project and messages that differ only in
+ * their last part (e.g. in a quoted name) share the entries of their common prefixes. The {@link String}
+ * representation is materialized on each access and not cached, since caching it would store the whole text again.
+ *
+ * @author Ullrich Hafner
+ */
+final class TextEntry implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Nullable
+    private final TextEntry parent;
+    private final String segment;
+    private final int hashCode;
+
+    /**
+     * Creates a new entry.
+     *
+     * @param parent
+     *         the entry of the prefix (including the trailing separator), or {@code null} if the text has no prefix
+     * @param segment
+     *         the last segment of the text
+     * @param hashCode
+     *         the hash code of the whole text
+     */
+    TextEntry(@Nullable final TextEntry parent, final String segment, final int hashCode) {
+        this.parent = parent;
+        this.segment = segment;
+        this.hashCode = hashCode;
+    }
+
+    @Nullable
+    TextEntry getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns the canonical {@link TreeString} of the text of this entry.
+     *
+     * @return the tree string
+     */
+    TreeString getTreeString() {
+        return InterningPool.getShared().internTreeString(getName());
+    }
+
+    /**
+     * Returns the text of this entry. The text is composed of the segments of this entry and all of its parents.
+     *
+     * @return the text
+     */
+    String getName() {
+        if (parent == null) {
+            return segment;
+        }
+        int length = 0;
+        for (TextEntry entry = this; entry != null; entry = entry.parent) {
+            length += entry.segment.length();
+        }
+        char[] name = new char[length];
+        int end = length;
+        for (TextEntry entry = this; entry != null; entry = entry.parent) {
+            end -= entry.segment.length();
+            entry.segment.getChars(0, entry.segment.length(), name, end);
+        }
+        return new String(name);
+    }
+
+    /**
+     * Returns whether the text of this entry is equal to the specified text. The text of this entry will not be
+     * materialized.
+     *
+     * @param text
+     *         the text to compare with
+     *
+     * @return {@code true} if the texts are equal, {@code false} otherwise
+     */
+    boolean hasName(final String text) {
+        int end = text.length();
+        for (TextEntry entry = this; entry != null; entry = entry.parent) {
+            end -= entry.segment.length();
+            if (end < 0 || !text.startsWith(entry.segment, end)) {
+                return false;
+            }
+        }
+        return end == 0;
+    }
+
+    /**
+     * Called after de-serialization to map this entry to the shared entry of the dictionary.
+     *
+     * @return the shared entry
+     */
+    private Object readResolve() {
+        return InterningPool.getShared().internText(getName());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TextEntry textEntry = (TextEntry) o;
+        if (hashCode != textEntry.hashCode) {
+            return false;
+        }
+        if (parent == textEntry.parent) { // entries of the pool share their parents
+            return segment.equals(textEntry.segment);
+        }
+        return textEntry.hasName(getName());
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
@@ -31,6 +31,11 @@ public class AcuCobolParser extends RegexpLineParser {
         return line.contains("Warning");
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         return builder.setFileName(matcher.group(2))
@@ -32,6 +32,11 @@ public class AnsibleLintParser extends RegexpLineParser {
         return line.contains("[");
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         return builder.setFileName(matcher.group(1))
@@ -39,6 +39,11 @@ public class AntJavacParser extends RegexpLineParser {
                 && (line.contains("warning") || line.contains("error") || line.contains("\u8b66\u544a"));
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         builder.setSeverity(mapSeverity(matcher.group(3)));
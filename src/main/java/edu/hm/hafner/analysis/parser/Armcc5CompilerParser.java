@@ -30,6 +30,11 @@ public class Armcc5CompilerParser extends RegexpLineParser {
         return line.contains("#");
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String type = matcher.group(3);
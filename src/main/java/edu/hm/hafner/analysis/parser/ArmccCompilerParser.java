@@ -26,6 +26,11 @@ public class ArmccCompilerParser extends RegexpLineParser {
         super(ARMCC_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String type = matcher.group(3);
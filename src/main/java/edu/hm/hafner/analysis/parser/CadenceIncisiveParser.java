@@ -40,6 +40,11 @@ public class CadenceIncisiveParser extends RegexpLineParser {
         super(CADENCE_MESSAGE_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String tool;
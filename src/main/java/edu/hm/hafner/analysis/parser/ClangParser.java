@@ -28,6 +28,11 @@ public class ClangParser extends RegexpLineParser {
         super(CLANG_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String message = matcher.group(5);
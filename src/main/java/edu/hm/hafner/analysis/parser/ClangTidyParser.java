@@ -27,6 +27,11 @@ public class ClangTidyParser extends RegexpLineParser {
         super(CLANG_TIDY_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         Severity priority;
@@ -30,6 +30,11 @@ public class CodeAnalysisParser extends RegexpLineParser {
         super(WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         if (StringUtils.isNotBlank(matcher.group(2))) {
@@ -28,6 +28,11 @@ public class CppLintParser extends RegexpLineParser {
         super(PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         Severity priority = mapPriority(matcher.group(5));
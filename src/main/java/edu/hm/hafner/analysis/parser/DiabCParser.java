@@ -26,6 +26,11 @@ public class DiabCParser extends RegexpLineParser {
         super(DIAB_CPP_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         return builder.setFileName(matcher.group(1))
@@ -26,6 +26,11 @@ public class ErlcParser extends RegexpLineParser {
         super(ERLC_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         Severity priority;
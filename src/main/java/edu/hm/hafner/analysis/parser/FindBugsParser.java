@@ -14,6 +14,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.dom4j.DocumentException;
 import org.xml.sax.SAXException;
 
+import edu.hm.hafner.analysis.CachingReaderFactory;
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.LineRange;
@@ -95,18 +96,23 @@ public class FindBugsParser extends IssueParser {
         Map<String, String> hashToMessageMapping = new HashMap<>();
         Map<String, String> categories = new HashMap<>();
 
-        try (Reader input = readerFactory.create()) {
-            List<XmlBugInstance> bugs = preParse(input);
-            for (XmlBugInstance bug : bugs) {
-                hashToMessageMapping.put(bug.getInstanceHash(), bug.getMessage());
-                categories.put(bug.getType(), bug.getCategory());
+        try (CachingReaderFactory content = new CachingReaderFactory(readerFactory)) {
+            try (Reader input = content.create()) {
+                List<XmlBugInstance> bugs = preParse(input);
+                for (XmlBugInstance bug : bugs) {
+                    hashToMessageMapping.put(bug.getInstanceHash(), bug.getMessage());
+                    categories.put(bug.getType(), bug.getCategory());
+                }
+            }
+            catch (SAXException exception) {
+                throw new ParsingException(exception);
             }
+
+            return parse(content, sources, builder, hashToMessageMapping, categories);
         }
-        catch (SAXException | IOException exception) {
+        catch (IOException exception) {
             throw new ParsingException(exception);
         }
-
-        return parse(readerFactory, sources, builder, hashToMessageMapping, categories);
     }
 
     /**
@@ -30,6 +30,11 @@ public class FlexSdkParser extends RegexpLineParser {
         return line.contains("Warning");
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         return builder.setFileName(matcher.group(1))
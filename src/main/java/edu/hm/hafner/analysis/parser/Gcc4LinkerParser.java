@@ -31,6 +31,11 @@ public class Gcc4LinkerParser extends RegexpLineParser {
         super(LINKER_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         Severity priority;
@@ -26,6 +26,11 @@ public class GnatParser extends RegexpLineParser {
         super(GNAT_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         Severity priority;
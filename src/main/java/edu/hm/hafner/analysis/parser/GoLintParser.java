@@ -26,6 +26,11 @@ public class GoLintParser extends RegexpLineParser {
         super(GOLINT_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String message = matcher.group(4);
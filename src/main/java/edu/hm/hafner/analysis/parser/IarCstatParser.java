@@ -31,6 +31,11 @@ public class IarCstatParser extends RegexpLineParser {
         return line.contains("Severity-");
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         return builder.setSeverity(mapSeverity(matcher.group(3)))
@@ -34,6 +34,11 @@ public class IarParser extends RegexpLineParser {
         return line.contains("Warning") || line.contains("rror") || line.contains("Remark");
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         return builder.setSeverity(mapPriority(matcher))
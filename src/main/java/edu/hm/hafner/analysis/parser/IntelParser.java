@@ -32,6 +32,11 @@ public class IntelParser extends RegexpLineParser {
         return line.contains("warning") || line.contains("error") || line.contains("remark") || line.contains("message");
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String category = StringUtils.capitalize(matcher.group(5));
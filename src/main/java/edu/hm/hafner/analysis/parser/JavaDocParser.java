@@ -40,6 +40,11 @@ public class JavaDocParser extends RegexpLineParser {
         return line.contains("error") && line.contains("ERROR");
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String type = matcher.group(3);
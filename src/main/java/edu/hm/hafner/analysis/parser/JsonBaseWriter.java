@@ -0,0 +1,151 @@
+package edu.hm.hafner.analysis.parser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Serializable;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.json.JSONObject;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.LineRange;
+
+import static edu.hm.hafner.analysis.parser.IssuePropertiesParser.*;
+
+/**
+ * Base class for writers that write {@link Issue issues} in the JSON format that is read by the {@link JsonBaseParser
+ * JSON parsers}. The issues are written one after another to the output stream, so the memory usage is independent of
+ * the number of issues.
+ *
+ * @author Ullrich Hafner
+ */
+abstract class JsonBaseWriter {
+    /**
+     * Writes the specified issues to the specified stream. The stream will be flushed but not closed.
+     *
+     * @param issues
+     *         the issues to write, e.g. a {@link edu.hm.hafner.analysis.Report}
+     * @param output
+     *         the stream to write to (using UTF-8)
+     *
+     * @throws IOException
+     *         if the issues could not be written
+     */
+    public void write(final Iterable<? extends Issue> issues, final OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        write(issues, writer);
+        writer.flush();
+    }
+
+    /**
+     * Writes the specified issues to the specified writer.
+     *
+     * @param issues
+     *         the issues to write
+     * @param writer
+     *         the writer to write to
+     *
+     * @throws IOException
+     *         if the issues could not be written
+     */
+    abstract void write(Iterable<? extends Issue> issues, Writer writer) throws IOException;
+
+    /**
+     * Writes the specified issue as a single line JSON object. All properties are written, so that the {@link
+     * JsonBaseParser JSON parsers} will create an equal issue. Since the file name of an issue already contains the
+     * directory, the property {@code directory} is not written. Additional properties are written using their
+     * {@link Object#toString() string representation}.
+     *
+     * @param issue
+     *         the issue to write
+     * @param writer
+     *         the writer to write to
+     *
+     * @throws IOException
+     *         if the issue could not be written
+     */
+    void writeIssue(final Issue issue, final Writer writer) throws IOException {
+        writer.write('{');
+        writeProperty(writer, ID, issue.getId().toString());
+        writer.write(',');
+        writeProperty(writer, FILE_NAME, issue.getFileName());
+        writer.write(',');
+        writeProperty(writer, LINE_START, issue.getLineStart());
+        writer.write(',');
+        writeProperty(writer, LINE_END, issue.getLineEnd());
+        writer.write(',');
+        writeProperty(writer, COLUMN_START, issue.getColumnStart());
+        writer.write(',');
+        writeProperty(writer, COLUMN_END, issue.getColumnEnd());
+        writeLineRanges(writer, issue.getLineRanges());
+        writer.write(',');
+        writeProperty(writer, CATEGORY, issue.getCategory());
+        writer.write(',');
+        writeProperty(writer, TYPE, issue.getType());
+        writer.write(',');
+        writeProperty(writer, PACKAGE_NAME, issue.getPackageName());
+        writer.write(',');
+        writeProperty(writer, MODULE_NAME, issue.getModuleName());
+        writer.write(',');
+        writeProperty(writer, SEVERITY, issue.getSeverity().getName());
+        writer.write(',');
+        writeProperty(writer, MESSAGE, issue.getMessage());
+        writer.write(',');
+        writeProperty(writer, DESCRIPTION, issue.getDescription());
+        writer.write(',');
+        writeProperty(writer, ORIGIN, issue.getOrigin());
+        writer.write(',');
+        writeProperty(writer, REFERENCE, issue.getReference());
+        writer.write(',');
+        writeProperty(writer, FINGERPRINT, issue.getFingerprint());
+        Serializable additionalProperties = issue.getAdditionalProperties();
+        if (additionalProperties != null) {
+            writer.write(',');
+            writeProperty(writer, ADDITIONAL_PROPERTIES, additionalProperties.toString());
+        }
+        writer.write('}');
+    }
+
+    private void writeLineRanges(final Writer writer, final Iterable<? extends LineRange> lineRanges)
+            throws IOException {
+        boolean isFirst = true;
+        for (LineRange lineRange : lineRanges) {
+            if (isFirst) {
+                writer.write(',');
+                writeKey(writer, LINE_RANGES);
+                writer.write('[');
+                isFirst = false;
+            }
+            else {
+                writer.write(',');
+            }
+            writer.write('{');
+            writeProperty(writer, LINE_RANGE_START, lineRange.getStart());
+            writer.write(',');
+            writeProperty(writer, LINE_RANGE_END, lineRange.getEnd());
+            writer.write('}');
+        }
+        if (!isFirst) {
+            writer.write(']');
+        }
+    }
+
+    private void writeProperty(final Writer writer, final String key, final String value) throws IOException {
+        writeKey(writer, key);
+        JSONObject.quote(value, writer);
+    }
+
+    private void writeProperty(final Writer writer, final String key, final int value) throws IOException {
+        writeKey(writer, key);
+        writer.write(Integer.toString(value));
+    }
+
+    private void writeKey(final Writer writer, final String key) throws IOException {
+        writer.write('"');
+        writer.write(key);
+        writer.write("\":");
+    }
+}
@@ -27,6 +27,11 @@ public class MetrowerksCwCompilerParser extends RegexpLineParser {
         super(CW_COMPILER_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         Severity priority;
@@ -34,6 +34,11 @@ public class P4Parser extends RegexpLineParser {
         super(PERFORCE_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String category = matcher.group(2).trim();
@@ -29,6 +29,11 @@ public class PerlCriticParser extends RegexpLineParser {
         super(PERLCRITIC_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String filename;
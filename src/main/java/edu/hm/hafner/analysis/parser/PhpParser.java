@@ -31,6 +31,11 @@ public class PhpParser extends RegexpLineParser {
         return line.contains("PHP");
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String category = matcher.group(1);
@@ -65,6 +65,11 @@ public class PreFastParser extends RegexpLineParser {
         super(PREFAST_PATTERN_WARNING);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         return builder.setFileName(matcher.group(1))
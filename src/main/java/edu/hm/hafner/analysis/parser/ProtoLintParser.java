@@ -26,6 +26,11 @@ public class ProtoLintParser extends RegexpLineParser {
         super(PROTO_LINT_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         return builder.setFileName(matcher.group("file"))
@@ -32,6 +32,11 @@ public class PuppetLintParser extends RegexpLineParser {
         super(PUPPET_LINT_PATTERN_WARNING);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         return builder.setFileName(matcher.group(1))
@@ -36,6 +36,11 @@ public class PyLintParser extends RegexpLineParser {
         return line.contains("[");
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String category = matcher.group("category");
@@ -0,0 +1,23 @@
+package edu.hm.hafner.analysis.parser;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import edu.hm.hafner.analysis.Issue;
+
+/**
+ * Writes issues in the JSON lines format that is read by the {@link JsonLogParser}: each issue is written as JSON
+ * object on a separate line. Since each issue is written independently, the output of several writers can be
+ * concatenated.
+ *
+ * @author Ullrich Hafner
+ */
+public class ReportJsonLinesWriter extends JsonBaseWriter {
+    @Override
+    void write(final Iterable<? extends Issue> issues, final Writer writer) throws IOException {
+        for (Issue issue : issues) {
+            writeIssue(issue, writer);
+            writer.write('\n');
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package edu.hm.hafner.analysis.parser;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import edu.hm.hafner.analysis.Issue;
+
+/**
+ * Writes issues in the JSON format that is read by the {@link JsonParser}: a JSON object with an array {@code issues}
+ * that contains all issues. The document is written in a streaming manner, so arbitrary large reports can be written
+ * with a constant amount of memory.
+ *
+ * @author Ullrich Hafner
+ */
+public class ReportJsonWriter extends JsonBaseWriter {
+    @Override
+    void write(final Iterable<? extends Issue> issues, final Writer writer) throws IOException {
+        writer.write("{\"issues\":[");
+        boolean isFirst = true;
+        for (Issue issue : issues) {
+            if (!isFirst) {
+                writer.write(',');
+            }
+            writer.write('\n');
+            writeIssue(issue, writer);
+            isFirst = false;
+        }
+        writer.write("\n]}\n");
+    }
+}
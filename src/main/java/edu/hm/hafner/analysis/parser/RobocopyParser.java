@@ -25,6 +25,11 @@ public class RobocopyParser extends RegexpLineParser {
         super(ROBOCOPY_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String file = matcher.group(4).split("\\s{11}", -1)[0];
@@ -28,6 +28,11 @@ public class RuboCopParser extends RegexpLineParser {
         super(RUBOCOP_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String message = matcher.group(6);
@@ -26,6 +26,11 @@ public class SphinxBuildParser extends RegexpLineParser {
         super(SPHINX_BUILD_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String message = matcher.group(4);
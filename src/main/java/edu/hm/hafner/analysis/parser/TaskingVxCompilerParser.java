@@ -27,6 +27,11 @@ public class TaskingVxCompilerParser extends RegexpLineParser {
         super(TASKING_VX_COMPILER_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String type = matcher.group(1);
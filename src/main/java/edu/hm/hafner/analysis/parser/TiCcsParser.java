@@ -28,6 +28,11 @@ public class TiCcsParser extends RegexpLineParser {
         super(TI_CCS_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String lineNumber = matcher.group(5);
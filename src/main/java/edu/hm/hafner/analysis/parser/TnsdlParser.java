@@ -30,6 +30,11 @@ public class TnsdlParser extends RegexpLineParser {
         return line.contains("tnsdl");
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         return builder.setFileName(matcher.group(3))
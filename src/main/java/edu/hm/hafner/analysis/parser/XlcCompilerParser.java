@@ -48,6 +48,11 @@ public class XlcCompilerParser extends RegexpLineParser {
         }
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String line = matcher.group(0);
@@ -36,6 +36,11 @@ public class XlcLinkerParser extends RegexpLineParser {
         super(XLC_LINKER_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLineIndependent() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final IssueBuilder builder) {
         String line = matcher.group(0);
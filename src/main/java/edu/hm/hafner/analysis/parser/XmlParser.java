@@ -11,6 +11,7 @@ import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueIdGenerator;
 import edu.hm.hafner.analysis.LineRange;
 import edu.hm.hafner.analysis.LineRangeList;
 import edu.hm.hafner.analysis.ParsingException;
@@ -161,7 +162,7 @@ public class XmlParser extends IssuePropertiesParser {
             return UUID.fromString(uuidString);
         }
         catch (IllegalArgumentException ex) {
-            return UUID.randomUUID();
+            return IssueIdGenerator.THREAD_LOCAL_RANDOM.next();
         }
     }
 }
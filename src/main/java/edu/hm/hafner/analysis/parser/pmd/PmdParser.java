@@ -6,6 +6,7 @@ import java.io.Reader;
 import org.apache.commons.lang3.StringUtils;
 import org.xml.sax.SAXException;
 
+import edu.hm.hafner.analysis.CachingReaderFactory;
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
@@ -29,9 +30,11 @@ public class PmdParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        Report issues = parseIssues(readerFactory);
-        issues.addAll(parseErrors(readerFactory));
-        return issues;
+        try (CachingReaderFactory content = new CachingReaderFactory(readerFactory)) {
+            Report issues = parseIssues(content);
+            issues.addAll(parseErrors(content));
+            return issues;
+        }
     }
 
     private Report parseIssues(final ReaderFactory readerFactory) {
@@ -41,9 +41,25 @@ public class LookaheadStream implements AutoCloseable {
      *         the file name of the stream
      */
     public LookaheadStream(final Stream<String> stream, final String fileName) {
+        this(stream, fileName, 0);
+    }
+
+    /**
+     * Wraps the specified stream of lines into a {@link LookaheadStream}. The stream is a part of a larger file: the
+     * line numbers of the stream start after the specified number of lines.
+     *
+     * @param stream
+     *         the lines to wrap
+     * @param fileName
+     *         the file name of the stream
+     * @param linesBefore
+     *         the number of lines of the file that precede the lines of the stream
+     */
+    public LookaheadStream(final Stream<String> stream, final String fileName, final int linesBefore) {
         this.stream = stream;
         lineIterator = stream.iterator();
         this.fileName = fileName;
+        line = linesBefore;
     }
 
     public String getFileName() {
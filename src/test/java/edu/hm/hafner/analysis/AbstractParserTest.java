@@ -9,6 +9,7 @@ import java.io.Reader;
 import java.io.Serializable;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 
@@ -61,6 +62,23 @@ public abstract class AbstractParserTest extends ResourceTest {
         }
     }
 
+    /**
+     * Parses the default file in small chunks if the parser under test is line independent. The chunks must contain
+     * the same issues as the default file.
+     */
+    @Test
+    void shouldParseAllIssuesInChunks() {
+        IssueParser parser = createParser();
+        if (parser instanceof LookaheadParser && ((LookaheadParser) parser).isLineIndependent()) {
+            LookaheadParser lookaheadParser = (LookaheadParser) parser;
+            Report report = lookaheadParser.postProcess(
+                    lookaheadParser.parseChunks(getDefaultFileFactory(), ForkJoinPool.commonPool(), 2, 2));
+            try (SoftAssertions softAssertions = new SoftAssertions()) {
+                assertThatIssuesArePresent(report, softAssertions);
+            }
+        }
+    }
+
     protected void assertThatReportHasSeverities(final Report report, final int expectedSizeError,
             final int expectedSizeHigh, final int expectedSizeNormal, final int expectedSizeLow) {
         assertThat(report.getSizeOf(Severity.ERROR)).isEqualTo(expectedSizeError);
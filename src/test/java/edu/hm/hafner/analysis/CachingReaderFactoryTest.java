@@ -0,0 +1,116 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import edu.hm.hafner.util.ResourceTest;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link CachingReaderFactory}.
+ *
+ * @author Ullrich Hafner
+ */
+class CachingReaderFactoryTest extends ResourceTest {
+    private static final String CONTENT = "first line\r\nsecond line\nthird line";
+
+    @Test
+    void shouldReadDelegateOnlyOnce() throws IOException {
+        CountingReaderFactory delegate = new CountingReaderFactory(CONTENT, String::toUpperCase);
+
+        try (CachingReaderFactory factory = new CachingReaderFactory(delegate)) {
+            assertThat(factory.getFileName()).isEqualTo("file.log");
+            assertThat(factory.readString()).isEqualTo("FIRST LINE\nSECOND LINE\nTHIRD LINE");
+            assertThat(factory.readString()).isEqualTo(delegate.readString());
+            assertThat(readAll(factory)).isEqualTo(CONTENT);
+
+            try (LineScanner scanner = factory.readLines()) {
+                assertThat(scanner.advance()).isTrue();
+                assertThat(scanner.getLineAsString()).isEqualTo("FIRST LINE");
+            }
+        }
+
+        assertThat(delegate.getCount()).isEqualTo(2); // the second one has been created by delegate.readString()
+    }
+
+    @Test
+    void shouldSpoolLargeContentToFile() throws IOException {
+        CountingReaderFactory delegate = new CountingReaderFactory(CONTENT, Function.identity());
+
+        for (int segmentSize = 1; segmentSize < 10; segmentSize++) {
+            try (CachingReaderFactory factory = new CachingReaderFactory(delegate, 4, segmentSize)) {
+                assertThat(readAll(factory)).isEqualTo(CONTENT);
+                assertThat(readAll(factory)).isEqualTo(CONTENT);
+                assertThat(factory.readString()).isEqualTo("first line\nsecond line\nthird line");
+            }
+        }
+
+        assertThat(delegate.getCount()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldReadEmptyContent() throws IOException {
+        try (CachingReaderFactory factory = new CachingReaderFactory(
+                new CountingReaderFactory("", Function.identity()), 1, 1)) {
+            assertThat(factory.readString()).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldDetectCharsetOfFile() throws IOException {
+        try (CachingReaderFactory factory = new CachingReaderFactory(
+                new FileReaderFactory(getResourceAsFile("encoded-with-ISO8859-1.xml")))) {
+            assertThat(factory.getCharset()).isEqualTo(StandardCharsets.ISO_8859_1);
+
+            Document document = factory.readDocument();
+            assertThat(document).isNotNull();
+        }
+    }
+
+    private String readAll(final ReaderFactory factory) throws IOException {
+        StringBuilder content = new StringBuilder();
+        try (Reader reader = factory.create()) {
+            char[] buffer = new char[3];
+            int read;
+            while ((read = reader.read(buffer)) >= 0) {
+                content.append(buffer, 0, read);
+            }
+        }
+        return content.toString();
+    }
+
+    /** Counts the number of created readers. */
+    private static class CountingReaderFactory extends ReaderFactory {
+        private final String content;
+        private final AtomicInteger count = new AtomicInteger();
+
+        CountingReaderFactory(final String content, final Function<String, String> lineMapper) {
+            super(StandardCharsets.UTF_8, lineMapper);
+
+            this.content = content;
+        }
+
+        @Override
+        public String getFileName() {
+            return "file.log";
+        }
+
+        @Override
+        public Reader create() {
+            count.incrementAndGet();
+            return new StringReader(content);
+        }
+
+        int getCount() {
+            return count.get();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.FingerprintCache.FileVersion;
+import edu.hm.hafner.util.ResourceTest;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link FingerprintCache}.
+ *
+ * @author Ullrich Hafner
+ */
+class FingerprintCacheTest extends ResourceTest {
+    private static final String CHARSET = "UTF-8";
+    private static final FileVersion FIRST = new FileVersion("/first.txt", 100, 1, CHARSET);
+    private static final FileVersion SECOND = new FileVersion("/second.txt", 100, 1, CHARSET);
+    private static final FileVersion THIRD = new FileVersion("/third.txt", 100, 1, CHARSET);
+
+    @Test
+    void shouldReturnCachedFingerprintsOfSameVersion() {
+        FingerprintCache cache = new FingerprintCache(10);
+        assertThat(cache.isEnabled()).isTrue();
+        assertThat(cache.get(FIRST)).isEmpty();
+
+        cache.put(FIRST, fingerprints(1, 2));
+        cache.put(FIRST, fingerprints(3));
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get(FIRST)).containsOnlyKeys(1, 2, 3);
+        assertThat(cache.get(new FileVersion("/first.txt", 100, 1, CHARSET))).containsOnlyKeys(1, 2, 3);
+        assertThat(cache.get(SECOND)).isEmpty();
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(FIRST)).isEmpty();
+    }
+
+    @Test
+    void shouldDiscardFingerprintsOfChangedFile() {
+        FingerprintCache cache = new FingerprintCache(10);
+        cache.put(FIRST, fingerprints(1, 2));
+
+        FileVersion modified = new FileVersion("/first.txt", 100, 2, CHARSET);
+        FileVersion resized = new FileVersion("/first.txt", 101, 1, CHARSET);
+        FileVersion otherCharset = new FileVersion("/first.txt", 100, 1, "ISO-8859-1");
+        assertThat(cache.get(modified)).isEmpty();
+        assertThat(cache.get(resized)).isEmpty();
+        assertThat(cache.get(otherCharset)).isEmpty();
+
+        cache.put(modified, fingerprints(3));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get(FIRST)).isEmpty();
+        assertThat(cache.get(modified)).containsOnlyKeys(3);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedFiles() {
+        FingerprintCache cache = new FingerprintCache(3);
+        cache.put(FIRST, fingerprints(1, 2));
+        cache.put(SECOND, fingerprints(1));
+        cache.get(FIRST);
+
+        cache.put(THIRD, fingerprints(1));
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get(FIRST)).containsOnlyKeys(1, 2);
+        assertThat(cache.get(SECOND)).isEmpty();
+        assertThat(cache.get(THIRD)).containsOnlyKeys(1);
+    }
+
+    @Test
+    void shouldNotStoreFingerprintsIfDisabled() {
+        FingerprintCache cache = new FingerprintCache(0);
+        assertThat(cache.isEnabled()).isFalse();
+
+        cache.put(FIRST, fingerprints(1));
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(FIRST)).isEmpty();
+    }
+
+    @Test
+    void shouldWriteAndReadCache() throws IOException {
+        FingerprintCache cache = new FingerprintCache(10);
+        cache.put(FIRST, fingerprints(1, 2));
+        cache.put(SECOND, fingerprints(3));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        cache.write(output);
+
+        FingerprintCache restored = new FingerprintCache(10);
+        restored.read(new ByteArrayInputStream(output.toByteArray()));
+
+        assertThat(restored.size()).isEqualTo(3);
+        assertThat(restored.get(FIRST)).isEqualTo(fingerprints(1, 2));
+        assertThat(restored.get(SECOND)).isEqualTo(fingerprints(3));
+    }
+
+    @Test
+    void shouldIgnoreInvalidCacheFile() {
+        FingerprintCache cache = FingerprintCache.read(getResourceAsFile("context.txt"), 10);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.isEnabled()).isTrue();
+    }
+
+    @Test
+    void shouldReadVersionOfExistingFile() {
+        String absolutePath = getResourceAsFile("context.txt").toString();
+        FingerprintCache cache = new FingerprintCache(10);
+
+        FileVersion version = cache.getVersion(absolutePath, StandardCharsets.UTF_8);
+
+        assertThat(version).isNotNull();
+        assertThat(version).isEqualTo(cache.getVersion(absolutePath, StandardCharsets.UTF_8));
+        assertThat(version).isNotEqualTo(cache.getVersion(absolutePath, StandardCharsets.ISO_8859_1));
+        assertThat(cache.getVersion(absolutePath + ".missing", StandardCharsets.UTF_8)).isNull();
+    }
+
+    private Map<Integer, String> fingerprints(final int... lines) {
+        Map<Integer, String> fingerprints = new HashMap<>();
+        for (int line : lines) {
+            fingerprints.put(line, "FP-" + line);
+        }
+        return fingerprints;
+    }
+}
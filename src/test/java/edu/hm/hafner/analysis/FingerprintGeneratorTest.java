@@ -5,6 +5,8 @@ import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -123,6 +125,133 @@ class FingerprintGeneratorTest extends ResourceTest {
         assertThat(referenceIssue.getFingerprint()).isNotEqualTo(currentIssue.getFingerprint());
     }
 
+    @Test
+    void shouldReadEachFileOnlyOnceInBatchMode() throws IOException {
+        Report report = createTwoIssues();
+        report.add(new IssueBuilder().setFileName(AFFECTED_FILE_NAME).setLineStart(6).build());
+        report.add(new IssueBuilder().build());
+
+        FileSystem fileSystem = stubFileSystem("fingerprint-one.txt", "fingerprint-two.txt");
+        FingerprintGenerator generator = new FingerprintGenerator();
+        generator.runBatched(new FullTextFingerprint(fileSystem), report, CHARSET_AFFECTED_FILE);
+
+        verify(fileSystem, times(1)).readLinesFromFile(anyString(), any());
+
+        assertThat(report.get(0).getFingerprint()).isEqualTo(report.get(1).getFingerprint());
+        assertThat(report.get(0).getFingerprint()).isNotEqualTo(report.get(2).getFingerprint());
+        assertThat(report.get(3)).hasFingerprint(FingerprintGenerator.createDefaultFingerprint(report.get(3)));
+        assertThat(report.getInfoMessages()).contains("-> created fingerprints for 3 issues (skipped 1 issues)");
+    }
+
+    @Test
+    void shouldCreateSameFingerprintsInBatchMode() {
+        Report single = createTwoIssues();
+        new FingerprintGenerator().run(createFullTextFingerprint("fingerprint-one.txt", "fingerprint-one.txt"),
+                single, CHARSET_AFFECTED_FILE);
+
+        Report batched = createTwoIssues();
+        new FingerprintGenerator().runBatched(
+                createFullTextFingerprint("fingerprint-one.txt", "fingerprint-one.txt"),
+                batched, CHARSET_AFFECTED_FILE);
+
+        assertThat(batched.get(0)).hasFingerprint(single.get(0).getFingerprint());
+        assertThat(batched.get(1)).hasFingerprint(single.get(1).getFingerprint());
+    }
+
+    @Test
+    void shouldUseFallbackFingerprintForAllIssuesOfFileInBatchMode() throws IOException {
+        Report report = createTwoIssues();
+
+        FileSystem fileSystem = mock(FileSystem.class);
+        when(fileSystem.readLinesFromFile(anyString(), any()))
+                .thenThrow(new UncheckedIOException(new MalformedInputException(1)));
+
+        new FingerprintGenerator().runBatched(new FullTextFingerprint(fileSystem), report, CHARSET_AFFECTED_FILE);
+
+        assertThat(report.get(0)).hasFingerprint(FingerprintGenerator.createDefaultFingerprint(report.get(0)));
+        assertThat(report.get(1)).hasFingerprint(FingerprintGenerator.createDefaultFingerprint(report.get(1)));
+        assertThat(report.getErrorMessages()).containsExactly("Can't create fingerprints for some files:",
+                String.format("- 'file.txt', provided encoding '%s' seems to be wrong", CHARSET_AFFECTED_FILE));
+    }
+
+    @Test
+    void shouldCreateSameFingerprintsInParallelMode() {
+        Report sequential = createIssuesInSeveralFiles();
+        new FingerprintGenerator().runBatched(new FullTextFingerprint(), sequential, CHARSET_AFFECTED_FILE);
+
+        Report parallel = createIssuesInSeveralFiles();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            new FingerprintGenerator().runBatched(new FullTextFingerprint(), parallel, CHARSET_AFFECTED_FILE,
+                    executor);
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        assertThat(parallel).hasSize(sequential.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertThat(parallel.get(i)).hasFingerprint(sequential.get(i).getFingerprint());
+        }
+        assertThat(parallel.getInfoMessages()).isEqualTo(sequential.getInfoMessages());
+        assertThat(parallel.getErrorMessages()).isEqualTo(sequential.getErrorMessages());
+    }
+
+    @Test
+    void shouldNotReadCachedFilesAgain() throws IOException {
+        FingerprintCache cache = new FingerprintCache(100);
+
+        Report first = createIssuesInSeveralFiles();
+        new FingerprintGenerator(cache).runBatched(new FullTextFingerprint(), first, CHARSET_AFFECTED_FILE);
+        assertThat(cache.size()).isEqualTo(27);
+
+        FileSystem fileSystem = mock(FileSystem.class);
+        when(fileSystem.readLinesFromFile(anyString(), any()))
+                .thenThrow(new UncheckedIOException(new MalformedInputException(1)));
+
+        Report second = createIssuesInSeveralFiles();
+        new FingerprintGenerator(cache).runBatched(new FullTextFingerprint(fileSystem), second,
+                CHARSET_AFFECTED_FILE);
+
+        verify(fileSystem, never()).readLinesFromFile(endsWith("context.txt"), any());
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i)).hasFingerprint(first.get(i).getFingerprint());
+        }
+    }
+
+    @Test
+    void shouldUseCacheInSingleIssueMode() throws IOException {
+        FingerprintCache cache = new FingerprintCache(100);
+
+        Report first = createIssuesInSeveralFiles();
+        new FingerprintGenerator(cache).run(new FullTextFingerprint(), first, CHARSET_AFFECTED_FILE);
+        assertThat(cache.size()).isEqualTo(27);
+
+        FileSystem fileSystem = mock(FileSystem.class);
+        when(fileSystem.readLinesFromFile(anyString(), any()))
+                .thenThrow(new UncheckedIOException(new MalformedInputException(1)));
+
+        Report second = createIssuesInSeveralFiles();
+        new FingerprintGenerator(cache).run(new FullTextFingerprint(fileSystem), second, CHARSET_AFFECTED_FILE);
+
+        verify(fileSystem, never()).readLinesFromFile(endsWith("context.txt"), any());
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i)).hasFingerprint(first.get(i).getFingerprint());
+        }
+    }
+
+    private Report createIssuesInSeveralFiles() {
+        Report report = new Report();
+        IssueBuilder builder = new IssueBuilder();
+        for (String file : new String[] {"fingerprint-one.txt", "fingerprint-two.txt", "context.txt", "missing.txt"}) {
+            String absolutePath = getResourceAsFile("context.txt").resolveSibling(file).toString();
+            for (int line = 1; line < 10; line++) {
+                report.add(builder.setFileName(absolutePath).setLineStart(line).build());
+            }
+        }
+        return report;
+    }
+
     @ParameterizedTest(name = "[{index}] Illegal filename")
     @ValueSource(strings = {"/does/not/exist", "!<>$&/&(", "\0 Null-Byte"})
     void shouldUseFallbackFingerprintOnError(final String fileName) {
@@ -3,7 +3,10 @@ package edu.hm.hafner.analysis;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.NoSuchFileException;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -79,6 +82,31 @@ class FullTextFingerprintTest extends ResourceTest {
         }
     }
 
+    /**
+     * Verifies that the contexts of several lines that are extracted in a single pass are the same as the contexts of
+     * the individual lines.
+     */
+    @Test
+    void shouldExtractContextsOfSeveralLinesInOnePass() {
+        String affectedFile = new String(readAllBytes("context.txt"), StandardCharsets.UTF_8);
+
+        FullTextFingerprint fingerprint = new FullTextFingerprint();
+
+        List<Integer> lines = Arrays.asList(-1, 0, 1, 4, 5, 10, 20, 27, 33, 34, 100);
+        Map<Integer, String> contexts = fingerprint.extractContexts(lines, asIterator(affectedFile));
+
+        assertThat(contexts).hasSize(lines.size());
+        for (int line : lines) {
+            assertThat(contexts.get(line)).as("Context of line %d", line)
+                    .isEqualTo(fingerprint.extractContext(line, asIterator(affectedFile)));
+        }
+
+        Map<Integer, String> fingerprints = fingerprint.createFingerprints(lines, asIterator(affectedFile),
+                getCharset());
+        assertThat(fingerprints.get(10)).isEqualTo("C10CFE4EC75F0C7F54980D432624D1C9");
+        assertThat(fingerprints.get(20)).isEqualTo("C10CFE4EC75F0C7F54980D432624D1C9");
+    }
+
     @Test
     void shouldThrowNoSuchFileExceptionIfFileDoesNotExist() {
         FullTextFingerprint fingerprint = new FullTextFingerprint();
@@ -0,0 +1,106 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.util.TreeString;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link InterningPool}.
+ *
+ * @author Ullrich Hafner
+ */
+class InterningPoolTest {
+    private static final String VALUE = "/path/to/affected.file";
+
+    @Test
+    void shouldMapEqualStringsToSameInstance() {
+        InterningPool pool = new InterningPool();
+        assertThat(pool.getHitRate()).isZero();
+
+        String pooled = pool.intern(new String(VALUE));
+
+        assertThat(pooled).isEqualTo(VALUE);
+        assertThat(pool.intern(new String(VALUE))).isSameAs(pooled);
+        assertThat(pool.intern("other")).isNotSameAs(pooled);
+
+        assertThat(pool.getHitCount()).isEqualTo(1);
+        assertThat(pool.getMissCount()).isEqualTo(2);
+        assertThat(pool.getHitRate()).isEqualTo(1.0 / 3);
+        assertThat(pool.size()).isEqualTo(2);
+
+        pool.resetStatistics();
+        assertThat(pool.getHitCount()).isZero();
+        assertThat(pool.getMissCount()).isZero();
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMapEqualTreeStringsToSameInstance() {
+        InterningPool pool = new InterningPool();
+
+        TreeString pooled = pool.internTreeString(VALUE);
+
+        assertThat(pooled.toString()).isEqualTo(VALUE);
+        assertThat(pool.internTreeString(new String(VALUE))).isSameAs(pooled);
+        assertThat(pool.getHitCount()).isEqualTo(1);
+        assertThat(pool.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareInstancesOfDifferentBuilders() {
+        IssueBuilder builder = new IssueBuilder().setFileName(VALUE).setPackageName("edu.hm.hafner")
+                .setMessage("message").setCategory("category");
+        Issue issue = builder.build();
+        Issue other = new IssueBuilder().setFileName(VALUE).setPackageName("edu.hm.hafner")
+                .setMessage("message").setCategory(new String("category")).build();
+
+        assertThat(other.getFileNameTreeString()).isSameAs(issue.getFileNameTreeString());
+        assertThat(other.getPackageNameEntry()).isSameAs(issue.getPackageNameEntry());
+        assertThat(other.getMessageEntry()).isSameAs(issue.getMessageEntry());
+        assertThat(other.getCategory()).isSameAs(issue.getCategory());
+    }
+
+    @Test
+    void shouldInternValuesOfParallelThreads() throws InterruptedException, ExecutionException {
+        InterningPool pool = new InterningPool();
+        int distinctValues = 1000;
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < distinctValues; i++) {
+            values.add(pool.intern(VALUE + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < distinctValues; i++) {
+                        if (pool.intern(new String(VALUE + i)) != values.get(i)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        assertThat(pool.getMissCount()).isEqualTo(distinctValues);
+        assertThat(pool.getHitCount()).isEqualTo(4L * distinctValues);
+        assertThat(pool.size()).isEqualTo(distinctValues);
+    }
+}
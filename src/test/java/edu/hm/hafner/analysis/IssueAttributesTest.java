@@ -0,0 +1,72 @@
+package edu.hm.hafner.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link IssueAttributes}.
+ *
+ * @author Ullrich Hafner
+ */
+class IssueAttributesTest {
+    private static final String PATH = "/path";
+    private static final String MODULE = "module";
+    private static final String ORIGIN = "origin";
+    private static final String REFERENCE = "reference";
+
+    @Test
+    void shouldShareAttributesWithSameValues() {
+        IssueAttributes attributes = IssueAttributes.of(PATH, MODULE, ORIGIN, REFERENCE);
+
+        assertThat(attributes.getPathName()).isEqualTo(PATH);
+        assertThat(attributes.getModuleName()).isEqualTo(MODULE);
+        assertThat(attributes.getOrigin()).isEqualTo(ORIGIN);
+        assertThat(attributes.getReference()).isEqualTo(REFERENCE);
+
+        assertThat(IssueAttributes.of(PATH, MODULE, ORIGIN, REFERENCE)).isSameAs(attributes);
+        assertThat(attributes.withOrigin(ORIGIN)).isSameAs(attributes);
+    }
+
+    @Test
+    void shouldShareDerivedAttributes() {
+        IssueAttributes attributes = IssueAttributes.of(PATH, MODULE, ORIGIN, REFERENCE);
+
+        IssueAttributes derived = attributes.withReference("other");
+        assertThat(derived).isNotSameAs(attributes);
+        assertThat(derived.getReference()).isEqualTo("other");
+        assertThat(derived.getOrigin()).isEqualTo(ORIGIN);
+        assertThat(attributes.getReference()).isEqualTo(REFERENCE);
+
+        assertThat(attributes.withReference("other")).isSameAs(derived);
+        assertThat(derived.withReference(REFERENCE).getReference()).isEqualTo(REFERENCE);
+    }
+
+    @Test
+    void shouldCompareOnlyPropertiesOfIssueEquality() {
+        IssueAttributes attributes = IssueAttributes.of(PATH, MODULE, ORIGIN, REFERENCE);
+
+        assertThat(attributes.isEqualForIssue(attributes)).isTrue();
+        assertThat(attributes.isEqualForIssue(attributes.withReference("other"))).isTrue();
+        assertThat(attributes.isEqualForIssue(attributes.withPathName("/other"))).isTrue();
+        assertThat(attributes.isEqualForIssue(attributes.withOrigin("other"))).isFalse();
+        assertThat(attributes.isEqualForIssue(attributes.withModuleName("other"))).isFalse();
+
+        assertThat(attributes.withReference("other").hashCodeForIssue()).isEqualTo(attributes.hashCodeForIssue());
+    }
+
+    @Test
+    void shouldShareAttributesOfIssues() {
+        IssueBuilder builder = new IssueBuilder().setModuleName(MODULE).setOrigin(ORIGIN).setReference(REFERENCE);
+        Issue first = builder.setLineStart(1).build();
+        Issue second = builder.setLineStart(2).build();
+
+        first.setReference("changed");
+        second.setReference("changed");
+
+        assertThat(first).hasReference("changed").hasOrigin(ORIGIN).hasModuleName(MODULE);
+        assertThat(second).hasReference("changed").hasOrigin(ORIGIN).hasModuleName(MODULE);
+        assertThat(first).isNotEqualTo(second);
+        assertThat(builder.setLineStart(1).build()).isEqualTo(first);
+    }
+}
@@ -1,6 +1,10 @@
 package edu.hm.hafner.analysis;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -256,6 +260,35 @@ class IssueBuilderTest {
         assertThat(builder.build()).hasId(id);
     }
 
+    @Test
+    void shouldUseIdGenerator() {
+        UUID first = new UUID(0, 1);
+        UUID second = new UUID(0, 2);
+        Iterator<UUID> ids = Arrays.asList(first, second).iterator();
+
+        IssueBuilder builder = new IssueBuilder().setIdGenerator(ids::next);
+
+        assertThat(builder.build()).hasId(first);
+        UUID provided = UUID.randomUUID();
+        assertThat(builder.setId(provided).build()).hasId(provided);
+        assertThat(builder.build()).hasId(second);
+    }
+
+    @Test
+    void shouldCreateUniqueRandomIds() {
+        IssueBuilder builder = new IssueBuilder();
+
+        Set<UUID> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = builder.build().getId();
+            assertThat(id.version()).isEqualTo(4);
+            assertThat(id.variant()).isEqualTo(2);
+            ids.add(id);
+        }
+        assertThat(ids).hasSize(10_000);
+        assertThat(IssueIdGenerator.SECURE_RANDOM.next().version()).isEqualTo(4);
+    }
+
     @Test
     void testFileNameBackslashConversion() {
         IssueBuilder builder = new IssueBuilder();
@@ -273,6 +306,40 @@ class IssueBuilderTest {
         Issue anotherIssue = builder.setFileName("fileName").build();
 
         assertThat(issue.getFileNameTreeString()).isSameAs(anotherIssue.getFileNameTreeString());
+        assertThat(builder.getFileNameCacheMissCount()).isEqualTo(1);
+        assertThat(builder.getFileNameCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRespectDirectoryInFileNameCache() {
+        IssueBuilder builder = new IssueBuilder();
+
+        Issue withoutDirectory = builder.setFileName("file.txt").build();
+        Issue inDirectory = builder.setDirectory("/tmp").setFileName("file.txt").build();
+        Issue inOtherDirectory = builder.setDirectory("/other").setFileName("file.txt").build();
+        Issue cached = builder.setDirectory("/tmp").setFileName("file.txt").build();
+
+        assertThat(withoutDirectory).hasFileName("file.txt");
+        assertThat(inDirectory).hasFileName("/tmp/file.txt");
+        assertThat(inOtherDirectory).hasFileName("/other/file.txt");
+        assertThat(cached).hasFileName("/tmp/file.txt");
+        assertThat(builder.getFileNameCacheMissCount()).isEqualTo(3);
+        assertThat(builder.getFileNameCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedFileNames() {
+        IssueBuilder builder = new IssueBuilder();
+
+        builder.setFileName("first.txt");
+        for (int i = 0; i < IssueBuilder.FILE_NAME_CACHE_SIZE; i++) {
+            builder.setFileName("file-" + i + ".txt");
+        }
+        assertThat(builder.getFileNameCacheMissCount()).isEqualTo(IssueBuilder.FILE_NAME_CACHE_SIZE + 1);
+
+        assertThat(builder.setFileName("first.txt").build()).hasFileName("first.txt");
+        assertThat(builder.getFileNameCacheMissCount()).isEqualTo(IssueBuilder.FILE_NAME_CACHE_SIZE + 2);
+        assertThat(builder.getFileNameCacheHitCount()).isZero();
     }
 
     @Test
@@ -282,7 +349,7 @@ class IssueBuilderTest {
         Issue issue = builder.setPackageName("packageName").build();
         Issue anotherIssue = builder.setFileName("packageName").build();
 
-        assertThat(issue.getPackageNameTreeString()).isSameAs(anotherIssue.getPackageNameTreeString());
+        assertThat(issue.getPackageNameEntry()).isSameAs(anotherIssue.getPackageNameEntry());
     }
 
     @Test
@@ -292,7 +359,7 @@ class IssueBuilderTest {
         Issue issue = builder.setMessage("message").build();
         Issue anotherIssue = builder.setMessage("message").build();
 
-        assertThat(issue.getMessageTreeString()).isSameAs(anotherIssue.getMessageTreeString());
+        assertThat(issue.getMessageEntry()).isSameAs(anotherIssue.getMessageEntry());
     }
 
     @Test
@@ -302,7 +369,7 @@ class IssueBuilderTest {
         Issue issue = builder.setMessage("    message  ").setDescription("    description  ").build();
         Issue anotherIssue = builder.setMessage("message").setDescription("description").build();
 
-        assertThat(issue.getMessageTreeString()).isSameAs(anotherIssue.getMessageTreeString());
+        assertThat(issue.getMessageEntry()).isSameAs(anotherIssue.getMessageEntry());
         assertThat(issue.getDescription()).isSameAs(anotherIssue.getDescription());
     }
 }
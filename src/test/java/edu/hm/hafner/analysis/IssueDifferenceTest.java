@@ -162,6 +162,33 @@ class IssueDifferenceTest {
         assertThat(issueDifference.getOutstandingIssues()).hasSize(1);
     }
 
+    @Test
+    void shouldMatchIssuesWithSameFingerprintInOrder() {
+        Report referenceIssues = new Report().addAll(
+                createIssue("OLD 1", "FP"),
+                createIssue("OLD 2", "FP"),
+                createIssue("OLD 3", "FP"));
+        referenceIssues.get(1).setReference("101");
+        Report currentIssues = new Report().addAll(
+                createIssue("NEW 1", "FP"),
+                createIssue("OLD 1", "FP"));
+        currentIssues.logInfo("Info of current report");
+
+        IssueDifference issueDifference = new IssueDifference(currentIssues, CURRENT_BUILD, referenceIssues);
+
+        Report outstanding = issueDifference.getOutstandingIssues();
+        assertThat(outstanding).hasSize(2);
+        assertThat(outstanding.get(0)).hasMessage("OLD 1").hasReference(REFERENCE_BUILD);
+        assertThat(outstanding.get(1)).hasMessage("NEW 1").hasReference("101");
+
+        Report fixed = issueDifference.getFixedIssues();
+        assertThat(fixed).hasSize(1);
+        assertThat(fixed.get(0)).hasMessage("OLD 3");
+
+        assertThat(issueDifference.getNewIssues()).isEmpty();
+        assertThat(issueDifference.getNewIssues().getInfoMessages()).containsExactly("Info of current report");
+    }
+
     private Issue createIssue(final String message, final String fingerprint) {
         IssueBuilder builder = new IssueBuilder();
         builder.setFileName("file-name")
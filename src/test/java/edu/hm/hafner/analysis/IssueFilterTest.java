@@ -1,6 +1,7 @@
 package edu.hm.hafner.analysis;
 
 import java.util.function.Predicate;
+import java.util.regex.PatternSyntaxException;
 
 import org.junit.jupiter.api.Test;
 
@@ -294,6 +295,36 @@ class IssueFilterTest {
         applyFilterAndCheckResult(filter, getIssues(), ISSUE1, ISSUE3);
     }
 
+    @Test
+    void shouldCombinePatternsOfSameProperty() {
+        Predicate<? super Issue> filter = new IssueFilterBuilder()
+                .setIncludeFileNameFilter("^File.*1")
+                .setIncludeFileNameFilter("Name\\d?3", "(Name)\\1")
+                .setExcludeCategoryFilter("Category.*\\d{2}", "^Name")
+                .build();
+        applyFilterAndCheckResult(filter, getIssues(), ISSUE1, ISSUE3);
+    }
+
+    @Test
+    void shouldMatchLiteralsInMessageAndDescription() {
+        Report report = new Report();
+        report.add(new IssueBuilder().setLineStart(1).setMessage("a.b").setDescription("c").build());
+        report.add(new IssueBuilder().setLineStart(2).setMessage("a").setDescription("b.c").build());
+        report.add(new IssueBuilder().setLineStart(3).setMessage("ab").setDescription("c").build());
+
+        assertThat(report.filter(new IssueFilterBuilder().setIncludeMessageFilter("a\\.b").build())).hasSize(1);
+        assertThat(report.filter(new IssueFilterBuilder().setIncludeMessageFilter("b\\.c").build())).hasSize(1);
+        assertThat(report.filter(new IssueFilterBuilder().setIncludeMessageFilter("^a\nb").build())).hasSize(1);
+        assertThat(report.filter(new IssueFilterBuilder().setExcludeMessageFilter("b\nc", "^ab").build())).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectInvalidPatternWhenBuildingFilter() {
+        IssueFilterBuilder builder = new IssueFilterBuilder().setIncludeFileNameFilter("File(");
+
+        assertThatThrownBy(builder::build).isInstanceOf(PatternSyntaxException.class);
+    }
+
     /**
      * Applies filter and checks if result is equal to expected values.
      *
@@ -0,0 +1,128 @@
+package edu.hm.hafner.analysis;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.IssueTable.Column;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link IssueTable}.
+ *
+ * @author Ullrich Hafner
+ */
+class IssueTableTest {
+    private static final int SIZE = 100;
+
+    @Test
+    void shouldCreateEmptyTable() {
+        IssueTable table = new IssueTable();
+
+        assertThat(table.isEmpty()).isTrue();
+        assertThat(table.size()).isZero();
+        assertThat(table.iterator().hasNext()).isFalse();
+        assertThat(table.toReport()).isEmpty();
+        assertThatThrownBy(() -> table.get(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldConvertReportToTableAndBack() {
+        Report report = ReportFixture.createReport(SIZE);
+
+        IssueTable table = new IssueTable(report);
+
+        assertThat(table.size()).isEqualTo(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            assertThat(table.get(i)).isEqualTo(report.get(i));
+            assertThat(table.get(i).getId()).isEqualTo(report.get(i).getId());
+            assertThat(table.get(i).getLineRanges()).isEqualTo(report.get(i).getLineRanges());
+        }
+        assertThat(table.stream()).containsExactlyElementsOf(report);
+
+        Report converted = table.toReport();
+        assertThat(converted).isEqualTo(report);
+        assertThat(converted.getInfoMessages()).containsExactly("Info");
+        assertThat(converted.getNameOfOrigin("checkstyle")).isEqualTo("CheckStyle");
+    }
+
+    @Test
+    void shouldAppendIssuesOfBuilder() {
+        IssueTable table = new IssueTable();
+        IssueBuilder builder = new IssueBuilder().setFileName("file.txt").setMessage("message");
+
+        table.add(builder.setLineStart(1)).add(builder.setLineStart(2));
+
+        assertThat(table.size()).isEqualTo(2);
+        assertThat(table.get(0)).hasFileName("file.txt").hasLineStart(1).hasMessage("message");
+        assertThat(table.get(1)).hasFileName("file.txt").hasLineStart(2).hasMessage("message");
+        assertThat(table.get(0).getId()).isNotEqualTo(table.get(1).getId());
+    }
+
+    @Test
+    void shouldStoreDistinctValuesOnlyOnce() {
+        IssueTable table = new IssueTable();
+        IssueBuilder builder = new IssueBuilder().setFileName("file.txt");
+
+        table.add(builder.setMessage("Unused 'a'")).add(builder.setMessage("Unused 'b'"))
+                .add(builder.setMessage("Unused 'a'"));
+
+        assertThat(table.toString()).isEqualTo("3 issues (1 distinct files, 2 distinct messages)");
+        assertThat(table.get(2).getMessageEntry()).isSameAs(table.get(0).getMessageEntry());
+        assertThat(table.getPropertyCount(Column.MESSAGE))
+                .containsEntry("Unused 'a'", 2).containsEntry("Unused 'b'", 1);
+    }
+
+    @Test
+    void shouldNormalizePropertiesOfBuilderLikeIssue() {
+        IssueTable table = new IssueTable();
+        UUID id = UUID.randomUUID();
+        IssueBuilder builder = new IssueBuilder().setId(id)
+                .setFileName(" C:\\path\\file.txt ").setLineStart(10).setLineEnd(3).setColumnEnd(5)
+                .setPackageName("package").setModuleName("").setOrigin(" origin ").setReference(" 1 ")
+                .setMessage("message").setFingerprint("").setAdditionalProperties("properties")
+                .setLineRanges(new LineRangeList(new LineRange(1, 2)));
+
+        table.add(builder);
+        Issue expected = builder.setId(id).build();
+
+        Issue actual = table.get(0);
+        assertThat(actual).isEqualTo(expected).hasId(id)
+                .hasLineStart(expected.getLineStart()).hasLineEnd(expected.getLineEnd())
+                .hasColumnStart(expected.getColumnStart()).hasColumnEnd(expected.getColumnEnd())
+                .hasFingerprint(expected.getFingerprint()).hasModuleName(expected.getModuleName());
+        assertThat(actual.getLineRanges()).isEqualTo(expected.getLineRanges());
+        assertThat(actual.getAdditionalProperties()).isEqualTo("properties");
+    }
+
+    @Test
+    void shouldAggregateProperties() {
+        Report report = ReportFixture.createReport(SIZE);
+        IssueTable table = new IssueTable(report);
+
+        assertThat(table.getSizeOf(Severity.ERROR)).isEqualTo(report.getSizeOf(Severity.ERROR));
+        assertThat(table.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(report.getSizeOf(Severity.WARNING_HIGH));
+        assertThat(table.getSizeOf(Severity.WARNING_LOW)).isZero();
+
+        assertThat(table.getProperties(Column.FILE_NAME)).containsExactlyInAnyOrderElementsOf(report.getFiles());
+        assertThat(table.getProperties(Column.CATEGORY)).containsExactly("Category-0", "Category-1", "Category-2");
+        assertThat(table.getPropertyCount(Column.PACKAGE_NAME))
+                .isEqualTo(report.getPropertyCount(Issue::getPackageName));
+    }
+
+    @Test
+    void shouldFilterByProperty() {
+        Report report = ReportFixture.createReport(SIZE);
+        IssueTable table = new IssueTable(report);
+
+        IssueTable filtered = table.filter(Column.CATEGORY, "Category-1"::equals);
+
+        Report expected = report.filter(issue -> "Category-1".equals(issue.getCategory()));
+        assertThat(filtered.size()).isEqualTo(expected.size());
+        assertThat(filtered.toReport()).isEqualTo(expected);
+
+        assertThat(table.filter(Column.FILE_NAME, name -> name.endsWith("1.java")).stream())
+                .allMatch(issue -> issue.getFileName().endsWith("1.java"));
+    }
+}
@@ -222,6 +222,35 @@ class IssueTest extends SerializableTest<Issue> {
         }
     }
 
+    @Test
+    void shouldObtainPropertyValuesWithoutAndWithReflection() {
+        Issue issue = createFilledIssue();
+
+        assertThat(Issue.getPropertyValueGetter("moduleName").apply(issue)).isEqualTo(issue.getModuleName());
+        assertThat(Issue.getPropertyValueGetter("folder").apply(issue)).isEqualTo(issue.getFolder());
+        assertThat(Issue.getPropertyValueGetter("columnEnd").apply(issue))
+                .isEqualTo(String.valueOf(issue.getColumnEnd()));
+        assertThat(Issue.getPropertyValueGetter("id").apply(issue)).isEqualTo(issue.getId().toString());
+        assertThat(Issue.getPropertyValueGetter("lineRanges").apply(issue))
+                .isEqualTo(issue.getLineRanges().toString());
+        assertThat(Issue.getPropertyValueGetter("does-not-exist").apply(issue)).isEqualTo("does-not-exist");
+    }
+
+    @Test
+    void shouldRecomputeHashCodeIfPropertiesChange() {
+        Issue issue = createFilledIssue();
+        Issue other = createFilledIssue();
+        assertThat(issue.hashCode()).isEqualTo(other.hashCode());
+
+        issue.setModuleName("new-module");
+        assertThat(issue).isNotEqualTo(other);
+        assertThat(issue.hashCode()).isNotEqualTo(other.hashCode());
+
+        other.setModuleName("new-module");
+        assertThat(issue).isEqualTo(other);
+        assertThat(issue.hashCode()).isEqualTo(other.hashCode());
+    }
+
     @Test
     void shouldChangeMutableProperties() {
         Issue issue = createFilledIssue();
@@ -0,0 +1,76 @@
+package edu.hm.hafner.analysis;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link LinePrefilter}.
+ *
+ * @author Ullrich Hafner
+ */
+class LinePrefilterTest {
+    @Test
+    void shouldFindLiteralsOfTopLevelSequence() {
+        assertThat(LinePrefilter.findRequiredLiterals("^(.*)\\.go:(\\d+): (.*)$")).containsExactly(".go:", ": ");
+        assertThat(LinePrefilter.findRequiredLiterals("warning: [a-z]+ (error|info) at line \\d+"))
+                .containsExactly("warning: ", " ", " at line ");
+        assertThat(LinePrefilter.findRequiredLiterals(LookaheadParser.ANT_TASK + "\\[WARNING\\] (.*)"))
+                .containsExactly("[WARNING] ");
+        assertThat(LinePrefilter.findRequiredLiterals("(?<file>[^]:]+):\\s*\\S+")).containsExactly(":");
+    }
+
+    @Test
+    void shouldRemoveOptionalCharacters() {
+        assertThat(LinePrefilter.findRequiredLiterals("warnings?: ")).containsExactly("warning", ": ");
+        assertThat(LinePrefilter.findRequiredLiterals("abc*d")).containsExactly("ab", "d");
+        assertThat(LinePrefilter.findRequiredLiterals("abc{0,2}d")).containsExactly("ab", "d");
+        assertThat(LinePrefilter.findRequiredLiterals("abc\\.?d")).containsExactly("abc", "d");
+    }
+
+    @Test
+    void shouldNotDeriveLiteralsIfUnsure() {
+        assertThat(LinePrefilter.findRequiredLiterals("warning|error")).isEmpty();
+        assertThat(LinePrefilter.findRequiredLiterals("(?i)warning: ")).isEmpty();
+        assertThat(LinePrefilter.findRequiredLiterals("\\Qwarning\\E")).isEmpty();
+        assertThat(LinePrefilter.findRequiredLiterals("(a)\\1 warning")).isEmpty();
+        assertThat(LinePrefilter.findRequiredLiterals("\\x41 warning")).isEmpty();
+
+        assertThat(LinePrefilter.of(Pattern.compile("warning", Pattern.CASE_INSENSITIVE)).getTokens()).isEmpty();
+    }
+
+    @Test
+    void shouldUseLongestLiteral() {
+        LinePrefilter prefilter = LinePrefilter.of(Pattern.compile("^(.*)\\.go:(\\d+): (.*)$"));
+
+        assertThat(prefilter.getTokens()).containsExactly(".go:");
+        assertThat(prefilter.test("file.go:1: message")).isTrue();
+        assertThat(prefilter.test("file.c:1: message")).isFalse();
+        assertThat(prefilter.test("noise")).isFalse();
+
+        assertThat(prefilter.getHitCount()).isEqualTo(1);
+        assertThat(prefilter.getSkipCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldUseDeclaredTokens() {
+        LinePrefilter prefilter = LinePrefilter.of(Pattern.compile(".*"), "warning", "error");
+
+        assertThat(prefilter.getTokens()).containsExactly("warning", "error");
+        assertThat(prefilter.test("a warning")).isTrue();
+        assertThat(prefilter.test("an error")).isTrue();
+        assertThat(prefilter.test("info")).isFalse();
+    }
+
+    @Test
+    void shouldPassAllLinesWithoutTokens() {
+        LinePrefilter prefilter = LinePrefilter.of(Pattern.compile("a|b"));
+
+        assertThat(prefilter.getTokens()).isEmpty();
+        assertThat(prefilter.test("anything")).isTrue();
+        assertThat(prefilter.getHitCount()).isEqualTo(1);
+        assertThat(prefilter.getSkipCount()).isZero();
+    }
+}
@@ -0,0 +1,110 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link LineScanner}.
+ *
+ * @author Ullrich Hafner
+ */
+class LineScannerTest {
+    private static final char ESCAPE = 27;
+    private static final String RED = ESCAPE + "[1;31m";
+    private static final String RESET = ESCAPE + "[0m";
+
+    @ParameterizedTest(name = "Buffer size {0}")
+    @ValueSource(ints = {1, 2, 3, 8192})
+    void shouldSplitLinesLikeBufferedReader(final int bufferSize) throws IOException {
+        assertThat(scan("", bufferSize)).isEmpty();
+        assertThat(scan("\n", bufferSize)).containsExactly("");
+        assertThat(scan("one", bufferSize)).containsExactly("one");
+        assertThat(scan("one\ntwo\n", bufferSize)).containsExactly("one", "two");
+        assertThat(scan("one\r\ntwo\rthree\n\nfour", bufferSize)).containsExactly("one", "two", "three", "", "four");
+        assertThat(scan("one\r\r\ntwo\n\r", bufferSize)).containsExactly("one", "", "two", "");
+    }
+
+    @ParameterizedTest(name = "Buffer size {0}")
+    @ValueSource(ints = {1, 4, 8192})
+    void shouldRemoveColorCodes(final int bufferSize) throws IOException {
+        assertThat(scan(RED + "error" + RESET + ": message\nplain", bufferSize)).containsExactly("error: message",
+                "plain");
+        assertThat(scan(ESCAPE + "[1\tno code" + ESCAPE + "[", bufferSize)).containsExactly(
+                ESCAPE + "[1\tno code" + ESCAPE + "[");
+        assertThat(scan(ESCAPE + "[12;3 /Xtext", bufferSize)).containsExactly("text");
+    }
+
+    @Test
+    void shouldRemoveColorCodesOfString() {
+        String plain = "plain text";
+
+        assertThat(LineScanner.removeColorCodes(plain)).isSameAs(plain);
+        assertThat(LineScanner.removeColorCodes(RED + "red" + RESET)).isEqualTo("red");
+    }
+
+    @Test
+    void shouldProvideLineAsViewAndString() throws IOException {
+        try (LineScanner scanner = new LineScanner(new StringReader("first line\nsecond"))) {
+            assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(scanner::getLine);
+
+            assertThat(scanner.advance()).isTrue();
+            CharSequence line = scanner.getLine();
+            assertThat(line.length()).isEqualTo(10);
+            assertThat(line.charAt(6)).isEqualTo('l');
+            assertThat(line.subSequence(6, 10).toString()).isEqualTo("line");
+            assertThat(line.toString()).isEqualTo("first line");
+            assertThat(scanner.getLineAsString()).isEqualTo("first line").isSameAs(scanner.getLineAsString());
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> line.charAt(10));
+
+            assertThat(scanner.advance()).isTrue();
+            assertThat(scanner.getLineAsString()).isEqualTo("second");
+            assertThat(scanner.advance()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldApplyLineMapper() throws IOException {
+        try (LineScanner scanner = new LineScanner(new StringReader("line\n" + RED), String::toUpperCase, 2)) {
+            assertThat(scanner.advance()).isTrue();
+            assertThat(scanner.getLine()).isInstanceOf(String.class).hasToString("LINE");
+            assertThat(scanner.advance()).isTrue();
+            assertThat(scanner.getLineAsString()).isEmpty();
+            assertThat(scanner.advance()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldFindTokensInViews() throws IOException {
+        try (LineScanner scanner = new LineScanner(new StringReader("file.c:10: warning"))) {
+            assertThat(scanner.advance()).isTrue();
+
+            CharSequence line = scanner.getLine();
+            assertThat(LineScanner.contains(line, ": warning")).isTrue();
+            assertThat(LineScanner.contains(line, "file")).isTrue();
+            assertThat(LineScanner.contains(line, "")).isTrue();
+            assertThat(LineScanner.contains(line, "error")).isFalse();
+            assertThat(LineScanner.contains(line, "warnings")).isFalse();
+            assertThat(LineScanner.contains(new StringBuilder("abc"), "bc")).isTrue();
+            assertThat(LineScanner.contains(new StringBuilder("abc"), "cb")).isFalse();
+        }
+    }
+
+    private List<String> scan(final String content, final int bufferSize) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (LineScanner scanner = new LineScanner(new StringReader(content), null, bufferSize)) {
+            while (scanner.advance()) {
+                lines.add(scanner.getLineAsString());
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,200 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Matcher;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.parser.MavenConsoleParser;
+import edu.hm.hafner.util.LookaheadStream;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link LookaheadParser}.
+ *
+ * @author Ullrich Hafner
+ */
+class LookaheadParserTest {
+    private static final String LOG = "make: Entering directory '/first'\n"
+            + "a.c:1: one\n"
+            + "noise\n"
+            + "b.c:2: two\n"
+            + "make[1]: Entering directory `/second'\n"
+            + "noise\n"
+            + "c.c:3: three\n"
+            + "-- Build files have been written to: /third\n"
+            + "d.c:4: four\n"
+            + "noise\n"
+            + "e.c:5: five\n";
+
+    @Test
+    void shouldParseChunksLikeSequentialParser() {
+        LineParser parser = new LineParser(true);
+        Report expected = parser.parse(createReaderFactory());
+
+        assertThat(expected).hasSize(5);
+        assertThat(expected.get(0)).hasFileName("/first/a.c").hasLineEnd(2);
+        assertThat(expected.get(2)).hasFileName("/second/c.c").hasLineEnd(7);
+        assertThat(expected.get(4)).hasFileName("/third/e.c").hasLineEnd(11);
+
+        for (int chunkSize = 1; chunkSize <= 12; chunkSize++) {
+            Report report = parser.parseChunks(createReaderFactory(), ForkJoinPool.commonPool(), chunkSize, 2);
+
+            assertThat(report).hasSize(expected.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(report.get(i)).isEqualTo(expected.get(i))
+                        .hasFileName(expected.get(i).getFileName())
+                        .hasLineEnd(expected.get(i).getLineEnd());
+            }
+        }
+        assertThat(parser.parseInParallel(createReaderFactory())).hasSize(expected.size());
+    }
+
+    @Test
+    void shouldParseSequentiallyIfNotLineIndependent() {
+        LineParser parser = new LineParser(false);
+
+        Report report = parser.parseInParallel(createReaderFactory(), command -> {
+            throw new AssertionError("Executor must not be used");
+        });
+
+        assertThat(report).hasSize(5);
+    }
+
+    @Test
+    void shouldSkipLinesWithoutRequiredLiteral() {
+        LineParser parser = new LineParser(false);
+
+        assertThat(parser.parse(createReaderFactory())).hasSize(5);
+        assertThat(parser.getPrefilterHitCount()).isEqualTo(5);
+        assertThat(parser.getPrefilterSkipCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldPassAllLinesToStatefulParser() {
+        StatefulParser parser = new StatefulParser();
+
+        Report report = parser.parse(createReaderFactory(LOG.replace("noise", "module changed")));
+
+        assertThat(report).hasSize(5);
+        assertThat(report.get(0)).hasModuleName("-");
+        assertThat(report.get(1)).hasModuleName("changed");
+        assertThat(report.get(2)).hasModuleName("changed");
+        assertThat(parser.getPrefilterSkipCount()).isZero();
+    }
+
+    @Test
+    void shouldTrackModulesOfMavenConsole() {
+        MavenConsoleParser parser = new MavenConsoleParser();
+
+        Report report = parser.parse(createReaderFactory("------------< edu.hm.hafner:analysis-model >------------\n"
+                + "[WARNING] first\n"
+                + "------------< edu.hm.hafner:other-module >------------\n"
+                + "[WARNING] second\n"));
+
+        assertThat(report).hasSize(2);
+        assertThat(report.get(0)).hasModuleName("edu.hm.hafner:analysis-model");
+        assertThat(report.get(1)).hasModuleName("edu.hm.hafner:other-module");
+    }
+
+    @Test
+    void shouldPropagateExceptionOfChunk() {
+        LineParser parser = new LineParser(true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                    final IssueBuilder builder) {
+                throw new ParsingException("Error in line %d", lookahead.getLine());
+            }
+        };
+
+        assertThatExceptionOfType(ParsingException.class)
+                .isThrownBy(() -> parser.parseChunks(createReaderFactory(), ForkJoinPool.commonPool(), 3, 2))
+                .withMessageContaining("Error in line 2");
+    }
+
+    private ReaderFactory createReaderFactory() {
+        return createReaderFactory(LOG);
+    }
+
+    private ReaderFactory createReaderFactory(final String content) {
+        return new ReaderFactory(StandardCharsets.UTF_8) {
+            @Override
+            public String getFileName() {
+                return "console.log";
+            }
+
+            @Override
+            public Reader create() {
+                return new StringReader(content);
+            }
+        };
+    }
+
+    /** Parses lines of the form {@code file:line: message}. */
+    private static class LineParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        private final boolean isLineIndependent;
+
+        LineParser(final boolean isLineIndependent) {
+            super("^(.*):(\\d+): (.*)$");
+
+            this.isLineIndependent = isLineIndependent;
+        }
+
+        @Override
+        protected boolean isLineIndependent() {
+            return isLineIndependent;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            return builder.setFileName(matcher.group(1))
+                    .setLineStart(matcher.group(2))
+                    .setLineEnd(lookahead.getLine())
+                    .setMessage(matcher.group(3))
+                    .buildOptional();
+        }
+    }
+
+    /**
+     * Parses lines of the form {@code file:line: message}. Lines of the form {@code module name} do not match the
+     * pattern, but change the module of the subsequent issues.
+     */
+    private static class StatefulParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        private String module = "-";
+
+        StatefulParser() {
+            super("^(.*):(\\d+): (.*)$");
+        }
+
+        @Override
+        protected boolean isLineInteresting(final String line) {
+            if (line.startsWith("module ")) {
+                module = line.substring("module ".length());
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            return builder.setFileName(matcher.group(1))
+                    .setLineStart(matcher.group(2))
+                    .setMessage(matcher.group(3))
+                    .setModuleName(module)
+                    .buildOptional();
+        }
+    }
+}
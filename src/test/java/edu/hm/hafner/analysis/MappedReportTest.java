@@ -0,0 +1,159 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.IssueTable.Column;
+import edu.hm.hafner.util.NoSuchElementException;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link MappedReport}.
+ *
+ * @author Ullrich Hafner
+ */
+class MappedReportTest {
+    private static final int SIZE = 1000;
+    private static final String FILE_NAME = ReportFixture.FOLDER + "File-3.java";
+
+    @Test
+    void shouldStoreAndLoadReport() throws IOException {
+        Report report = createReport();
+
+        Path file = Files.createTempFile("report", ".mapped");
+        try {
+            MappedReport mapped = MappedReport.create(report, file);
+
+            assertThat(mapped.size()).isEqualTo(report.size());
+            assertThat(mapped.isEmpty()).isFalse();
+            for (int i = 0; i < report.size(); i++) {
+                Issue expected = report.get(i);
+                assertThat(mapped.get(i)).isEqualTo(expected)
+                        .hasId(expected.getId())
+                        .hasFingerprint(expected.getFingerprint())
+                        .hasReference(expected.getReference());
+                assertThat(mapped.get(i).getAdditionalProperties()).isEqualTo(expected.getAdditionalProperties());
+            }
+            assertThat(mapped.stream()).containsExactlyElementsOf(report);
+            assertThatThrownBy(() -> mapped.get(SIZE)).isInstanceOf(IndexOutOfBoundsException.class);
+
+            Report loaded = MappedReport.open(file).toReport();
+            assertThat(loaded).isEqualTo(report);
+            assertThat(loaded.getInfoMessages()).containsExactly("Info");
+            assertThat(loaded.getErrorMessages()).containsExactly("Error");
+            assertThat(loaded.getFileNames()).containsExactly("report.xml");
+            assertThat(loaded.getNameOfOrigin("checkstyle")).isEqualTo("CheckStyle");
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldFindIssuesUsingIndexes() throws IOException {
+        Report report = createReport();
+
+        Path file = Files.createTempFile("report", ".mapped");
+        try {
+            MappedReport mapped = MappedReport.create(report, file);
+
+            for (Issue issue : report) {
+                assertThat(mapped.findById(issue.getId())).isEqualTo(issue);
+            }
+            assertThatThrownBy(() -> mapped.findById(UUID.randomUUID()))
+                    .isInstanceOf(NoSuchElementException.class);
+
+            assertThat(mapped.findByFileName(FILE_NAME))
+                    .isEqualTo(report.filter(issue -> FILE_NAME.equals(issue.getFileName())));
+            assertThat(mapped.findByFileName("/unknown")).isEmpty();
+            assertThat(mapped.getFiles()).containsExactlyInAnyOrderElementsOf(report.getFiles());
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldFilterAndAggregateProperties() throws IOException {
+        Report report = createReport();
+
+        Path file = Files.createTempFile("report", ".mapped");
+        try {
+            MappedReport mapped = MappedReport.create(report, file);
+
+            assertThat(mapped.filter(Column.CATEGORY, "Category-1"::equals))
+                    .isEqualTo(report.filter(issue -> "Category-1".equals(issue.getCategory())));
+            assertThat(mapped.getPropertyCount(Column.SEVERITY))
+                    .containsEntry("ERROR", report.getSizeOf(Severity.ERROR))
+                    .containsEntry("HIGH", report.getSizeOf(Severity.WARNING_HIGH))
+                    .hasSize(2);
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldStoreEmptyReport() throws IOException {
+        Path file = Files.createTempFile("report", ".mapped");
+        try {
+            MappedReport mapped = MappedReport.create(new Report(), file);
+
+            assertThat(mapped.isEmpty()).isTrue();
+            assertThat(mapped.toReport()).isEmpty();
+            assertThat(mapped.findByFileName(FILE_NAME)).isEmpty();
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidFile() throws IOException {
+        Path file = Files.createTempFile("report", ".mapped");
+        try {
+            Files.write(file, "This is not a mapped report".getBytes(StandardCharsets.UTF_8));
+
+            assertThatThrownBy(() -> MappedReport.open(file))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Not a valid mapped report file");
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void shouldRejectFileWithDifferentRecordLayout() throws IOException {
+        Path file = Files.createTempFile("report", ".mapped");
+        try {
+            MappedReport.create(createReport(), file);
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 42), 14 * Integer.BYTES);
+            }
+
+            assertThatThrownBy(() -> MappedReport.open(file))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unsupported record layout");
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    private Report createReport() {
+        Report report = ReportFixture.createReport(SIZE);
+        report.add(report.get(0));
+        return report;
+    }
+}
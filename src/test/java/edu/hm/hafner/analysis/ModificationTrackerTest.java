@@ -0,0 +1,102 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.ReportIndex.Property;
+import edu.hm.hafner.analysis.ReportStatistics.CountedProperty;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ModificationTracker}.
+ *
+ * @author Ullrich Hafner
+ */
+class ModificationTrackerTest {
+    @Test
+    void shouldDetectOnlyModificationsOfTrackedIssues() {
+        Issue issue = new IssueBuilder().setFileName("file").build();
+        Issue other = new IssueBuilder().setFileName("other").build();
+        List<Issue> elements = new ArrayList<>();
+        elements.add(issue);
+
+        ModificationTracker tracker = new ModificationTracker(elements);
+
+        other.setFingerprint("fingerprint");
+        other.setModuleName("module");
+        assertThat(tracker.getModificationCount()).isZero();
+        assertThat(tracker.getEqualityModificationCount()).isZero();
+
+        issue.setFingerprint("fingerprint");
+        assertThat(tracker.getModificationCount()).isEqualTo(1);
+        assertThat(tracker.getEqualityModificationCount()).isZero();
+
+        issue.setModuleName("module");
+        assertThat(tracker.getModificationCount()).isEqualTo(2);
+        assertThat(tracker.getEqualityModificationCount()).isEqualTo(1);
+
+        elements.add(other);
+        tracker.add(other);
+        assertThat(tracker.getModificationCount()).isEqualTo(2);
+
+        elements.remove(issue);
+        tracker.remove(issue);
+        issue.setModuleName("changed");
+        assertThat(tracker.getModificationCount()).isEqualTo(2);
+
+        other.setModuleName("changed");
+        assertThat(tracker.getModificationCount()).isEqualTo(3);
+        assertThat(tracker.getEqualityModificationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepIndexIfIssuesOfOtherReportsAreModified() {
+        Issue issue = new IssueBuilder().setFileName("file").build();
+        Set<Issue> elements = new LinkedHashSet<>();
+        elements.add(issue);
+
+        ModificationTracker tracker = new ModificationTracker(elements);
+        ReportIndex index = new ReportIndex(elements, tracker);
+
+        Set<Issue> indexed = index.findByProperty(Property.FILE_NAME, "file");
+        assertThat(indexed).containsExactly(issue);
+
+        new IssueBuilder().setFileName("unrelated").build().setFileName("-", new IssueBuilder().internFileName("x"));
+
+        Issue added = new IssueBuilder().setFileName("file").setLineStart(2).build();
+        elements.add(added);
+        tracker.add(added);
+        index.add(added);
+
+        assertThat(indexed).as("Index should not be rebuilt").containsExactly(issue, added);
+
+        issue.setFileName("-", new IssueBuilder().internFileName("changed"));
+
+        assertThat(index.findByProperty(Property.FILE_NAME, "file")).containsExactly(added);
+        assertThat(index.findByProperty(Property.FILE_NAME, "changed")).containsExactly(issue);
+    }
+
+    @Test
+    void shouldRecountStatisticsIfIssuesOfReportAreModified() {
+        Issue issue = new IssueBuilder().setModuleName("module").build();
+        Issue unrelated = new IssueBuilder().setModuleName("module").build();
+        Set<Issue> elements = new LinkedHashSet<>();
+        elements.add(issue);
+
+        ModificationTracker tracker = new ModificationTracker(elements);
+        ReportStatistics statistics = new ReportStatistics(elements, tracker);
+
+        assertThat(statistics.getValues(CountedProperty.MODULE_NAME)).containsExactly("module");
+
+        unrelated.setModuleName("unrelated");
+        assertThat(statistics.getValues(CountedProperty.MODULE_NAME)).containsExactly("module");
+
+        issue.setModuleName("changed");
+        assertThat(statistics.getValues(CountedProperty.MODULE_NAME)).containsExactly("changed");
+    }
+}
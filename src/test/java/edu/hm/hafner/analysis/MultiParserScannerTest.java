@@ -0,0 +1,130 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.parser.CMakeParser;
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.analysis.parser.JavacParser;
+import edu.hm.hafner.analysis.parser.MavenConsoleParser;
+import edu.hm.hafner.analysis.parser.MsBuildParser;
+import edu.hm.hafner.util.LookaheadStream;
+import edu.hm.hafner.util.ResourceTest;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link MultiParserScanner}.
+ *
+ * @author Ullrich Hafner
+ */
+class MultiParserScannerTest extends ResourceTest {
+    @Test
+    void shouldCreateSameReportsAsSeparateParsers() {
+        ReaderFactory readerFactory = createLog("gnuMakeGcc.txt", "cmake.txt", "javac.txt", "maven-console.txt",
+                "msbuild.txt", "gcc4.txt", "gnuMakeGcc.txt");
+        List<LookaheadParser> parsers = Arrays.asList(new Gcc4CompilerParser(), new CMakeParser(), new JavacParser(),
+                new MavenConsoleParser(), new MsBuildParser(), new ContinuationParser());
+
+        List<Report> reports = new MultiParserScanner(parsers).scan(readerFactory);
+
+        assertThat(reports).hasSize(parsers.size());
+        for (int i = 0; i < parsers.size(); i++) {
+            Report expected = parsers.get(i).parse(readerFactory);
+            Report actual = reports.get(i);
+
+            assertThat(actual).hasSize(expected.size());
+            for (int j = 0; j < expected.size(); j++) {
+                assertThat(actual.get(j)).isEqualTo(expected.get(j))
+                        .hasFileName(expected.get(j).getFileName())
+                        .hasMessage(expected.get(j).getMessage())
+                        .hasDescription(expected.get(j).getDescription());
+            }
+        }
+    }
+
+    @Test
+    void shouldKeepDirectoryOfEachParser() {
+        ReaderFactory readerFactory = createLog("gnuMakeGcc.txt");
+        Gcc4CompilerParser parser = new Gcc4CompilerParser();
+
+        List<Report> reports = new MultiParserScanner(parser, new ContinuationParser(), parser).scan(readerFactory);
+
+        List<String> expected = getAbsolutePaths(parser.parse(readerFactory));
+        assertThat(expected).contains("/dir1/dir2/main/mep.cpp", "/dir4/zoidberg.c");
+        assertThat(getAbsolutePaths(reports.get(0))).isEqualTo(expected);
+        assertThat(getAbsolutePaths(reports.get(2))).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldScanEmptyFile() {
+        List<Report> reports = new MultiParserScanner(new JavacParser(), new ContinuationParser())
+                .scan(createReaderFactory(""));
+
+        assertThat(reports).hasSize(2);
+        assertThat(reports.get(0)).isEmpty();
+        assertThat(reports.get(1)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectEmptyParsers() {
+        assertThatIllegalArgumentException().isThrownBy(MultiParserScanner::new);
+    }
+
+    private List<String> getAbsolutePaths(final Report report) {
+        return report.stream().map(Issue::getAbsolutePath).collect(Collectors.toList());
+    }
+
+    private ReaderFactory createLog(final String... fileNames) {
+        StringBuilder log = new StringBuilder();
+        for (String fileName : fileNames) {
+            log.append(new String(readAllBytes("parser/" + fileName), StandardCharsets.UTF_8));
+        }
+        return createReaderFactory(log.toString());
+    }
+
+    private ReaderFactory createReaderFactory(final String content) {
+        return new ReaderFactory(StandardCharsets.UTF_8) {
+            @Override
+            public String getFileName() {
+                return "console.log";
+            }
+
+            @Override
+            public Reader create() {
+                return new StringReader(content);
+            }
+        };
+    }
+
+    /** Parses lines of the form {@code file:line:} and consumes the next two lines as message. */
+    private static class ContinuationParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        ContinuationParser() {
+            super("^(\\S+\\.\\w+):(\\d+):");
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            StringBuilder message = new StringBuilder();
+            for (int i = 0; i < 2 && lookahead.hasNext(); i++) {
+                message.append(lookahead.next());
+            }
+            return builder.setFileName(matcher.group(1))
+                    .setLineStart(matcher.group(2))
+                    .setLineEnd(lookahead.getLine())
+                    .setMessage(message.toString())
+                    .buildOptional();
+        }
+    }
+}
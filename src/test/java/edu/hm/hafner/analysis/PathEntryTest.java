@@ -0,0 +1,113 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link PathEntry}.
+ *
+ * @author Ullrich Hafner
+ */
+class PathEntryTest {
+    private static final String FILE_NAME = "src/main/java/File.java";
+    private static final InterningPool POOL = InterningPool.getShared();
+
+    @Test
+    void shouldMapFileNamesToSameEntry() {
+        PathEntry entry = POOL.internPath(FILE_NAME);
+
+        assertThat(POOL.internPath(new String(FILE_NAME))).isSameAs(entry);
+        assertThat(entry.getName()).isEqualTo(FILE_NAME);
+        assertThat(entry).hasToString(FILE_NAME);
+        assertThat(entry.getTreeString()).isSameAs(POOL.internTreeString(FILE_NAME));
+        assertThat(POOL.internPath("other.txt")).isNotEqualTo(entry);
+    }
+
+    @Test
+    void shouldShareEntriesOfFolders() {
+        PathEntry entry = POOL.internPath(FILE_NAME);
+        PathEntry sibling = POOL.internPath("src/main/java/Other.java");
+
+        assertThat(sibling.getParent()).isSameAs(entry.getParent()).isSameAs(POOL.internPath("src/main/java/"));
+        assertThat(entry.getParent().getParent()).isSameAs(POOL.internPath("src/main/"));
+        assertThat(POOL.internPath("/").getParent()).isNull();
+        assertThat(POOL.internPath("/File.java").getParent()).isSameAs(POOL.internPath("/"));
+
+        assertThat(entry.hasName(FILE_NAME)).isTrue();
+        assertThat(entry.hasName("main/java/File.java")).isFalse();
+        assertThat(entry.hasName("/" + FILE_NAME)).isFalse();
+        assertThat(entry).hasSameHashCodeAs(FILE_NAME);
+    }
+
+    @Test
+    void shouldCompareEntriesWithDifferentParents() {
+        PathEntry entry = POOL.internPath(FILE_NAME);
+        PathEntry flat = new PathEntry(null, FILE_NAME, FILE_NAME.hashCode());
+
+        assertThat(flat).isEqualTo(entry).hasSameHashCodeAs(entry);
+        assertThat(entry).isEqualTo(flat);
+        assertThat(new PathEntry(null, "src/main/java/Other.java", FILE_NAME.hashCode())).isNotEqualTo(entry);
+    }
+
+    @Test
+    void shouldComputeDerivedValuesOnlyOnce() {
+        PathEntry entry = POOL.internPath(FILE_NAME);
+
+        String name = entry.getName();
+        assertThat(entry.getName()).isSameAs(name);
+        assertThat(entry.toString()).isSameAs(name);
+        assertThat(entry.getTreeString()).isSameAs(entry.getTreeString());
+
+        String folder = entry.getFolder();
+        assertThat(folder).startsWith("src/main/java");
+        assertThat(entry.getFolder()).isSameAs(folder);
+
+        String baseName = entry.getBaseName();
+        assertThat(baseName).isEqualTo("File.java");
+        assertThat(entry.getBaseName()).isSameAs(baseName);
+
+        String absolutePath = entry.getAbsolutePath("/workspace");
+        assertThat(absolutePath).isEqualTo("/workspace/" + FILE_NAME);
+        assertThat(entry.getAbsolutePath("/workspace")).isSameAs(absolutePath);
+        assertThat(entry.getAbsolutePath("/other")).isEqualTo("/other/" + FILE_NAME);
+        assertThat(entry.getAbsolutePath(Issue.UNDEFINED)).isEqualTo(FILE_NAME);
+    }
+
+    @Test
+    void shouldHandleFileWithoutFolder() {
+        PathEntry entry = POOL.internPath("File.java");
+
+        assertThat(entry.getFolder()).isEqualTo(Issue.UNDEFINED);
+        assertThat(entry.getBaseName()).isEqualTo("File.java");
+    }
+
+    @Test
+    void shouldResolveSharedEntryAfterDeserialization() throws IOException, ClassNotFoundException {
+        PathEntry entry = POOL.internPath(FILE_NAME);
+
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(serialized)) {
+            output.writeObject(entry);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized.toByteArray()))) {
+            assertThat(input.readObject()).isSameAs(entry);
+        }
+    }
+
+    @Test
+    void shouldShareEntryBetweenIssues() {
+        IssueBuilder builder = new IssueBuilder().setFileName(FILE_NAME);
+        Issue issue = builder.setLineStart(1).build();
+        Issue other = builder.setLineStart(2).build();
+
+        assertThat(other.getPathEntry()).isSameAs(issue.getPathEntry());
+        assertThat(issue).hasFileName(FILE_NAME).hasBaseName("File.java").hasFolder(issue.getPathEntry().getFolder());
+    }
+}
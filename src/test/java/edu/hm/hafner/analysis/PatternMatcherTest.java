@@ -0,0 +1,40 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link PatternMatcher}.
+ *
+ * @author Ullrich Hafner
+ */
+class PatternMatcherTest {
+    private static final String[] VALUES = {"", "a", "ab", "ba", "a.b", "a\nb", "aab", "ABC", "b\n", "x/y-z"};
+
+    @ParameterizedTest(name = "[{index}] Pattern {0}")
+    @ValueSource(strings = {"a", "^a", "^.*b", ".*b.*", "a.*", "a\\.b", "^a\\nb", "[ab]+b", "(a)\\1", "(?<x>a)b",
+            "(?i)abc", "b$", "^", ".*", "", "x|y", "(?<=a)b", ".*?b", "a\\.*", "\\Qa.b\\E", "x\\/y\\-z", "#"})
+    void shouldMatchLikeRegularExpression(final String pattern) {
+        PatternMatcher matcher = new PatternMatcher(Arrays.asList(pattern, "never"));
+        PatternMatcher merged = new PatternMatcher(Arrays.asList(pattern, "n[e]v(e)r", "^n.*r"));
+
+        Pattern expectedPattern = Pattern.compile(pattern, Pattern.DOTALL);
+        for (String value : VALUES) {
+            boolean expected = expectedPattern.matcher(value).find();
+
+            assertThat(matcher.test(value)).as("Value '%s'", value).isEqualTo(expected);
+            assertThat(merged.test(value)).as("Value '%s'", value).isEqualTo(expected);
+
+            for (String second : VALUES) {
+                boolean expectedJoined = expectedPattern.matcher(value + "\n" + second).find();
+                assertThat(merged.test(value, second)).as("Values '%s' and '%s'", value, second)
+                        .isEqualTo(expectedJoined);
+            }
+        }
+    }
+}
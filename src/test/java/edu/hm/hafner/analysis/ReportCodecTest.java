@@ -0,0 +1,101 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ReportCodec}.
+ *
+ * @author Ullrich Hafner
+ */
+class ReportCodecTest {
+    private static final int SIZE = 1000;
+    private static final Severity CUSTOM = new Severity("CUSTOM");
+
+    @ParameterizedTest(name = "Compressed: {0}")
+    @ValueSource(booleans = {true, false})
+    void shouldWriteAndReadReport(final boolean isCompressed) throws IOException {
+        Report report = createReport();
+        ReportCodec codec = new ReportCodec(isCompressed);
+
+        Report restored = writeAndRead(codec, report);
+
+        assertThat(restored).isEqualTo(report);
+        assertThat(restored.getDuplicatesSize()).isEqualTo(1);
+        assertThat(restored.getInfoMessages()).containsExactly("Info");
+        assertThat(restored.getErrorMessages()).containsExactly("Error");
+        assertThat(restored.getFileNames()).containsExactly("report.xml");
+        assertThat(restored.getNameOfOrigin("checkstyle")).isEqualTo("CheckStyle");
+        assertThat(restored.getSizeOf(CUSTOM)).isEqualTo(report.getSizeOf(CUSTOM));
+
+        for (int i = 0; i < SIZE; i++) {
+            Issue expected = report.get(i);
+            Issue actual = restored.get(i);
+            assertThat(actual.getId()).isEqualTo(expected.getId());
+            assertThat(actual.getLineRanges()).isEqualTo(expected.getLineRanges());
+            assertThat(actual.getAdditionalProperties()).isEqualTo(expected.getAdditionalProperties());
+            assertThat(actual.getFingerprint()).isEqualTo(expected.getFingerprint());
+        }
+    }
+
+    @Test
+    void shouldWriteAndReadEmptyReport() throws IOException {
+        Report report = new Report();
+
+        assertThat(writeAndRead(new ReportCodec(), report)).isEqualTo(report).isEmpty();
+    }
+
+    @Test
+    void shouldBeSmallerThanJavaSerialization() throws IOException {
+        Report report = createReport();
+
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(serialized)) {
+            stream.writeObject(report);
+        }
+        ByteArrayOutputStream uncompressed = new ByteArrayOutputStream();
+        new ReportCodec(false).write(report, uncompressed);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        new ReportCodec(true).write(report, compressed);
+
+        assertThat(uncompressed.size()).isLessThan(serialized.size() / 2);
+        assertThat(compressed.size()).isLessThan(uncompressed.size());
+    }
+
+    @Test
+    void shouldRejectInvalidContent() {
+        ReportCodec codec = new ReportCodec();
+
+        assertThatThrownBy(() -> codec.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6})))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Not a valid report file");
+        assertThatThrownBy(() -> codec.read(new ByteArrayInputStream(new byte[] {0x52, 0x50, 0x54, 0x31, 9, 0})))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported version");
+    }
+
+    private Report writeAndRead(final ReportCodec codec, final Report report) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        codec.write(report, output);
+        return codec.read(new ByteArrayInputStream(output.toByteArray()));
+    }
+
+    private Report createReport() {
+        Report report = ReportFixture.createReport(SIZE);
+        report.add(report.get(0));
+        IssueBuilder builder = new IssueBuilder().setFileName(ReportFixture.FOLDER + "Custom.java")
+                .setSeverity(CUSTOM);
+        for (int i = 1; i <= 5; i++) {
+            report.add(builder.setLineStart(i).build());
+        }
+        return report;
+    }
+}
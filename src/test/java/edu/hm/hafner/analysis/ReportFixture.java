@@ -0,0 +1,59 @@
+package edu.hm.hafner.analysis;
+
+/**
+ * Creates reports that are used as fixtures in the tests of the different report representations (tables, mapped
+ * files, encoded streams, etc.).
+ *
+ * @author Ullrich Hafner
+ */
+final class ReportFixture {
+    /** The folder of the files of the created issues. */
+    static final String FOLDER = "/path/to/";
+
+    /**
+     * Creates a report with the specified number of issues. All properties of the issues are set: the issues are
+     * distributed over 7 files, 3 categories, 5 packages, 2 severities ({@link Severity#ERROR} and
+     * {@link Severity#WARNING_HIGH}), and 50 messages. Every 10th issue has an additional line range, every 100th issue
+     * has additional properties. The report contains an info and an error message, the name of the parsed file, and
+     * the name of the origin.
+     *
+     * @param size
+     *         the number of issues
+     *
+     * @return the report
+     */
+    static Report createReport(final int size) {
+        Report report = new Report();
+        IssueBuilder builder = new IssueBuilder();
+        for (int i = 0; i < size; i++) {
+            LineRangeList ranges = new LineRangeList();
+            if (i % 10 == 0) {
+                ranges.add(new LineRange(i + 10, i + 20));
+            }
+            report.add(builder.setFileName(FOLDER + "File-" + i % 7 + ".java")
+                    .setLineStart(i + 1).setLineEnd(i + 2).setColumnStart(i % 3).setColumnEnd(i % 3 + 5)
+                    .setLineRanges(ranges)
+                    .setCategory("Category-" + i % 3)
+                    .setType("Type")
+                    .setPackageName("edu.hm.hafner.package" + i % 5)
+                    .setModuleName("module")
+                    .setSeverity(i % 2 == 0 ? Severity.ERROR : Severity.WARNING_HIGH)
+                    .setMessage("Message " + i % 50)
+                    .setDescription("Description with non-ASCII characters: \u00e4\u00f6\u00fc")
+                    .setOrigin("checkstyle")
+                    .setReference("1")
+                    .setFingerprint("FP-" + i)
+                    .setAdditionalProperties(i % 100 == 0 ? "Additional-" + i : null)
+                    .build());
+        }
+        report.logInfo("Info");
+        report.logError("Error");
+        report.addFileName("report.xml");
+        report.setNameOfOrigin("checkstyle", "CheckStyle");
+        return report;
+    }
+
+    private ReportFixture() {
+        // prevents instantiation
+    }
+}
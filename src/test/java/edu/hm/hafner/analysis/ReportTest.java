@@ -11,6 +11,7 @@ import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.junit.jupiter.api.Disabled;
@@ -716,6 +717,175 @@ class ReportTest extends SerializableTest<Report> {
         assertThat(report.filter(predicate.apply("name 3"))).hasSize(1);
     }
 
+    @Test
+    void shouldFilterByIndexedPropertyInOrder() {
+        Report report = new Report();
+        report.addAll(allIssuesAsList());
+
+        assertThat(report.filter(Issue.byFileName("file-2")).iterator()).toIterable()
+                .containsExactly(LOW_2_A, LOW_2_B);
+        assertThat(report.filter(Issue.bySeverity(Severity.WARNING_LOW)).iterator()).toIterable()
+                .containsExactly(LOW_2_A, LOW_2_B, LOW_FILE_3);
+
+        report.remove(LOW_2_A.getId());
+
+        assertThat(report.filter(Issue.byFileName("file-2")).iterator()).toIterable()
+                .containsExactly(LOW_2_B);
+        assertThat(report.findByProperty(Issue.bySeverity(Severity.WARNING_LOW)))
+                .containsExactlyInAnyOrder(LOW_2_B, LOW_FILE_3);
+
+        report.add(LOW_2_A);
+
+        assertThat(report.filter(Issue.byFileName("file-2")).iterator()).toIterable()
+                .containsExactly(LOW_2_B, LOW_2_A);
+    }
+
+    @Test
+    void shouldUpdateIndexIfIssueIsModified() {
+        Issue issue = new IssueBuilder().setFileName("before").setModuleName("module").build();
+
+        Report report = new Report();
+        report.add(issue);
+
+        assertThat(report.filter(Issue.byFileName("before"))).hasSize(1);
+        assertThat(report.filter(Issue.byModuleName("module"))).hasSize(1);
+
+        issue.setFileName("-", new IssueBuilder().internFileName("after"));
+
+        assertThat(report.filter(Issue.byFileName("before"))).isEmpty();
+        assertThat(report.filter(Issue.byFileName("after"))).hasSize(1);
+
+        issue.setFingerprint("fingerprint");
+
+        assertThat(report.findByFingerprint("fingerprint")).containsExactly(issue);
+    }
+
+    @Test
+    void shouldUpdateStatisticsIfIssuesAreAddedModifiedOrRemoved() {
+        Issue first = new IssueBuilder().setFileName("first").setModuleName("module").setOrigin("origin")
+                .setSeverity(Severity.ERROR).build();
+        Issue second = new IssueBuilder().setFileName("second").setModuleName("module").setOrigin("origin")
+                .setSeverity(new Severity("CUSTOM")).build();
+
+        Report report = new Report();
+        report.addAll(first, second);
+
+        assertThat(report.getSizeOf(Severity.ERROR)).isEqualTo(1);
+        assertThat(report.getSizeOf("CUSTOM")).isEqualTo(1);
+        assertThat(report.getSeverities()).containsExactlyInAnyOrder(Severity.ERROR, new Severity("CUSTOM"));
+        assertThat(report.getModules()).containsExactly("module");
+        assertThat(report.getTools()).containsExactly("origin");
+
+        second.setModuleName("other");
+        second.setOrigin("new-origin");
+
+        assertThat(report.getModules()).containsExactlyInAnyOrder("module", "other");
+        assertThat(report.getTools()).containsExactlyInAnyOrder("origin", "new-origin");
+
+        Report copy = report.copy();
+        report.remove(first.getId());
+
+        assertThat(report.getSizeOf(Severity.ERROR)).isZero();
+        assertThat(report.getSeverities()).containsExactly(new Severity("CUSTOM"));
+        assertThat(report.getFiles()).containsExactly("second");
+        assertThat(report.getModules()).containsExactly("other");
+
+        assertThat(copy.getSizeOf(Severity.ERROR)).isEqualTo(1);
+        assertThat(copy.getFiles()).containsExactlyInAnyOrder("first", "second");
+        assertThat(copy.getModules()).containsExactlyInAnyOrder("module", "other");
+    }
+
+    @Test
+    void shouldCopyElementsOnlyIfCopyIsModified() {
+        Report original = new Report();
+        original.addAll(HIGH, NORMAL_1, NORMAL_2);
+
+        Report copy = original.copy();
+        assertThat(copy).isEqualTo(original);
+        assertThat(copy.get(2)).isSameAs(NORMAL_2);
+
+        copy.add(HIGH);
+        assertThat(copy.getDuplicatesSize()).isEqualTo(1);
+        assertThat(original.getDuplicatesSize()).isZero();
+
+        copy.add(LOW_2_A);
+        copy.remove(HIGH.getId());
+        assertThat(copy.iterator()).toIterable().containsExactly(NORMAL_1, NORMAL_2, LOW_2_A);
+        assertThat(copy.getSizeOf(Severity.WARNING_HIGH)).isZero();
+
+        assertThat(original.iterator()).toIterable().containsExactly(HIGH, NORMAL_1, NORMAL_2);
+        assertThat(original.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(1);
+        assertThat(original.findById(HIGH.getId())).isSameAs(HIGH);
+
+        original.add(LOW_FILE_3);
+        assertThat(original.iterator()).toIterable().containsExactly(HIGH, NORMAL_1, NORMAL_2, LOW_FILE_3);
+        assertThat(copy.iterator()).toIterable().containsExactly(NORMAL_1, NORMAL_2, LOW_2_A);
+    }
+
+    @Test
+    void shouldIterateOverSnapshotOfElements() {
+        Report report = new Report();
+        report.addAll(HIGH, NORMAL_1);
+
+        Iterator<Issue> iterator = report.iterator();
+        Stream<Issue> stream = report.stream();
+        report.add(NORMAL_2);
+
+        assertThat(iterator).toIterable().containsExactly(HIGH, NORMAL_1);
+        assertThat(stream).containsExactly(HIGH, NORMAL_1);
+        assertThat(report.get(2)).isSameAs(NORMAL_2);
+    }
+
+    @Test
+    void shouldRehashElementsIfIssuesHaveBeenModified() {
+        IssueBuilder builder = new IssueBuilder().setFileName("file").setLineStart(1);
+        Issue first = builder.setModuleName("first").build();
+        Issue second = builder.setModuleName("second").build();
+
+        Report report = new Report();
+        report.addAll(first, second);
+
+        first.setModuleName("modified");
+        report.add(builder.setModuleName("modified").build());
+
+        assertThat(report).hasSize(2).hasDuplicatesSize(1);
+
+        assertThat(report.remove(first.getId())).isSameAs(first);
+        assertThat(report.iterator()).toIterable().containsExactly(second);
+
+        second.setModuleName("modified");
+        Report other = new Report();
+        other.addAll(second, builder.setModuleName("modified").build());
+
+        assertThat(other).hasSize(1).hasDuplicatesSize(1);
+        assertThat(other).isEqualTo(report);
+    }
+
+    @Test
+    void shouldCompareReportsWithModifiedIssuesWithoutSideEffects() {
+        IssueBuilder builder = new IssueBuilder().setFileName("file").setLineStart(1);
+        Issue first = builder.setModuleName("first").build();
+        Issue second = builder.setModuleName("second").build();
+
+        Report report = new Report();
+        report.addAll(first, second);
+        Report other = new Report();
+        other.add(first);
+
+        second.setModuleName("first");
+
+        assertThat(report).isNotEqualTo(other);
+        assertThat(report).hasSize(2).hasDuplicatesSize(0);
+
+        other.addDuplicates(1);
+        assertThat(report).isEqualTo(other).hasSameHashCodeAs(other);
+        assertThat(other).isEqualTo(report);
+        assertThat(report).hasSize(2).hasDuplicatesSize(0);
+
+        report.add(builder.setModuleName("third").build());
+        assertThat(report).hasSize(2).hasDuplicatesSize(1);
+    }
+
     @Test
     void shouldStoreAndRetrieveLogAndErrorMessagesInCorrectOrder() {
         Report report = new Report();
@@ -0,0 +1,48 @@
+package edu.hm.hafner.analysis;
+
+import java.io.StringReader;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ScannedLookaheadStream}.
+ *
+ * @author Ullrich Hafner
+ */
+class ScannedLookaheadStreamTest {
+    @Test
+    void shouldHandOutAndSkipLines() {
+        try (ScannedLookaheadStream stream = createStream("first\nsecond\nthird\nfourth")) {
+            assertThat(stream.getFileName()).isEqualTo("file.log");
+            assertThat(stream.getLine()).isZero();
+
+            assertThat(stream.hasNext()).isTrue();
+            assertThat(stream.peekSequence().toString()).isEqualTo("first");
+            assertThat(stream.peekNext()).isEqualTo("first");
+            assertThat(stream.next()).isEqualTo("first");
+            assertThat(stream.getLine()).isEqualTo(1);
+
+            assertThat(stream.hasNext("sec.nd")).isTrue();
+            assertThat(stream.hasNext("third")).isFalse();
+            stream.skip();
+            assertThat(stream.getLine()).isEqualTo(2);
+
+            assertThat(stream.next()).isEqualTo("third");
+            assertThat(stream.peekSequence().toString()).isEqualTo("fourth");
+            stream.skip();
+            assertThat(stream.getLine()).isEqualTo(4);
+
+            assertThat(stream.hasNext()).isFalse();
+            assertThat(stream.hasNext("fourth")).isFalse();
+            assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(stream::next);
+            assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(stream::skip);
+        }
+    }
+
+    private ScannedLookaheadStream createStream(final String content) {
+        return new ScannedLookaheadStream(new LineScanner(new StringReader(content)), "file.log");
+    }
+}
@@ -0,0 +1,176 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.util.LookaheadStream;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link SpillingReport}.
+ *
+ * @author Ullrich Hafner
+ */
+class SpillingReportTest {
+    private static final int BUDGET = 100;
+
+    @Test
+    void shouldHoldIssuesInMemoryWithinBudget() throws IOException {
+        Report expected = ReportFixture.createReport(BUDGET - 1);
+
+        try (SpillingReport report = new SpillingReport(BUDGET)) {
+            report.addAll(expected);
+            report.add(expected.get(0));
+
+            assertThat(report.isSpilled()).isFalse();
+            assertThat(report.size()).isEqualTo(expected.size());
+            assertThat(report.getDuplicatesSize()).isEqualTo(1);
+            assertThat(report.stream()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void shouldSpillAndMergeRuns() throws IOException {
+        Report expected = ReportFixture.createReport(BUDGET * 10 + 17);
+
+        try (SpillingReport report = new SpillingReport(BUDGET)) {
+            report.addAll(expected);
+            for (int i = 0; i < expected.size(); i += 3) {
+                report.add(copy(expected.get(i)));
+            }
+            expected.add(copy(expected.get(0)));
+
+            assertThat(report.isSpilled()).isTrue();
+            assertThat(report.getRunsSize()).isGreaterThan(10);
+            assertThat(report.isEmpty()).isFalse();
+            assertThat(report.size()).isEqualTo(expected.size());
+            assertThat(report.getDuplicatesSize()).isEqualTo((expected.size() + 2) / 3);
+            assertThat(report.getSizeOf(Severity.ERROR)).isEqualTo(expected.getSizeOf(Severity.ERROR));
+            assertThat(report.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(expected.getSizeOf(Severity.WARNING_HIGH));
+            assertThat(report.stream()).containsExactlyElementsOf(expected);
+
+            Report merged = report.toReport();
+            assertThat(merged.size()).isEqualTo(expected.size());
+            assertThat(merged.stream().map(Issue::getId)).containsExactlyElementsOf(
+                    expected.stream().map(Issue::getId).collect(Collectors.toList()));
+
+            report.add(new IssueBuilder().setMessage("Added later").build());
+            assertThat(report.size()).isEqualTo(expected.size() + 1);
+        }
+    }
+
+    @Test
+    void shouldStopReadingRunsWhenStreamIsClosed() throws IOException {
+        try (SpillingReport report = new SpillingReport(BUDGET)) {
+            report.addAll(ReportFixture.createReport(BUDGET * 3));
+
+            try (Stream<Issue> issues = report.stream()) {
+                assertThat(issues.limit(5)).hasSize(5);
+            }
+            assertThat(report.size()).isEqualTo(BUDGET * 3);
+        }
+    }
+
+    @Test
+    void shouldRemoveIssuesWhenClosed() throws IOException {
+        SpillingReport report = new SpillingReport(BUDGET);
+        report.addAll(ReportFixture.createReport(BUDGET * 2));
+
+        report.close();
+
+        assertThat(report.isEmpty()).isTrue();
+        assertThat(report.isSpilled()).isFalse();
+        assertThat(report.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidBudget() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SpillingReport(0));
+    }
+
+    @Test
+    void shouldParseIssuesIntoSpillingReport() throws IOException {
+        StringBuilder log = new StringBuilder();
+        for (int i = 0; i < BUDGET * 5; i++) {
+            log.append("File-").append(i % 7).append(".java:").append(i % (BUDGET * 2)).append(": Warning\n");
+        }
+        ReaderFactory readerFactory = createReaderFactory(log.toString());
+        LookaheadParser parser = new LineParser();
+
+        try (SpillingReport report = new SpillingReport(BUDGET)) {
+            parser.parse(readerFactory, report);
+
+            Report expected = parser.parse(readerFactory);
+            assertThat(report.isSpilled()).isTrue();
+            assertThat(report.size()).isEqualTo(expected.size());
+            assertThat(report.getDuplicatesSize()).isEqualTo(expected.getDuplicatesSize());
+            assertThat(report.stream()).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void shouldPostProcessIssuesOfParser() throws IOException {
+        ReaderFactory readerFactory = createReaderFactory("File.java:1: Warning\nFile.java:2: Warning\n");
+        LookaheadParser parser = new LineParser() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected Report postProcess(final Report report) {
+                return report.filter(issue -> issue.getLineStart() > 1);
+            }
+        };
+
+        try (SpillingReport report = new SpillingReport(1)) {
+            parser.parse(readerFactory, report);
+
+            assertThat(report.size()).isEqualTo(1);
+            assertThat(report.stream()).extracting(Issue::getLineStart).containsExactly(2);
+        }
+    }
+
+    private ReaderFactory createReaderFactory(final String log) {
+        return new ReaderFactory(StandardCharsets.UTF_8) {
+            @Override
+            public String getFileName() {
+                return "console.log";
+            }
+
+            @Override
+            public Reader create() {
+                return new StringReader(log);
+            }
+        };
+    }
+
+    private Issue copy(final Issue issue) {
+        return new IssueBuilder().copy(issue).setId(UUID.randomUUID()).build();
+    }
+
+    /** Parses lines of the form {@code file:line: message}. */
+    private static class LineParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        LineParser() {
+            super("^(.*):(\\d+): (.*)$");
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            return builder.setFileName(matcher.group(1))
+                    .setLineStart(matcher.group(2))
+                    .setMessage(matcher.group(3))
+                    .buildOptional();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link TextEntry}.
+ *
+ * @author Ullrich Hafner
+ */
+class TextEntryTest {
+    private static final String PACKAGE_NAME = "edu.hm.hafner.analysis";
+    private static final String MESSAGE = "Unused local variable 'value'";
+    private static final InterningPool POOL = InterningPool.getShared();
+
+    @Test
+    void shouldMapTextsToSameEntry() {
+        TextEntry entry = POOL.internText(PACKAGE_NAME);
+
+        assertThat(POOL.internText(new String(PACKAGE_NAME))).isSameAs(entry);
+        assertThat(entry.getName()).isEqualTo(PACKAGE_NAME);
+        assertThat(entry).hasToString(PACKAGE_NAME);
+        assertThat(entry.getTreeString()).isSameAs(POOL.internTreeString(PACKAGE_NAME));
+        assertThat(POOL.internText("edu.hm.hafner.util")).isNotEqualTo(entry);
+    }
+
+    @Test
+    void shouldSharePrefixesOfPackageNames() {
+        TextEntry entry = POOL.internText(PACKAGE_NAME);
+        TextEntry sibling = POOL.internText("edu.hm.hafner.util");
+
+        assertThat(sibling.getParent()).isSameAs(entry.getParent()).isSameAs(POOL.internText("edu.hm.hafner."));
+        assertThat(entry.getParent().getParent()).isSameAs(POOL.internText("edu.hm."));
+        assertThat(POOL.internText("edu.").getParent()).isNull();
+        assertThat(POOL.internText("edu").getParent()).isNull();
+
+        assertThat(entry.hasName(PACKAGE_NAME)).isTrue();
+        assertThat(entry.hasName("hm.hafner.analysis")).isFalse();
+        assertThat(entry.hasName("." + PACKAGE_NAME)).isFalse();
+        assertThat(entry).hasSameHashCodeAs(PACKAGE_NAME);
+    }
+
+    @Test
+    void shouldSharePrefixesOfMessages() {
+        TextEntry entry = POOL.internText(MESSAGE);
+        TextEntry sibling = POOL.internText("Unused local variable 'other'");
+
+        assertThat(sibling.getParent()).isSameAs(entry.getParent())
+                .isSameAs(POOL.internText("Unused local variable '"));
+        assertThat(entry.getParent().getParent()).isNull();
+        assertThat(entry.getName()).isEqualTo(MESSAGE);
+        assertThat(sibling.getName()).isEqualTo("Unused local variable 'other'");
+    }
+
+    @Test
+    void shouldNotSplitTextsWithTooManySeparators() {
+        String dots = "Dots: .................................";
+        TextEntry entry = POOL.internText(dots);
+
+        assertThat(entry.getParent()).isNull();
+        assertThat(entry.getName()).isEqualTo(dots);
+    }
+
+    @Test
+    void shouldCompareEntriesWithDifferentParents() {
+        TextEntry entry = POOL.internText(PACKAGE_NAME);
+        TextEntry flat = new TextEntry(null, PACKAGE_NAME, PACKAGE_NAME.hashCode());
+
+        assertThat(flat).isEqualTo(entry).hasSameHashCodeAs(entry);
+        assertThat(entry).isEqualTo(flat);
+        assertThat(new TextEntry(null, "edu.hm.hafner.util", PACKAGE_NAME.hashCode())).isNotEqualTo(entry);
+    }
+
+    @Test
+    void shouldResolveSharedEntryAfterDeserialization() throws IOException, ClassNotFoundException {
+        TextEntry entry = POOL.internText(MESSAGE);
+
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(serialized)) {
+            output.writeObject(entry);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized.toByteArray()))) {
+            assertThat(input.readObject()).isSameAs(entry);
+        }
+    }
+
+    @Test
+    void shouldShareEntryBetweenIssues() {
+        IssueBuilder builder = new IssueBuilder().setPackageName(PACKAGE_NAME).setMessage(MESSAGE);
+        Issue issue = builder.setLineStart(1).build();
+        Issue other = builder.setLineStart(2).build();
+
+        assertThat(other.getPackageNameEntry()).isSameAs(issue.getPackageNameEntry());
+        assertThat(other.getMessageEntry()).isSameAs(issue.getMessageEntry());
+        assertThat(issue).hasPackageName(PACKAGE_NAME).hasMessage(MESSAGE);
+    }
+}
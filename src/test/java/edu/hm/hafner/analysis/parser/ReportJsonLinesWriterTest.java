@@ -0,0 +1,52 @@
+package edu.hm.hafner.analysis.parser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.parser.ReportJsonWriterTest.BytesReaderFactory;
+import edu.hm.hafner.util.ResourceTest;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+import static edu.hm.hafner.analysis.parser.ReportJsonWriterTest.*;
+
+/**
+ * Tests the class {@link ReportJsonLinesWriter}.
+ *
+ * @author Ullrich Hafner
+ */
+class ReportJsonLinesWriterTest extends ResourceTest {
+    @Test
+    void shouldWriteIssuesThatCanBeParsedAgain() throws IOException {
+        Report report = new JsonLogParser().parse(
+                new FileReaderFactory(getResourceAsFile("json-issues.log"), StandardCharsets.UTF_8));
+
+        Report parsed = writeAndParse(report);
+
+        assertThatReportsAreEqual(parsed, report);
+    }
+
+    @Test
+    void shouldWriteOneIssuePerLine() throws IOException {
+        Report report = createReportWithSpecialCharacters();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ReportJsonLinesWriter().write(report, output);
+
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n")).hasSize(report.size());
+        assertThatReportsAreEqual(writeAndParse(report), report);
+    }
+
+    private Report writeAndParse(final Report report) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ReportJsonLinesWriter().write(report, output);
+
+        Report parsed = new JsonLogParser().parse(new BytesReaderFactory(output.toByteArray(), "report.log"));
+        assertThat(parsed.getErrorMessages()).isEmpty();
+        return parsed;
+    }
+}
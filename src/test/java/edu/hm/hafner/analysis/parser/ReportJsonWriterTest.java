@@ -0,0 +1,123 @@
+package edu.hm.hafner.analysis.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.LineRange;
+import edu.hm.hafner.analysis.LineRangeList;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.util.ResourceTest;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ReportJsonWriter}.
+ *
+ * @author Ullrich Hafner
+ */
+class ReportJsonWriterTest extends ResourceTest {
+    @Test
+    void shouldWriteIssuesThatCanBeParsedAgain() throws IOException {
+        Report report = new JsonParser().parse(
+                new FileReaderFactory(getResourceAsFile("issues.json"), StandardCharsets.UTF_8));
+
+        Report parsed = writeAndParse(report);
+
+        assertThatReportsAreEqual(parsed, report);
+    }
+
+    @Test
+    void shouldWriteSpecialCharacters() throws IOException {
+        Report report = createReportWithSpecialCharacters();
+
+        Report parsed = writeAndParse(report);
+
+        assertThatReportsAreEqual(parsed, report);
+    }
+
+    @Test
+    void shouldWriteEmptyReport() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ReportJsonWriter().write(new Report(), output);
+
+        assertThat(new JsonParser().parse(new BytesReaderFactory(output.toByteArray(), "empty.json"))).isEmpty();
+    }
+
+    private Report writeAndParse(final Report report) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ReportJsonWriter().write(report, output);
+
+        return new JsonParser().parse(new BytesReaderFactory(output.toByteArray(), "report.json"));
+    }
+
+    static Report createReportWithSpecialCharacters() {
+        LineRangeList lineRanges = new LineRangeList();
+        lineRanges.add(new LineRange(5, 6));
+        lineRanges.add(new LineRange(9));
+
+        Report report = new Report();
+        report.add(new IssueBuilder()
+                .setFileName("/path/with blanks/and\\backslashes.txt")
+                .setLineStart(3).setLineEnd(4).setColumnStart(5).setColumnEnd(6)
+                .setLineRanges(lineRanges)
+                .setCategory("Category \"quoted\"")
+                .setType("Type")
+                .setPackageName("edu.hm.hafner")
+                .setModuleName("module")
+                .setSeverity(new Severity("CUSTOM"))
+                .setMessage("Line 1\nLine 2\t<tag/> \\ </script>")
+                .setDescription("<p>Description</p>\r\n")
+                .setOrigin("origin")
+                .setReference("42")
+                .setFingerprint("fingerprint")
+                .setAdditionalProperties("additional")
+                .build());
+        report.add(new IssueBuilder().build());
+        return report;
+    }
+
+    static void assertThatReportsAreEqual(final Report actual, final Report expected) {
+        assertThat(actual).isEqualTo(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            Issue expectedIssue = expected.get(i);
+            assertThat(actual.get(i))
+                    .hasId(expectedIssue.getId())
+                    .hasReference(expectedIssue.getReference())
+                    .hasFingerprint(expectedIssue.getFingerprint());
+        }
+    }
+
+    /** A reader factory that provides the content of a byte array. */
+    static class BytesReaderFactory extends ReaderFactory {
+        private final byte[] content;
+        private final String fileName;
+
+        BytesReaderFactory(final byte[] content, final String fileName) {
+            super(StandardCharsets.UTF_8);
+
+            this.content = content;
+            this.fileName = fileName;
+        }
+
+        @Override
+        public String getFileName() {
+            return fileName;
+        }
+
+        @Override
+        public Reader create() {
+            return new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -35,6 +35,21 @@ class LookaheadStreamTest extends ResourceTest {
         }
     }
 
+    @Test
+    void shouldCountLinesAfterPrecedingLines() {
+        try (LookaheadStream stream = new LookaheadStream(
+                getTextLinesAsStream("First Line\nSecond Line"), "file", 10)) {
+            assertThat(stream.getLine()).isEqualTo(10);
+            assertThat(stream.next()).isEqualTo(FIRST_LINE);
+            assertThat(stream.getLine()).isEqualTo(11);
+            assertThat(stream.peekNext()).isEqualTo("Second Line");
+            assertThat(stream.getLine()).isEqualTo(11);
+            assertThat(stream.next()).isEqualTo("Second Line");
+            assertThat(stream.getLine()).isEqualTo(12);
+            assertThat(stream.getFileName()).isEqualTo("file");
+        }
+    }
+
     @Test
     void shouldReturnMultipleLines() {
         try (LookaheadStream stream = new LookaheadStream(getTextLinesAsStream("First Line\nSecond Line"))) {